@@ -63,6 +63,13 @@ public class CoreServicesExtension implements ServiceExtension {
     public static final String EDC_HOSTNAME = "edc.hostname";
     @Setting(value = "The name of the claim key used to determine the participant identity", defaultValue = DEFAULT_IDENTITY_CLAIM_KEY)
     public static final String EDC_AGENT_IDENTITY_KEY = "edc.agent.identity.key";
+    private static final int DEFAULT_SCOPED_POLICY_CACHE_SIZE = 0;
+    @Setting(value = "Maximum number of scope-filtered policies cached by the policy engine, 0 disables the cache. Enable only if rule bindings do not change at runtime", type = "int", defaultValue = DEFAULT_SCOPED_POLICY_CACHE_SIZE + "")
+    public static final String EDC_POLICY_ENGINE_SCOPED_POLICY_CACHE_SIZE = "edc.policy.engine.scoped-policy.cache.size";
+    @Setting(value = "Maximum number of events waiting to be delivered in order to every asynchronous event subscriber, further events are dropped. 0 delivers every event concurrently without limit", type = "int", defaultValue = EventRouterImpl.DEFAULT_QUEUE_CAPACITY + "")
+    public static final String EDC_EVENTS_ASYNC_QUEUE_CAPACITY = "edc.events.async.queue.capacity";
+    @Setting(value = "Maximum number of events delivered to an asynchronous event subscriber in a single executor task, when the queue capacity is set", type = "int", defaultValue = EventRouterImpl.DEFAULT_BATCH_SIZE + "")
+    public static final String EDC_EVENTS_ASYNC_BATCH_SIZE = "edc.events.async.batch-size";
     @Inject
     private EventExecutorServiceContainer eventExecutorServiceContainer;
 
@@ -136,15 +143,18 @@ public class CoreServicesExtension implements ServiceExtension {
     }
 
     @Provider
-    public PolicyEngine policyEngine() {
+    public PolicyEngine policyEngine(ServiceExtensionContext context) {
         var scopeFilter = new ScopeFilter(ruleBindingRegistry);
         var ruleValidator = new RuleValidator(ruleBindingRegistry);
-        return new PolicyEngineImpl(scopeFilter, ruleValidator);
+        var scopedPolicyCacheSize = context.getSetting(EDC_POLICY_ENGINE_SCOPED_POLICY_CACHE_SIZE, DEFAULT_SCOPED_POLICY_CACHE_SIZE);
+        return new PolicyEngineImpl(scopeFilter, ruleValidator, scopedPolicyCacheSize);
     }
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService());
+        var queueCapacity = context.getSetting(EDC_EVENTS_ASYNC_QUEUE_CAPACITY, EventRouterImpl.DEFAULT_QUEUE_CAPACITY);
+        var batchSize = context.getSetting(EDC_EVENTS_ASYNC_BATCH_SIZE, EventRouterImpl.DEFAULT_BATCH_SIZE);
+        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService(), queueCapacity, batchSize);
     }
 
     @Provider
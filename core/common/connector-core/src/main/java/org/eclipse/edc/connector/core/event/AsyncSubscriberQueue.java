@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.event;
+
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Delivers the events of an asynchronous {@link EventSubscriber} on the executor. Publishers are never blocked.
+ * <p>
+ * Without a capacity every event is delivered by its own task, concurrently with the others, so a slow delivery does
+ * not hold the following ones. With a capacity the events are buffered in a bounded queue and delivered in batches by
+ * a single task at a time, so the delivery order is preserved and a slow subscriber occupies at most one thread; when
+ * the queue is full the event is dropped.
+ */
+class AsyncSubscriberQueue {
+
+    private final EventSubscriber subscriber;
+    private final BlockingQueue<Pending> queue;
+    private final ExecutorService executor;
+    private final Monitor monitor;
+    private final int batchSize;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    /**
+     * Creates the queue.
+     *
+     * @param capacity  max number of events waiting to be delivered in order, 0 to deliver every event concurrently
+     *                  without limit.
+     * @param batchSize max number of events delivered by a single task, when bounded.
+     */
+    AsyncSubscriberQueue(EventSubscriber subscriber, ExecutorService executor, Monitor monitor, int capacity, int batchSize) {
+        this.subscriber = subscriber;
+        this.queue = capacity > 0 ? new ArrayBlockingQueue<>(capacity) : null;
+        this.executor = executor;
+        this.monitor = monitor;
+        this.batchSize = batchSize;
+    }
+
+    void enqueue(EventEnvelope<?> event) {
+        var pending = new Pending(event, System.nanoTime());
+        if (queue == null) {
+            scheduled.incrementAndGet();
+            if (!execute(() -> {
+                scheduled.decrementAndGet();
+                deliver(pending);
+            })) {
+                scheduled.decrementAndGet();
+                dropped.incrementAndGet();
+            }
+            return;
+        }
+
+        if (!queue.offer(pending)) {
+            dropped.incrementAndGet();
+            monitor.warning(format("Event queue of subscriber %s is full, event %s has been dropped", subscriberName(), eventName(event)));
+            return;
+        }
+        scheduleDrain();
+    }
+
+    EventRouterImpl.SubscriberQueueMetrics metrics() {
+        var deliveredCount = delivered.get();
+        var averageLatency = deliveredCount == 0 ? 0 : totalLatencyNanos.get() / deliveredCount;
+        var depth = queue == null ? scheduled.get() : queue.size();
+        return new EventRouterImpl.SubscriberQueueMetrics(subscriberName(), depth, deliveredCount, dropped.get(),
+                TimeUnit.NANOSECONDS.toMillis(averageLatency), TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get()));
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true) && !execute(this::drain)) {
+            draining.set(false);
+        }
+    }
+
+    private boolean execute(Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            monitor.severe(format("Cannot deliver events to subscriber %s", subscriberName()), e);
+            return false;
+        }
+    }
+
+    private void drain() {
+        var batch = new ArrayList<Pending>(batchSize);
+        queue.drainTo(batch, batchSize);
+        batch.forEach(this::deliver);
+
+        draining.set(false);
+        // events enqueued while the batch was being delivered could not schedule another drain
+        if (!queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private void deliver(Pending pending) {
+        try {
+            subscriber.on(pending.event());
+        } catch (Throwable throwable) {
+            monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName(), eventName(pending.event())), throwable);
+        }
+        var latency = System.nanoTime() - pending.enqueuedAt();
+        delivered.incrementAndGet();
+        totalLatencyNanos.addAndGet(latency);
+        maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+
+    private String subscriberName() {
+        return subscriber.getClass().getSimpleName();
+    }
+
+    private String eventName(EventEnvelope<?> event) {
+        return event.getPayload().getClass().getSimpleName();
+    }
+
+    private record Pending(EventEnvelope<?> event, long enqueuedAt) {
+    }
+}
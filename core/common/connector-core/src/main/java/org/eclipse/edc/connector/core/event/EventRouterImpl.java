@@ -22,66 +22,119 @@ import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
-
-import static java.lang.String.format;
-import static java.util.concurrent.CompletableFuture.runAsync;
 
+/**
+ * Default {@link EventRouter}.
+ * <p>
+ * The subscribers of every concrete event class are resolved once and cached until a new subscriber is registered.
+ * Asynchronous subscribers get their events through an {@link AsyncSubscriberQueue} each. By default every event is
+ * delivered concurrently; with a queue capacity the events of a subscriber are delivered in order through a bounded
+ * queue, and dropped when it is full. Publishing never blocks.
+ */
 public class EventRouterImpl implements EventRouter {
 
-    private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
+    public static final int DEFAULT_QUEUE_CAPACITY = 0;
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    private final Map<Class<?>, List<AsyncSubscriberQueue>> subscribers = new ConcurrentHashMap<>();
     private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
+    private final Map<EventSubscriber, AsyncSubscriberQueue> queues = new IdentityHashMap<>();
+    private final Map<Class<?>, Dispatch> dispatches = new ConcurrentHashMap<>();
 
     private final Monitor monitor;
     private final ExecutorService executor;
+    private final int queueCapacity;
+    private final int batchSize;
 
     public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+        this(monitor, executor, DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates the router.
+     *
+     * @param queueCapacity max number of events waiting for every asynchronous subscriber, 0 to deliver every event
+     *                      concurrently without limit.
+     * @param batchSize     max number of events delivered to a subscriber by a single executor task, when the queue is
+     *                      bounded.
+     */
+    public EventRouterImpl(Monitor monitor, ExecutorService executor, int queueCapacity, int batchSize) {
         this.monitor = monitor;
         this.executor = executor;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
     }
 
     @Override
-    public <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
+    public synchronized <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
         syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        dispatches.clear();
     }
 
     @Override
-    public <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
-        subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+    public synchronized <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
+        var queue = queues.computeIfAbsent(subscriber, s -> new AsyncSubscriberQueue(s, executor, monitor, queueCapacity, batchSize));
+        subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(queue);
+        dispatches.clear();
     }
-    
+
     @Override
     public <E extends Event> void publish(EventEnvelope<E> event) {
-        subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
-
-        subscriberFor(event, this::getSubscribers)
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
-                    if (throwable != null) {
-                        var subscriberName = subscriber.getClass().getSimpleName();
-                        var eventName = event.getClass().getSimpleName();
-                        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
-                    }
-                }));
+        var eventClass = event.getPayload().getClass();
+        var dispatch = dispatches.get(eventClass);
+        if (dispatch == null) {
+            dispatch = resolve(eventClass);
+        }
+
+        for (var subscriber : dispatch.syncSubscribers()) {
+            subscriber.on(event);
+        }
+        for (var queue : dispatch.queues()) {
+            queue.enqueue(event);
+        }
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
-        return subscribers;
+    /**
+     * Returns the current state of the queues of the asynchronous subscribers.
+     *
+     * @return the metrics, one for every asynchronous subscriber.
+     */
+    public synchronized List<SubscriberQueueMetrics> queueMetrics() {
+        return queues.values().stream().map(AsyncSubscriberQueue::metrics).toList();
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSyncSubscribers() {
-        return syncSubscribers;
+    // resolution and registration are mutually exclusive, so a dispatch is never cached after it has been invalidated
+    private synchronized Dispatch resolve(Class<?> eventClass) {
+        return dispatches.computeIfAbsent(eventClass, c -> new Dispatch(subscribersFor(c, syncSubscribers), subscribersFor(c, subscribers)));
     }
 
-    private <E extends Event> Stream<EventSubscriber> subscriberFor(EventEnvelope<E> envelope, Supplier<Map<Class<?>, List<EventSubscriber>>> supplier) {
-        return supplier.get().entrySet()
+    private <T> List<T> subscribersFor(Class<?> eventClass, Map<Class<?>, List<T>> registered) {
+        return registered.entrySet()
                 .stream()
-                .filter(entry -> entry.getKey().isAssignableFrom(envelope.getPayload().getClass()))
-                .flatMap(entry -> entry.getValue().stream());
+                .filter(entry -> entry.getKey().isAssignableFrom(eventClass))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList();
+    }
+
+    /**
+     * Current state of the queue of an asynchronous subscriber.
+     *
+     * @param subscriber the subscriber name.
+     * @param depth the number of events waiting to be delivered.
+     * @param delivered the number of delivered events.
+     * @param dropped the number of events dropped because the queue was full or the executor rejected them.
+     * @param averageLatencyMillis the average time between the publication of an event and the end of its delivery.
+     * @param maxLatencyMillis the max time between the publication of an event and the end of its delivery.
+     */
+    public record SubscriberQueueMetrics(String subscriber, int depth, long delivered, long dropped,
+                                         long averageLatencyMillis, long maxLatencyMillis) {
+    }
+
+    private record Dispatch(List<EventSubscriber> syncSubscribers, List<AsyncSubscriberQueue> queues) {
     }
 }
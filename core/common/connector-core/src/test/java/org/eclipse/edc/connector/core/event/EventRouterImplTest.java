@@ -21,15 +21,22 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -149,6 +156,106 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldPublishToSubscriberRegisteredAfterFirstPublication() {
+        var subscriberA = mock(EventSubscriber.class);
+        var subscriberB = mock(EventSubscriber.class);
+        eventRouter.registerSync(TestEvent.class, subscriberA);
+        var event = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+        eventRouter.publish(event);
+
+        eventRouter.registerSync(Event.class, subscriberB);
+        eventRouter.publish(event);
+
+        verify(subscriberA, times(2)).on(eq(event));
+        verify(subscriberB).on(eq(event));
+    }
+
+    @Test
+    void shouldDeliverAsyncEventsInOrder_whenQueueIsBounded() {
+        var received = Collections.synchronizedList(new ArrayList<Integer>());
+        var router = new EventRouterImpl(monitor, Executors.newFixedThreadPool(4), 100, 3);
+        router.register(TestEvent.class, new EventSubscriber() {
+            @Override
+            public <E extends Event> void on(EventEnvelope<E> event) {
+                received.add(Integer.parseInt(event.getId()));
+            }
+        });
+
+        IntStream.range(0, 50).forEach(i -> router.publish(EventEnvelope.Builder.newInstance()
+                .id(String.valueOf(i))
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build()));
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(received).hasSize(50).isSorted());
+    }
+
+    @Test
+    void shouldDropEvents_whenBoundedQueueIsFull() {
+        var latch = new CountDownLatch(1);
+        var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), 2, 1);
+        var subscriber = new EventSubscriber() {
+            @Override
+            public <E extends Event> void on(EventEnvelope<E> event) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        router.register(TestEvent.class, subscriber);
+        var event = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+
+        router.publish(event);
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(router.queueMetrics().get(0).depth()).isZero());
+        IntStream.range(0, 5).forEach(i -> router.publish(event));
+
+        assertThat(router.queueMetrics()).singleElement().satisfies(metrics -> {
+            assertThat(metrics.depth()).isEqualTo(2);
+            assertThat(metrics.dropped()).isEqualTo(3);
+        });
+        verify(monitor, times(3)).warning(anyString());
+
+        latch.countDown();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(router.queueMetrics().get(0).delivered()).isEqualTo(3));
+    }
+
+    @Test
+    void shouldDeliverAsyncEventsConcurrently_whenQueueIsUnbounded() {
+        var latch = new CountDownLatch(1);
+        var received = Collections.synchronizedList(new ArrayList<String>());
+        var router = new EventRouterImpl(monitor, Executors.newFixedThreadPool(2));
+        router.register(TestEvent.class, new EventSubscriber() {
+            @Override
+            public <E extends Event> void on(EventEnvelope<E> event) {
+                if (event.getId().equals("slow")) {
+                    try {
+                        latch.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                received.add(event.getId());
+            }
+        });
+
+        router.publish(EventEnvelope.Builder.newInstance().id("slow").at(clock.millis()).payload(TestEvent.Builder.newInstance().build()).build());
+        router.publish(EventEnvelope.Builder.newInstance().id("fast").at(clock.millis()).payload(TestEvent.Builder.newInstance().build()).build());
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(received).containsExactly("fast"));
+        latch.countDown();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(received).containsExactly("fast", "slow"));
+        assertThat(router.queueMetrics()).singleElement().satisfies(metrics -> assertThat(metrics.dropped()).isZero());
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
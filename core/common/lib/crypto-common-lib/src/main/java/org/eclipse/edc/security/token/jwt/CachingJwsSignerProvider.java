@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.security.token.jwt;
+
+import com.nimbusds.jose.JWSSigner;
+import org.eclipse.edc.jwt.signer.spi.JwsSignerProvider;
+import org.eclipse.edc.spi.result.Result;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link JwsSignerProvider} that keeps the {@link JWSSigner} created by another provider per private key alias, so that
+ * resolving the private key from the vault, parsing it and creating the signer happens once per alias rather than once
+ * per token. {@link JWSSigner} instances are thread-safe, so they can be shared across concurrent requests.
+ * <p>
+ * An entry expires after the configured validity. The vault does not emit change notifications, so a key that gets
+ * rotated or removed keeps being used for signing until then. Failures are never cached.
+ */
+public class CachingJwsSignerProvider implements JwsSignerProvider {
+
+    private final JwsSignerProvider delegate;
+    private final Clock clock;
+    private final long validityMillis;
+    private final Map<String, CachedSigner> signers = new ConcurrentHashMap<>();
+
+    public CachingJwsSignerProvider(JwsSignerProvider delegate, Clock clock, long validityMillis) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.validityMillis = validityMillis;
+    }
+
+    @Override
+    public Result<JWSSigner> createJwsSigner(String privateKeyId) {
+        var now = clock.millis();
+        var cached = signers.get(privateKeyId);
+        if (cached != null && cached.expiresAt() > now) {
+            return Result.success(cached.signer());
+        }
+
+        var result = delegate.createJwsSigner(privateKeyId);
+        if (result.succeeded()) {
+            signers.put(privateKeyId, new CachedSigner(result.getContent(), now + validityMillis));
+        } else {
+            signers.remove(privateKeyId);
+        }
+        return result;
+    }
+
+    private record CachedSigner(JWSSigner signer, long expiresAt) {
+    }
+}
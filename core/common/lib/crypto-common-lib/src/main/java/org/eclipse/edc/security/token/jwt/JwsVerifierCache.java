@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.security.token.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Keeps ready-to-use {@link JWSVerifier} instances, so that verifying signatures made with the same key doesn't
+ * re-create the verifier, and the key reconstruction it involves, every time. Nimbus verifiers are thread-safe, so a
+ * cached instance can be used concurrently.
+ * <p>
+ * Verifiers are keyed by key ID and a hash of the key material, so a rotated key that keeps its ID results in a new
+ * verifier. Hits and misses are counted, to observe the effectiveness of the cache.
+ */
+public class JwsVerifierCache {
+
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private final ConcurrentLruCache<String, JWSVerifier> verifiers;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public JwsVerifierCache(int cacheSize) {
+        verifiers = new ConcurrentLruCache<>(cacheSize);
+    }
+
+    /**
+     * Gets the verifier for the given public key, creating it with {@link CryptoConverter#createVerifierFor(PublicKey)} if
+     * it is not cached.
+     *
+     * @param keyId     the ID of the key, if known
+     * @param publicKey the public key
+     * @return the verifier
+     */
+    public JWSVerifier getVerifier(@Nullable String keyId, PublicKey publicKey) {
+        var encoded = publicKey.getEncoded();
+        if (encoded == null) { // keys that can't be encoded can't be told apart
+            misses.increment();
+            return CryptoConverter.createVerifierFor(publicKey);
+        }
+        var cacheKey = keyId + "|" + publicKey.getAlgorithm() + "|" + hash(encoded);
+        return getVerifier(cacheKey, () -> CryptoConverter.createVerifierFor(publicKey));
+    }
+
+    /**
+     * Gets the verifier for the given JWK, creating it with {@link CryptoConverter#createVerifier(JWK)} if it is not cached.
+     *
+     * @param jwk the JWK
+     * @return the verifier
+     */
+    public JWSVerifier getVerifier(JWK jwk) {
+        try {
+            var cacheKey = jwk.getKeyID() + "|" + jwk.getKeyType() + "|" + jwk.computeThumbprint();
+            return getVerifier(cacheKey, () -> CryptoConverter.createVerifier(jwk));
+        } catch (JOSEException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Ratio of requests that were served from the cache, 0 if there were no requests yet.
+     */
+    public double getHitRate() {
+        var hitCount = hits.sum();
+        var total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private JWSVerifier getVerifier(String cacheKey, Supplier<JWSVerifier> factory) {
+        var verifier = verifiers.get(cacheKey);
+        if (verifier != null) {
+            hits.increment();
+            return verifier;
+        }
+
+        misses.increment();
+        verifier = factory.get();
+        verifiers.put(cacheKey, verifier);
+        return verifier;
+    }
+
+    private String hash(byte[] keyMaterial) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(keyMaterial));
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.security.token.jwt;
+
+import com.nimbusds.jose.JWSSigner;
+import org.eclipse.edc.jwt.signer.spi.JwsSignerProvider;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingJwsSignerProviderTest {
+
+    private static final long VALIDITY = 1000;
+    private static final Instant NOW = Instant.now();
+
+    private final JwsSignerProvider delegate = mock();
+    private final JWSSigner signer = mock();
+
+    @Test
+    void shouldReuseSigner_withinValidity() {
+        when(delegate.createJwsSigner("alias")).thenReturn(Result.success(signer));
+        var provider = providerAt(NOW);
+
+        var first = provider.createJwsSigner("alias");
+        var second = provider.createJwsSigner("alias");
+
+        assertThat(first.getContent()).isSameAs(signer);
+        assertThat(second.getContent()).isSameAs(signer);
+        verify(delegate, times(1)).createJwsSigner("alias");
+    }
+
+    @Test
+    void shouldCreateSignerAgain_whenExpired() {
+        when(delegate.createJwsSigner("alias")).thenReturn(Result.success(signer));
+        Clock clock = mock();
+        when(clock.millis()).thenReturn(NOW.toEpochMilli());
+        var provider = new CachingJwsSignerProvider(delegate, clock, VALIDITY);
+
+        provider.createJwsSigner("alias");
+        when(clock.millis()).thenReturn(NOW.plusMillis(VALIDITY).toEpochMilli());
+        provider.createJwsSigner("alias");
+
+        verify(delegate, times(2)).createJwsSigner("alias");
+    }
+
+    @Test
+    void shouldNotCacheFailure() {
+        when(delegate.createJwsSigner("alias")).thenReturn(Result.failure("not found"), Result.success(signer));
+        var provider = providerAt(NOW);
+
+        assertThat(provider.createJwsSigner("alias").failed()).isTrue();
+        assertThat(provider.createJwsSigner("alias").getContent()).isSameAs(signer);
+    }
+
+    private CachingJwsSignerProvider providerAt(Instant instant) {
+        return new CachingJwsSignerProvider(delegate, Clock.fixed(instant, ZoneId.systemDefault()), VALIDITY);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.security.token.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwsVerifierCacheTest {
+
+    private final JwsVerifierCache cache = new JwsVerifierCache(10);
+
+    @Test
+    void getVerifier_shouldReuseVerifier_forSameKey() throws JOSEException {
+        var key = new ECKeyGenerator(Curve.P_256).keyID("key-1").generate().toECPublicKey();
+
+        var first = cache.getVerifier("key-1", key);
+        var second = cache.getVerifier("key-1", key);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void getVerifier_shouldCreateNewVerifier_whenKeyMaterialChanges() throws JOSEException {
+        var key = new ECKeyGenerator(Curve.P_256).generate().toECPublicKey();
+        var rotatedKey = new ECKeyGenerator(Curve.P_256).generate().toECPublicKey();
+
+        var first = cache.getVerifier("key-1", key);
+        var second = cache.getVerifier("key-1", rotatedKey);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getVerifier_fromJwk_shouldReuseVerifier() throws JOSEException {
+        var jwk = new ECKeyGenerator(Curve.P_256).keyID("key-1").generate().toPublicJWK();
+
+        var first = cache.getVerifier(jwk);
+        var second = cache.getVerifier(jwk);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getHitRate_shouldBeZero_whenNotUsed() {
+        assertThat(cache.getHitRate()).isZero();
+    }
+}
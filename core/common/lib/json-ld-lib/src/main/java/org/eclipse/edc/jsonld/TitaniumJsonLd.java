@@ -16,6 +16,7 @@ package org.eclipse.edc.jsonld;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.context.cache.Cache;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.loader.DocumentLoader;
@@ -42,27 +43,38 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static jakarta.json.Json.createArrayBuilder;
-import static jakarta.json.Json.createBuilderFactory;
 import static jakarta.json.Json.createObjectBuilder;
-import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
 
 /**
  * Implementation of the {@link JsonLd} interface that uses the Titanium library for all JSON-LD operations.
+ * <p>
+ * Everything that only depends on the registered namespaces and contexts is computed once and reused across calls:
+ * the compaction context document of every scope, the set of known prefixes and the contexts with the injected
+ * {@code @vocab}. Remote context and document lookups done by Titanium are cached across calls as well, so documents
+ * that reference well-known contexts don't pay for loading and parsing them on every expansion.
  */
 public class TitaniumJsonLd implements JsonLd {
     private static final Map<String, String> EMPTY_NAMESPACES = Collections.emptyMap();
 
     private static final Set<String> EMPTY_CONTEXTS = Collections.emptySet();
 
+    private static final int MAX_CACHED_CONTEXTS = 1000;
+
     private final Monitor monitor;
     private final Map<String, Map<String, String>> scopedNamespaces = new HashMap<>();
     private final Map<String, Set<String>> scopedContexts = new HashMap<>();
+    private final Map<String, JsonDocument> compactionContexts = new ConcurrentHashMap<>();
+    private final Cache<JsonObject, JsonObject> vocabContexts = new BoundedCache<>(MAX_CACHED_CONTEXTS);
+    private final Cache<String, JsonValue> contextCache = new BoundedCache<>(MAX_CACHED_CONTEXTS);
+    private final Cache<String, Document> documentCache = new BoundedCache<>(MAX_CACHED_CONTEXTS);
     private final CachedDocumentLoader documentLoader;
+    private volatile Set<String> allPrefixes;
 
     private final JsonObjectValidator validator;
 
@@ -88,7 +100,7 @@ public class TitaniumJsonLd implements JsonLd {
         try {
             var document = JsonDocument.of(injectVocab(json));
             var expanded = com.apicatalog.jsonld.JsonLd.expand(document)
-                    .options(new JsonLdOptions(documentLoader))
+                    .options(options())
                     .get();
             if (!expanded.isEmpty()) {
                 var object = expanded.getJsonObject(0);
@@ -111,12 +123,9 @@ public class TitaniumJsonLd implements JsonLd {
     public Result<JsonObject> compact(JsonObject json, String scope) {
         try {
             var document = JsonDocument.of(json);
-            var jsonFactory = createBuilderFactory(Map.of());
-            var contextDocument = JsonDocument.of(jsonFactory.createObjectBuilder()
-                    .add(JsonLdKeywords.CONTEXT, createContext(scope))
-                    .build());
+            var contextDocument = compactionContexts.computeIfAbsent(scope, this::createContextDocument);
             var compacted = com.apicatalog.jsonld.JsonLd.compact(document, contextDocument)
-                    .options(new JsonLdOptions(documentLoader))
+                    .options(options())
                     .get();
             return Result.success(compacted);
         } catch (JsonLdError e) {
@@ -133,12 +142,15 @@ public class TitaniumJsonLd implements JsonLd {
         }
         var namespaces = scopedNamespaces.computeIfAbsent(scope, k -> new LinkedHashMap<>());
         namespaces.put(prefix, contextIri);
+        compactionContexts.clear();
+        allPrefixes = null;
     }
 
     @Override
     public void registerContext(String contextIri, String scope) {
         var contexts = scopedContexts.computeIfAbsent(scope, k -> new LinkedHashSet<>());
         contexts.add(contextIri);
+        compactionContexts.clear();
     }
 
     @Override
@@ -146,21 +158,35 @@ public class TitaniumJsonLd implements JsonLd {
         documentLoader.register(contextUrl, uri);
     }
 
-    private JsonObject injectVocab(JsonObject json) {
-        var jsonObjectBuilder = createObjectBuilder(json);
+    /**
+     * Every call gets its own options, as Titanium could modify them, but all of them share the same caches.
+     */
+    private JsonLdOptions options() {
+        var options = new JsonLdOptions(documentLoader);
+        options.setContextCache(contextCache);
+        options.setDocumentCache(documentCache);
+        return options;
+    }
 
+    private JsonObject injectVocab(JsonObject json) {
         //only inject the vocab if the @context is an object, not a URL
-        if (json.get(JsonLdKeywords.CONTEXT) instanceof JsonObject) {
-            var contextObject = ofNullable(json.getJsonObject(JsonLdKeywords.CONTEXT)).orElseGet(() -> createObjectBuilder().build());
-            var contextBuilder = createObjectBuilder(contextObject);
-            if (!contextObject.containsKey(VOCAB)) {
-                var newContextObject = contextBuilder
+        if (json.get(JsonLdKeywords.CONTEXT) instanceof JsonObject contextObject && !contextObject.containsKey(VOCAB)) {
+            var newContextObject = vocabContexts.get(contextObject);
+            if (newContextObject == null) {
+                newContextObject = createObjectBuilder(contextObject)
                         .add(VOCAB, CoreConstants.EDC_NAMESPACE)
                         .build();
-                jsonObjectBuilder.add(JsonLdKeywords.CONTEXT, newContextObject);
+                vocabContexts.put(contextObject, newContextObject);
             }
+            return createObjectBuilder(json).add(JsonLdKeywords.CONTEXT, newContextObject).build();
         }
-        return jsonObjectBuilder.build();
+        return json;
+    }
+
+    private JsonDocument createContextDocument(String scope) {
+        return JsonDocument.of(createObjectBuilder()
+                .add(JsonLdKeywords.CONTEXT, createContext(scope))
+                .build());
     }
 
     private JsonValue createContext(String scope) {
@@ -199,10 +225,47 @@ public class TitaniumJsonLd implements JsonLd {
     }
 
     private Set<String> getAllPrefixes() {
-        return scopedNamespaces.values().stream()
-                .flatMap(v -> v.entrySet().stream())
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toSet());
+        var prefixes = allPrefixes;
+        if (prefixes == null) {
+            prefixes = scopedNamespaces.values().stream()
+                    .flatMap(v -> v.entrySet().stream())
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toUnmodifiableSet());
+            allPrefixes = prefixes;
+        }
+        return prefixes;
+    }
+
+    /**
+     * Thread-safe {@link Cache} that is cleared when it reaches its maximum size, as the entries are expected to be a
+     * small and stable set, eviction is only a safety net against unbounded growth.
+     */
+    private static class BoundedCache<K, V> implements Cache<K, V> {
+
+        private final Map<K, V> entries = new ConcurrentHashMap<>();
+        private final int maxSize;
+
+        BoundedCache(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public boolean containsKey(K key) {
+            return entries.containsKey(key);
+        }
+
+        @Override
+        public V get(K key) {
+            return entries.get(key);
+        }
+
+        @Override
+        public void put(K key, V value) {
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+            entries.put(key, value);
+        }
     }
 
     private static class CachedDocumentLoader implements DocumentLoader {
@@ -199,6 +199,22 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void compact_shouldUseNamespaceRegisteredAfterPreviousCompaction() {
+        var expanded = Json.createObjectBuilder()
+                .add(EDC_NAMESPACE + "item", "test")
+                .build();
+        var jsonLd = defaultService();
+
+        assertThat(jsonLd.compact(expanded)).isSucceeded()
+                .satisfies(c -> Assertions.assertThat(c.getString(EDC_NAMESPACE + "item")).isEqualTo("test"));
+
+        jsonLd.registerNamespace("edc", EDC_NAMESPACE);
+
+        assertThat(jsonLd.compact(expanded)).isSucceeded()
+                .satisfies(c -> Assertions.assertThat(c.getString("edc:item")).isEqualTo("test"));
+    }
+
     @Test
     void expandAndCompact_withCustomContext() {
         var context = "http://schema.org/";
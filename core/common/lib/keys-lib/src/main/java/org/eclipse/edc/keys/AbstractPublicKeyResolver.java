@@ -33,7 +33,19 @@ public abstract class AbstractPublicKeyResolver implements PublicKeyResolver {
 
     @Override
     public Result<PublicKey> resolveKey(String id) {
-        var encodedKeyResult = resolveInternal(id);
+        return parseKey(id, resolveInternal(id));
+    }
+
+    protected abstract Result<String> resolveInternal(String id);
+
+    /**
+     * Parses the encoded key that was resolved for the given key-ID.
+     *
+     * @param id               the key-ID
+     * @param encodedKeyResult the result of the resolution of the encoded key
+     * @return the public key, or a failure if the resolution failed or the key could not be parsed
+     */
+    protected Result<PublicKey> parseKey(String id, Result<String> encodedKeyResult) {
         return encodedKeyResult
                 .compose(encodedKey ->
                         registry.parse(encodedKey).compose(pk -> {
@@ -42,9 +54,6 @@ public abstract class AbstractPublicKeyResolver implements PublicKeyResolver {
                             } else return Result.failure("The specified resource did not contain public key material.");
                         }))
                 .recover(f -> Result.failure("No public key could be resolved for key-ID '%s': %s".formatted(id, f.getFailureDetail())));
-
     }
 
-    protected abstract Result<String> resolveInternal(String id);
-
 }
@@ -25,6 +25,7 @@ import org.eclipse.edc.policy.engine.spi.PolicyValidatorRule;
 import org.eclipse.edc.policy.engine.spi.plan.PolicyEvaluationPlan;
 import org.eclipse.edc.policy.engine.validation.PolicyValidator;
 import org.eclipse.edc.policy.engine.validation.RuleValidator;
+import org.eclipse.edc.policy.evaluator.PolicyEvaluationResult;
 import org.eclipse.edc.policy.evaluator.PolicyEvaluator;
 import org.eclipse.edc.policy.evaluator.RuleProblem;
 import org.eclipse.edc.policy.model.Duty;
@@ -40,6 +41,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
@@ -62,12 +64,29 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final List<ValidatorRuleEntry<? extends PolicyContext>> preValidators = new ArrayList<>();
     private final List<ValidatorRuleEntry<? extends PolicyContext>> postValidators = new ArrayList<>();
 
+    private final Map<Class<?>, DispatchTable> dispatchTables = new ConcurrentHashMap<>();
+    private final Map<ScopedPolicyKey, Policy> scopedPolicies = new ConcurrentHashMap<>();
+    private final ThreadLocal<PolicyContext> evaluationContext = new ThreadLocal<>();
+
     private final ScopeFilter scopeFilter;
     private final RuleValidator ruleValidator;
+    private final int scopedPolicyCacheSize;
 
     public PolicyEngineImpl(ScopeFilter scopeFilter, RuleValidator ruleValidator) {
+        this(scopeFilter, ruleValidator, 0);
+    }
+
+    /**
+     * Creates a policy engine that caches up to {@code scopedPolicyCacheSize} policies filtered by scope, so that
+     * evaluating the same policy instance again in the same scope does not copy it. As the {@link ScopeFilter} result
+     * depends on the rule bindings, this must only be enabled when bindings do not change once evaluations have started.
+     *
+     * @param scopedPolicyCacheSize the maximum number of scoped policies to keep, 0 disables the cache.
+     */
+    public PolicyEngineImpl(ScopeFilter scopeFilter, RuleValidator ruleValidator, int scopedPolicyCacheSize) {
         this.scopeFilter = scopeFilter;
         this.ruleValidator = ruleValidator;
+        this.scopedPolicyCacheSize = scopedPolicyCacheSize;
     }
 
     public static boolean scopeFilter(String entry, String scope) {
@@ -81,82 +100,33 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public <C extends PolicyContext> Result<Void> evaluate(Policy policy, C context) {
-        Predicate<FunctionEntry<?>> isScoped = entry -> entry.contextType().isAssignableFrom(context.getClass());
+        var table = dispatchTable(context.getClass());
 
-        var preValidationFailure = preValidators.stream()
-                .filter(isScoped)
-                .map(it -> (PolicyValidatorRule<C>) it.rule())
-                .filter(it -> !it.apply(policy, context))
-                .findFirst();
-
-        if (preValidationFailure.isPresent()) {
-            return failValidator("Pre-validator", preValidationFailure.get(), context);
+        for (var validator : table.preValidators()) {
+            var rule = (PolicyValidatorRule<C>) validator.rule();
+            if (!rule.apply(policy, context)) {
+                return failValidator("Pre-validator", rule, context);
+            }
         }
 
-        var evalBuilder = PolicyEvaluator.Builder.newInstance();
-
+        var filteredPolicy = scopedPolicy(policy, context.scope());
 
-        ruleFunctions.stream()
-                .filter(isScoped)
-                .forEach(entry -> {
-                    if (Duty.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dutyRuleFunction((rule) ->
-                                ((PolicyRuleFunction<Rule, C>) entry.function).evaluate(rule, context));
-                    } else if (Permission.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.permissionRuleFunction((rule) ->
-                                ((PolicyRuleFunction<Rule, C>) entry.function).evaluate(rule, context));
-                    } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.prohibitionRuleFunction((rule) ->
-                                ((PolicyRuleFunction<Rule, C>) entry.function).evaluate(rule, context));
-                    }
-                });
-
-        constraintFunctions.stream()
-                .filter(isScoped)
-                .forEach(entry -> {
-                    if (Duty.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dutyFunction(entry.key, (operator, value, duty) ->
-                                ((AtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(operator, value, duty, context));
-                    } else if (Permission.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.permissionFunction(entry.key, (operator, value, permission) ->
-                                ((AtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(operator, value, permission, context));
-                    } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) ->
-                                ((AtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(operator, value, prohibition, context));
-                    }
-                });
-
-        dynamicConstraintFunctions.stream()
-                .filter(isScoped)
-                .forEach(entry -> {
-                    if (Duty.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dynamicDutyFunction(entry.function::canHandle, (key, operator, value, duty) ->
-                                ((DynamicAtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(key, operator, value, duty, context));
-                    } else if (Permission.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dynamicPermissionFunction(entry.function::canHandle, (key, operator, value, permission) ->
-                                ((DynamicAtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(key, operator, value, permission, context));
-                    } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dynamicProhibitionFunction(entry.function::canHandle, (key, operator, value, prohibition) ->
-                                ((DynamicAtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(key, operator, value, prohibition, context));
-                    }
-                });
-
-        var evaluator = evalBuilder.build();
-
-        var filteredPolicy = scopeFilter.applyScope(policy, context.scope());
-
-        var result = evaluator.evaluate(filteredPolicy);
+        var outerContext = evaluationContext.get();
+        evaluationContext.set(context);
+        PolicyEvaluationResult result;
+        try {
+            result = table.evaluator().evaluate(filteredPolicy);
+        } finally {
+            evaluationContext.set(outerContext);
+        }
 
         if (result.valid()) {
 
-            var postValidationFailure = postValidators.stream()
-                    .filter(isScoped)
-                    .map(it -> (PolicyValidatorRule<C>) it.rule())
-                    .filter(it -> !it.apply(policy, context))
-                    .findFirst();
-
-            if (postValidationFailure.isPresent()) {
-                return failValidator("Post-validator", postValidationFailure.get(), context);
+            for (var validator : table.postValidators()) {
+                var rule = (PolicyValidatorRule<C>) validator.rule();
+                if (!rule.apply(policy, context)) {
+                    return failValidator("Post-validator", rule, context);
+                }
             }
 
             return success();
@@ -199,49 +169,58 @@ public class PolicyEngineImpl implements PolicyEngine {
     @Override
     public <C extends PolicyContext> void registerScope(String scope, Class<C> contextType) {
         scopes.put(scope, contextType);
+        invalidateCaches();
     }
 
     @Override
     public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, String key, AtomicConstraintRuleFunction<R, C> function) {
         constraintFunctions.add(new ConstraintFunctionEntry(contextType, type, key, function));
+        invalidateCaches();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule, C extends PolicyContext> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintRuleFunction<R, C> function) {
         constraintFunctions.add(new ConstraintFunctionEntry(contextType(scope), type, key, function));
+        invalidateCaches();
     }
 
     @Override
     public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, DynamicAtomicConstraintRuleFunction<R, C> function) {
         dynamicConstraintFunctions.add(new DynamicConstraintFunctionEntry(contextType, type, function));
+        invalidateCaches();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule, C extends PolicyContext> void registerFunction(String scope, Class<R> type, DynamicAtomicConstraintRuleFunction<R, C> function) {
         dynamicConstraintFunctions.add(new DynamicConstraintFunctionEntry(contextType(scope), type, function));
+        invalidateCaches();
     }
 
     @Override
     public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, PolicyRuleFunction<R, C> function) {
         ruleFunctions.add(new RuleFunctionEntry(contextType, type, function));
+        invalidateCaches();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule, C extends PolicyContext> void registerFunction(String scope, Class<R> type, PolicyRuleFunction<R, C> function) {
         ruleFunctions.add(new RuleFunctionEntry(contextType(scope), type, function));
+        invalidateCaches();
     }
 
     @Override
     public <C extends PolicyContext> void registerPreValidator(Class<C> contextType, PolicyValidatorRule<C> validator) {
         preValidators.add(new ValidatorRuleEntry(contextType, validator));
+        invalidateCaches();
     }
 
     @Override
     public <C extends PolicyContext> void registerPostValidator(Class<C> contextType, PolicyValidatorRule<C> validator) {
         postValidators.add(new ValidatorRuleEntry(contextType, validator));
+        invalidateCaches();
     }
 
     @Override
@@ -264,6 +243,91 @@ public class PolicyEngineImpl implements PolicyEngine {
         registerPostValidator(PolicyContext.class, validator);
     }
 
+    private DispatchTable dispatchTable(Class<? extends PolicyContext> contextClass) {
+        return dispatchTables.computeIfAbsent(contextClass, this::createDispatchTable);
+    }
+
+    private DispatchTable createDispatchTable(Class<?> contextClass) {
+        Predicate<FunctionEntry<?>> isScoped = entry -> entry.contextType().isAssignableFrom(contextClass);
+        return new DispatchTable(
+                preValidators.stream().filter(isScoped).toList(),
+                postValidators.stream().filter(isScoped).toList(),
+                createEvaluator(isScoped)
+        );
+    }
+
+    /**
+     * Builds the evaluator for the functions that apply to a context class. The functions get the context of the
+     * evaluation in progress on the current thread, so that the evaluator is built once per context class instead of
+     * once per evaluation.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private PolicyEvaluator createEvaluator(Predicate<FunctionEntry<?>> isScoped) {
+        var evalBuilder = PolicyEvaluator.Builder.newInstance();
+
+        ruleFunctions.stream().filter(isScoped).forEach(entry -> {
+            var function = (PolicyRuleFunction<Rule, PolicyContext>) entry.function;
+            if (Duty.class.isAssignableFrom(entry.type)) {
+                evalBuilder.dutyRuleFunction((rule) -> function.evaluate(rule, evaluationContext.get()));
+            } else if (Permission.class.isAssignableFrom(entry.type)) {
+                evalBuilder.permissionRuleFunction((rule) -> function.evaluate(rule, evaluationContext.get()));
+            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                evalBuilder.prohibitionRuleFunction((rule) -> function.evaluate(rule, evaluationContext.get()));
+            }
+        });
+
+        constraintFunctions.stream().filter(isScoped).forEach(entry -> {
+            var function = (AtomicConstraintRuleFunction<Rule, PolicyContext>) (AtomicConstraintRuleFunction) entry.function;
+            if (Duty.class.isAssignableFrom(entry.type)) {
+                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> function.evaluate(operator, value, duty, evaluationContext.get()));
+            } else if (Permission.class.isAssignableFrom(entry.type)) {
+                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> function.evaluate(operator, value, permission, evaluationContext.get()));
+            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> function.evaluate(operator, value, prohibition, evaluationContext.get()));
+            }
+        });
+
+        dynamicConstraintFunctions.stream().filter(isScoped).forEach(entry -> {
+            var function = (DynamicAtomicConstraintRuleFunction<Rule, PolicyContext>) (DynamicAtomicConstraintRuleFunction) entry.function;
+            if (Duty.class.isAssignableFrom(entry.type)) {
+                evalBuilder.dynamicDutyFunction(function::canHandle, (key, operator, value, duty) ->
+                        function.evaluate(key, operator, value, duty, evaluationContext.get()));
+            } else if (Permission.class.isAssignableFrom(entry.type)) {
+                evalBuilder.dynamicPermissionFunction(function::canHandle, (key, operator, value, permission) ->
+                        function.evaluate(key, operator, value, permission, evaluationContext.get()));
+            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                evalBuilder.dynamicProhibitionFunction(function::canHandle, (key, operator, value, prohibition) ->
+                        function.evaluate(key, operator, value, prohibition, evaluationContext.get()));
+            }
+        });
+
+        return evalBuilder.build();
+    }
+
+    private Policy scopedPolicy(Policy policy, String scope) {
+        if (scopedPolicyCacheSize <= 0) {
+            return scopeFilter.applyScope(policy, scope);
+        }
+
+        var key = new ScopedPolicyKey(scope, policy);
+        var cached = scopedPolicies.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        var filtered = scopeFilter.applyScope(policy, scope);
+        if (scopedPolicies.size() >= scopedPolicyCacheSize) {
+            scopedPolicies.clear();
+        }
+        scopedPolicies.put(key, filtered);
+        return filtered;
+    }
+
+    private void invalidateCaches() {
+        dispatchTables.clear();
+        scopedPolicies.clear();
+    }
+
     @NotNull
     private Result<Void> failValidator(String type, PolicyValidatorRule<?> validator, PolicyContext context) {
         return failure(context.hasProblems() ? context.getProblems() : List.of(type + " failed: " + validator.name()));
@@ -293,6 +357,33 @@ public class PolicyEngineImpl implements PolicyEngine {
             PolicyValidatorRule<C> rule
     ) implements FunctionEntry<C> { }
 
+    /**
+     * The validators and the evaluator applicable to a concrete {@link PolicyContext} class, resolved once and reused
+     * for every evaluation with a context of that class.
+     */
+    private record DispatchTable(
+            List<ValidatorRuleEntry<? extends PolicyContext>> preValidators,
+            List<ValidatorRuleEntry<? extends PolicyContext>> postValidators,
+            PolicyEvaluator evaluator
+    ) { }
+
+    /**
+     * Identifies a policy instance in a scope. Policies are compared by identity, so that a lookup does not hash or
+     * compare the whole policy.
+     */
+    private record ScopedPolicyKey(String scope, Policy policy) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ScopedPolicyKey other && policy == other.policy && scope.equals(other.scope);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * scope.hashCode() + System.identityHashCode(policy);
+        }
+    }
+
     private interface FunctionEntry<C extends PolicyContext> {
         Class<C> contextType();
     }
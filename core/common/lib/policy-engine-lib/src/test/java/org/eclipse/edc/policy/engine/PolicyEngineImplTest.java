@@ -55,6 +55,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -518,6 +520,67 @@ class PolicyEngineImplTest {
 
     }
 
+    @Test
+    void shouldApplyFunction_whenRegisteredAfterFirstEvaluation() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var policy = createTestPolicy();
+
+        var before = policyEngine.evaluate(policy, new TestContext());
+        policyEngine.registerFunction(TestContext.class, Prohibition.class, "foo", (op, rv, prohibition, context) -> true);
+        var after = policyEngine.evaluate(policy, new TestContext());
+
+        assertThat(before).isSucceeded();
+        assertThat(after).isFailed();
+    }
+
+    @Test
+    void shouldFilterPolicyOnce_whenScopedPolicyCacheEnabled() {
+        var scopeFilter = spy(new ScopeFilter(bindingRegistry));
+        var cachingEngine = new PolicyEngineImpl(scopeFilter, new RuleValidator(bindingRegistry), 10);
+        cachingEngine.registerScope(TEST_SCOPE, TestContext.class);
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        cachingEngine.registerFunction(TestContext.class, Prohibition.class, "foo", (op, rv, prohibition, context) -> true);
+
+        var policy = createTestPolicy();
+
+        var first = cachingEngine.evaluate(policy, new TestContext());
+        var second = cachingEngine.evaluate(policy, new TestContext());
+        var equalPolicy = cachingEngine.evaluate(createTestPolicy(), new TestContext());
+
+        assertThat(first).isFailed();
+        assertThat(second).isFailed();
+        assertThat(equalPolicy).isFailed();
+        verify(scopeFilter, times(1)).applyScope(same(policy), eq(TEST_SCOPE));
+        verify(scopeFilter, times(2)).applyScope(any(Policy.class), eq(TEST_SCOPE));
+    }
+
+    @Test
+    void shouldPassEachEvaluationItsOwnContext_whenEvaluationsAreNested() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        bindingRegistry.bind("bar", ALL_SCOPES);
+        var innerPolicy = Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance().constraint(createConstraint("bar")).build())
+                .build();
+        var outerPolicy = Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance().constraint(createConstraint("foo")).build())
+                .permission(Permission.Builder.newInstance().constraint(createConstraint("foo")).build())
+                .build();
+        var outerContext = new TestContext();
+        var innerContext = new ParentContext();
+        AtomicConstraintRuleFunction<Permission, TestContext> outerFunction = mock();
+        when(outerFunction.evaluate(any(), any(), any(), any())).thenAnswer(i -> policyEngine.evaluate(innerPolicy, innerContext).succeeded());
+        AtomicConstraintRuleFunction<Permission, ParentContext> innerFunction = mock();
+        when(innerFunction.evaluate(any(), any(), any(), any())).thenReturn(true);
+        policyEngine.registerFunction(TestContext.class, Permission.class, "foo", outerFunction);
+        policyEngine.registerFunction(ParentContext.class, Permission.class, "bar", innerFunction);
+
+        var result = policyEngine.evaluate(outerPolicy, outerContext);
+
+        assertThat(result).isSucceeded();
+        verify(outerFunction, times(2)).evaluate(any(), any(), any(), same(outerContext));
+        verify(innerFunction, times(2)).evaluate(any(), any(), any(), same(innerContext));
+    }
+
     private static class TestContext extends PolicyContextImpl {
         @Override
         public String scope() {
@@ -554,6 +617,10 @@ class PolicyEngineImplTest {
         return Policy.Builder.newInstance().prohibition(prohibition).build();
     }
 
+    private AtomicConstraint createConstraint(String key) {
+        return AtomicConstraint.Builder.newInstance().leftExpression(new LiteralExpression(key)).operator(EQ).rightExpression(new LiteralExpression("value")).build();
+    }
+
     private static class PolicyProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
@@ -44,27 +44,55 @@ import java.util.function.Function;
  * A policy evaluator is used to build evaluation engines that perform tasks such as verifying if a {@link Policy} is satisfied by a client system presenting signed credentials.
  * Implementation-specific functionality is contributed by registering {@link AtomicConstraintFunction}s using {@link Builder#permissionFunction(String, AtomicConstraintFunction)},
  * {@link Builder#prohibitionFunction(String, AtomicConstraintFunction)}, and  {@link Builder#dutyFunction(String, AtomicConstraintFunction)}.
+ * <p>
+ * Every call to {@link #evaluate(Policy)} keeps its state apart from the registered functions, so an evaluator can be built
+ * once and used for any number of evaluations, also concurrently.
  */
 public class PolicyEvaluator implements Policy.Visitor<Boolean>, Rule.Visitor<Boolean>, Constraint.Visitor<Boolean>, Expression.Visitor<Object> {
     private final List<RuleProblem> ruleProblems = new ArrayList<>();
-    private final Map<String, AtomicConstraintFunction<Object, ? extends Rule, Boolean>> permissionFunctions = new HashMap<>();
-    private final List<DynamicConstraintFunctionEntry<? extends Rule>> dynamicPermissionFunctions = new ArrayList<>();
-    private final Map<String, AtomicConstraintFunction<Object, ? extends Rule, Boolean>> dutyFunctions = new HashMap<>();
-    private final List<DynamicConstraintFunctionEntry<? extends Rule>> dynamicDutyFunctions = new ArrayList<>();
-    private final Map<String, AtomicConstraintFunction<Object, ? extends Rule, Boolean>> prohibitionFunctions = new HashMap<>();
-    private final List<DynamicConstraintFunctionEntry<? extends Rule>> dynamicProhibitionFunctions = new ArrayList<>();
+    private final Map<String, AtomicConstraintFunction<Object, ? extends Rule, Boolean>> permissionFunctions;
+    private final List<DynamicConstraintFunctionEntry<? extends Rule>> dynamicPermissionFunctions;
+    private final Map<String, AtomicConstraintFunction<Object, ? extends Rule, Boolean>> dutyFunctions;
+    private final List<DynamicConstraintFunctionEntry<? extends Rule>> dynamicDutyFunctions;
+    private final Map<String, AtomicConstraintFunction<Object, ? extends Rule, Boolean>> prohibitionFunctions;
+    private final List<DynamicConstraintFunctionEntry<? extends Rule>> dynamicProhibitionFunctions;
 
-    private final List<RuleFunction<Permission>> permissionRuleFunctions = new ArrayList<>();
-    private final List<RuleFunction<Duty>> dutyRuleFunctions = new ArrayList<>();
-    private final List<RuleFunction<Prohibition>> prohibitionRuleFunctions = new ArrayList<>();
+    private final List<RuleFunction<Permission>> permissionRuleFunctions;
+    private final List<RuleFunction<Duty>> dutyRuleFunctions;
+    private final List<RuleFunction<Prohibition>> prohibitionRuleFunctions;
 
     private Rule ruleContext; // the current rule being evaluated or null
 
     private PolicyEvaluator() {
+        permissionFunctions = new HashMap<>();
+        dynamicPermissionFunctions = new ArrayList<>();
+        dutyFunctions = new HashMap<>();
+        dynamicDutyFunctions = new ArrayList<>();
+        prohibitionFunctions = new HashMap<>();
+        dynamicProhibitionFunctions = new ArrayList<>();
+        permissionRuleFunctions = new ArrayList<>();
+        dutyRuleFunctions = new ArrayList<>();
+        prohibitionRuleFunctions = new ArrayList<>();
+    }
+
+    /**
+     * Creates an evaluation that shares the functions of the evaluator, with its own rule problems and rule context.
+     */
+    private PolicyEvaluator(PolicyEvaluator evaluator) {
+        permissionFunctions = evaluator.permissionFunctions;
+        dynamicPermissionFunctions = evaluator.dynamicPermissionFunctions;
+        dutyFunctions = evaluator.dutyFunctions;
+        dynamicDutyFunctions = evaluator.dynamicDutyFunctions;
+        prohibitionFunctions = evaluator.prohibitionFunctions;
+        dynamicProhibitionFunctions = evaluator.dynamicProhibitionFunctions;
+        permissionRuleFunctions = evaluator.permissionRuleFunctions;
+        dutyRuleFunctions = evaluator.dutyRuleFunctions;
+        prohibitionRuleFunctions = evaluator.prohibitionRuleFunctions;
     }
 
     public PolicyEvaluationResult evaluate(Policy policy) {
-        return policy.accept(this) ? new PolicyEvaluationResult() : new PolicyEvaluationResult(ruleProblems);
+        var evaluation = new PolicyEvaluator(this);
+        return policy.accept(evaluation) ? new PolicyEvaluationResult() : new PolicyEvaluationResult(evaluation.ruleProblems);
     }
 
     @Override
@@ -71,6 +71,22 @@ class PolicyEvaluatorTest {
         assertFalse(evaluator.evaluate(policy).valid());
     }
 
+    @Test
+    void verifyReusedEvaluatorDoesNotKeepProblemsOfPreviousEvaluation() {
+        var failing = Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance().constraint(createLiteralAtomicConstraint("baz", "bar")).build())
+                .build();
+        var passing = Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance().constraint(createLiteralAtomicConstraint("foo", "foo")).build())
+                .build();
+
+        var evaluator = PolicyEvaluator.Builder.newInstance().build();
+
+        assertFalse(evaluator.evaluate(failing).valid());
+        assertTrue(evaluator.evaluate(passing).valid());
+        assertFalse(evaluator.evaluate(failing).valid());
+    }
+
     @Test
     void verifyPermissionFunctions() {
         var constraint = createLiteralAtomicConstraint("toResolve", "foo");
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.query;
+
+import org.eclipse.edc.spi.query.PropertyLookup;
+import org.eclipse.edc.util.reflection.PathItem;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * {@link PropertyLookup} that supports the same paths as {@link ReflectionPropertyLookup}, that are dot separated
+ * field names or map keys, optionally quoted, and list indexers, but that parses every path only once and accesses
+ * fields through {@link MethodHandle}s that are cached per class and field name.
+ */
+public class CachingPropertyLookup implements PropertyLookup {
+
+    private static final Pattern ARRAY_INDEXER = Pattern.compile("(.*)\\[([0-9]+)]");
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final int MAX_CACHED_PATHS = 10_000;
+    private static final Object NOT_FOUND = new Object();
+
+    private final Map<String, List<Segment>> paths = new ConcurrentHashMap<>();
+    private final ClassValue<Map<String, Optional<MethodHandle>>> getters = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<MethodHandle>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    @Override
+    public Object getProperty(String key, Object object) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(object, "object");
+
+        var current = object;
+        for (var segment : path(key)) {
+            if (current == null) {
+                return null;
+            }
+            current = segment.index() < 0 ? value(segment.name(), current) : indexedValue(segment, current);
+            if (current == NOT_FOUND) {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    private List<Segment> path(String key) {
+        var path = paths.get(key);
+        if (path == null) {
+            if (paths.size() >= MAX_CACHED_PATHS) {
+                paths.clear();
+            }
+            path = paths.computeIfAbsent(key, this::parse);
+        }
+        return path;
+    }
+
+    private List<Segment> parse(String key) {
+        var segments = new ArrayList<Segment>();
+        for (var item : PathItem.parse(key)) {
+            var matcher = ARRAY_INDEXER.matcher(item.toString());
+            if (matcher.matches()) {
+                segments.add(new Segment(matcher.group(1), Integer.parseInt(matcher.group(2))));
+            } else {
+                segments.add(new Segment(item.toString(), -1));
+            }
+        }
+        return List.copyOf(segments);
+    }
+
+    private Object indexedValue(Segment segment, Object object) {
+        var value = value(segment.name(), object);
+        if (value instanceof List<?> list && segment.index() < list.size()) {
+            return list.get(segment.index());
+        }
+        return NOT_FOUND;
+    }
+
+    private Object value(String name, Object object) {
+        if (object instanceof Map<?, ?> map) {
+            return map.get(name);
+        }
+
+        if (object instanceof List<?> list) {
+            var values = new ArrayList<>(list.size());
+            for (var element : list) {
+                if (element != null) {
+                    var value = fieldValue(name, element);
+                    if (value == NOT_FOUND) {
+                        return NOT_FOUND;
+                    }
+                    values.add(value);
+                }
+            }
+            return values;
+        }
+
+        return fieldValue(name, object);
+    }
+
+    private Object fieldValue(String name, Object object) {
+        var getter = getters.get(object.getClass()).computeIfAbsent(name, fieldName -> createGetter(object.getClass(), fieldName));
+        if (getter.isEmpty()) {
+            return NOT_FOUND;
+        }
+
+        try {
+            return getter.get().invokeExact(object);
+        } catch (Throwable e) {
+            return NOT_FOUND;
+        }
+    }
+
+    private Optional<MethodHandle> createGetter(Class<?> type, String fieldName) {
+        var field = ReflectionUtil.getFieldRecursive(type, fieldName);
+        if (field == null) {
+            return Optional.empty();
+        }
+
+        try {
+            field.setAccessible(true);
+            var getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return Optional.of(getter.asType(GETTER_TYPE));
+        } catch (RuntimeException | IllegalAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    private record Segment(String name, int index) {
+    }
+}
@@ -38,7 +38,7 @@ public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry
 
     public static CriterionOperatorRegistry ofDefaults() {
         var registry = new CriterionOperatorRegistryImpl();
-        registry.registerPropertyLookup(new ReflectionPropertyLookup());
+        registry.registerPropertyLookup(new CachingPropertyLookup());
         registry.registerOperatorPredicate(EQUAL, new EqualOperatorPredicate());
         registry.registerOperatorPredicate(IN, new InOperatorPredicate());
         registry.registerOperatorPredicate(LIKE, new LikeOperatorPredicate());
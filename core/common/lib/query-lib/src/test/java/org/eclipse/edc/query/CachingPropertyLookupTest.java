@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.query;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingPropertyLookupTest {
+
+    private final CachingPropertyLookup lookup = new CachingPropertyLookup();
+    private final ReflectionPropertyLookup reflectionLookup = new ReflectionPropertyLookup();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "name", "inherited", "nested.name", "nested.nested", "properties.key", "properties.'dotted.key'",
+            "'properties'.'dotted.key'", "children.name", "children[1].name", "missing", "nested.missing"
+    })
+    void shouldReturnSameValueAsReflectionLookup(String path) {
+        var object = new TestObject("parent", new TestObject("nested", null, Map.of(), List.of()),
+                Map.of("key", "value", "dotted.key", "dotted-value"),
+                List.of(new TestObject("first", null, Map.of(), List.of()), new TestObject("second", null, Map.of(), List.of())));
+
+        assertThat(lookup.getProperty(path, object)).isEqualTo(reflectionLookup.getProperty(path, object));
+        // second access goes through the cached path and getters
+        assertThat(lookup.getProperty(path, object)).isEqualTo(reflectionLookup.getProperty(path, object));
+    }
+
+    private static class BaseObject {
+        private final String inherited = "inherited-value";
+    }
+
+    private static class TestObject extends BaseObject {
+        private final String name;
+        private final TestObject nested;
+        private final Map<String, Object> properties;
+        private final List<TestObject> children;
+
+        TestObject(String name, TestObject nested, Map<String, Object> properties, List<TestObject> children) {
+            this.name = name;
+            this.nested = nested;
+            this.properties = properties;
+            this.children = children;
+        }
+    }
+}
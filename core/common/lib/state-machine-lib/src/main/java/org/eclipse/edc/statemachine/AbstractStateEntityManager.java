@@ -39,11 +39,13 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
 
     public static final long DEFAULT_ITERATION_WAIT = 1000;
     public static final int DEFAULT_BATCH_SIZE = 20;
+    public static final int DEFAULT_PARALLELISM = 1;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
 
     protected Monitor monitor;
     protected int batchSize = DEFAULT_BATCH_SIZE;
+    protected int parallelism = DEFAULT_PARALLELISM;
     protected WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
     protected ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
     protected Telemetry telemetry = new Telemetry();
@@ -57,7 +59,8 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     public void start() {
         entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
         var stateMachineManagerBuilder = StateMachineManager.Builder
-                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
+                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy)
+                .parallelism(parallelism);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
 
         stateMachineManager.start();
@@ -70,6 +73,15 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
         }
     }
 
+    /**
+     * Wakes up the state machine, so that changed entities are processed without waiting for the next poll.
+     */
+    public void wakeUp() {
+        if (stateMachineManager != null) {
+            stateMachineManager.wakeUp();
+        }
+    }
+
     /**
      * configures the State Machine Manager builder
      *
@@ -114,6 +126,11 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B parallelism(int parallelism) {
+            manager.parallelism = parallelism;
+            return self();
+        }
+
         public B waitStrategy(WaitStrategy waitStrategy) {
             manager.waitStrategy = waitStrategy;
             return self();
@@ -14,6 +14,9 @@
 
 package org.eclipse.edc.statemachine;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Interface that declares an abstraction for a component that process some entities and return the number of the processed ones.
  * Used by {@link StateMachineManager} to decide whether to apply wait strategy in loop iteration
@@ -28,4 +31,15 @@ public interface Processor {
      * @return the processed states count
      */
     Long process();
+
+    /**
+     * Process states using the passed executor, that permits to process entities concurrently. By default, the whole
+     * processing is executed as a single task on the executor.
+     *
+     * @param executor the executor.
+     * @return a future containing the processed states count.
+     */
+    default CompletableFuture<Long> processAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::process, executor);
+    }
 }
@@ -16,6 +16,8 @@ package org.eclipse.edc.statemachine;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -50,18 +52,33 @@ public class ProcessorImpl<E> implements Processor {
     @Override
     public Long process() {
         return entities.get().stream()
-                .map(entity -> {
-                    var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
-                    var hasBeenProcessed = actualProcess.apply(entity);
-                    if (!hasBeenProcessed) {
-                        onNotProcessed.accept(entity);
-                    }
-                    return hasBeenProcessed;
-                })
+                .map(this::processEntity)
                 .filter(isEqual(true))
                 .count();
     }
 
+    /**
+     * Fetches the entities on the calling thread, then processes every one of them as a separate task on the executor.
+     */
+    @Override
+    public CompletableFuture<Long> processAsync(Executor executor) {
+        var futures = entities.get().stream()
+                .map(entity -> CompletableFuture.supplyAsync(() -> processEntity(entity), executor))
+                .toList();
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).filter(isEqual(true)).count());
+    }
+
+    private boolean processEntity(E entity) {
+        var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
+        var hasBeenProcessed = actualProcess.apply(entity);
+        if (!hasBeenProcessed) {
+            onNotProcessed.accept(entity);
+        }
+        return hasBeenProcessed;
+    }
+
     public static class Builder<E> {
 
         private final ProcessorImpl<E> processor;
@@ -22,10 +22,14 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -35,21 +39,37 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * <p>
+ * If a parallelism greater than 1 is configured, on every iteration the entities fetched by all the processors are
+ * processed concurrently on a pool with that number of worker threads, and the iteration completes when all of them
+ * have been processed. The wait strategy is then applied on the aggregated processed count.
+ * <p>
+ * The wait can be interrupted by calling {@link #wakeUp()}, e.g. when an entity has been changed by this runtime, so
+ * that new work is picked up immediately. Polling is kept in any case, to detect changes made by other runtimes.
  */
 public class StateMachineManager {
 
     private final List<Processor> processors = new ArrayList<>();
     private final ScheduledExecutorService executor;
+    private final ExecutorInstrumentation instrumentation;
     private final AtomicBoolean active = new AtomicBoolean();
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
+    private final Object scheduling = new Object();
     private int shutdownTimeout = 10;
+    private int parallelism = 1;
+    private ExecutorService workers;
+    private long scheduledIteration;
+    private ScheduledFuture<?> nextIteration;
+    private boolean waiting;
+    private boolean wakeUpRequested;
 
     private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
         this.name = name;
         this.monitor = monitor;
         this.waitStrategy = waitStrategy;
+        this.instrumentation = instrumentation;
         executor = instrumentation.instrument(
                 Executors.newSingleThreadScheduledExecutor(r -> {
                     var thread = Executors.defaultThreadFactory().newThread(r);
@@ -82,10 +102,32 @@ public class StateMachineManager {
             } catch (InterruptedException e) {
                 monitor.severe(format("StateMachineManager [%s] await termination failed", name), e);
                 return false;
+            } finally {
+                if (workers != null) {
+                    workers.shutdown();
+                }
             }
         });
     }
 
+    /**
+     * Wakes up the loop: if it is waiting it starts the next iteration immediately, if it is running the next
+     * iteration will start without waiting.
+     */
+    public void wakeUp() {
+        synchronized (scheduling) {
+            if (!active.get()) {
+                return;
+            }
+
+            wakeUpRequested = true;
+            if (waiting) {
+                nextIteration.cancel(false);
+                scheduleNextIterationIn(0L);
+            }
+        }
+    }
+
     /**
      * Tells if the loop is active and running
      *
@@ -95,8 +137,17 @@ public class StateMachineManager {
         return active.get();
     }
 
-    private Runnable loop() {
+    private Runnable loop(long iteration) {
         return () -> {
+            synchronized (scheduling) {
+                // the iteration has been superseded by a wake-up
+                if (iteration != scheduledIteration) {
+                    return;
+                }
+                waiting = false;
+                wakeUpRequested = false;
+            }
+
             if (active.get()) {
                 performLogic();
             }
@@ -105,9 +156,7 @@ public class StateMachineManager {
 
     private void performLogic() {
         try {
-            var processed = processors.stream()
-                    .mapToLong(Processor::process)
-                    .sum();
+            var processed = workers == null ? processSequentially() : processConcurrently();
 
             waitStrategy.success();
 
@@ -123,9 +172,51 @@ public class StateMachineManager {
         }
     }
 
+    private long processSequentially() {
+        return processors.stream()
+                .mapToLong(Processor::process)
+                .sum();
+    }
+
+    private long processConcurrently() {
+        var futures = processors.stream()
+                .map(processor -> processor.processAsync(workers))
+                .toList();
+
+        try {
+            return futures.stream()
+                    .mapToLong(CompletableFuture::join)
+                    .sum();
+        } catch (CompletionException e) {
+            // rethrow what the processor has thrown, so that an Error stops the state machine as in sequential mode
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            if (e.getCause() instanceof RuntimeException exception) {
+                throw exception;
+            }
+            throw e;
+        }
+    }
+
+    private ExecutorService createWorkers() {
+        var counter = new AtomicInteger();
+        return instrumentation.instrument(
+                Executors.newFixedThreadPool(parallelism, r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName("StateMachineManager-" + name + "-worker-" + counter.incrementAndGet());
+                    return thread;
+                }), name + "-workers");
+    }
+
     @NotNull
     private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+        synchronized (scheduling) {
+            var delay = wakeUpRequested ? 0L : delayMillis;
+            waiting = delay > 0;
+            nextIteration = executor.schedule(loop(++scheduledIteration), delay, MILLISECONDS);
+            return nextIteration;
+        }
     }
 
     public static class Builder {
@@ -150,7 +241,22 @@ public class StateMachineManager {
             return this;
         }
 
+        /**
+         * Number of entities that can be processed concurrently. Default is 1, that means that processors and the
+         * entities they fetch are processed sequentially on the loop thread.
+         *
+         * @param parallelism the number of worker threads.
+         * @return the builder.
+         */
+        public Builder parallelism(int parallelism) {
+            loop.parallelism = parallelism;
+            return this;
+        }
+
         public StateMachineManager build() {
+            if (loop.parallelism > 1) {
+                loop.workers = loop.createWorkers();
+            }
             return loop;
         }
     }
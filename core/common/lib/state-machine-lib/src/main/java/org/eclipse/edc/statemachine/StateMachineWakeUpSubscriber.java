@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+import java.util.List;
+
+/**
+ * Wakes up state machines when an event is received, typically an event that signals that an entity managed by them
+ * has changed state.
+ */
+public class StateMachineWakeUpSubscriber implements EventSubscriber {
+
+    private final List<AbstractStateEntityManager<?, ?>> managers;
+
+    public StateMachineWakeUpSubscriber(AbstractStateEntityManager<?, ?>... managers) {
+        this.managers = List.of(managers);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        managers.forEach(AbstractStateEntityManager::wakeUp);
+    }
+}
@@ -47,8 +47,9 @@ public abstract class RetryProcess<E extends StatefulEntity<E>, SELF extends Ret
     abstract boolean process(E entity, String description);
 
     /**
-     * If entity is not yet ready to be processed executes {@link #onDelay} handler and return false,
-     * otherwise processes it.
+     * If entity is not yet ready to be processed sets its next attempt timestamp, executes {@link #onDelay} handler
+     * and return false, otherwise processes it. The next attempt timestamp, once persisted, prevents the entity from
+     * being fetched again by the state machine before the delay has passed.
      *
      * @param description the process description.
      * @return false if process should not be run yet, the result of the process otherwise.
@@ -59,6 +60,7 @@ public abstract class RetryProcess<E extends StatefulEntity<E>, SELF extends Ret
             var delay = delayMillis(entity);
             if (delay > 0) {
                 monitor.debug(String.format("Entity %s %s retry #%d will not be attempted before %d ms.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, delay));
+                entity.setNextAttemptTimestamp(clock.millis() + delay);
                 if (onDelay != null) {
                     onDelay.accept(entity);
                 }
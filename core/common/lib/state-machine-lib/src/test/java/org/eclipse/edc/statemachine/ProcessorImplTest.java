@@ -18,9 +18,11 @@ import org.eclipse.edc.statemachine.retry.TestEntity;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -54,6 +56,20 @@ class ProcessorImplTest {
         assertThat(count).isEqualTo(0);
     }
 
+    @Test
+    void shouldProcessEntitiesOnExecutor_whenProcessedAsync() {
+        var entities = List.of(TestEntity.Builder.newInstance().id("id1").build(), TestEntity.Builder.newInstance().id("id2").build());
+        var executor = Executors.newFixedThreadPool(2);
+        var processor = ProcessorImpl.Builder.newInstance(() -> entities)
+                .process(e -> e.getId().equals("id1"))
+                .build();
+
+        var count = processor.processAsync(executor);
+
+        assertThat(count).succeedsWithin(5, SECONDS).isEqualTo(1L);
+        executor.shutdown();
+    }
+
     @Test
     void shouldExecuteGuard_whenItsPredicateMatches() {
         var entity = TestEntity.Builder.newInstance().id("id").build();
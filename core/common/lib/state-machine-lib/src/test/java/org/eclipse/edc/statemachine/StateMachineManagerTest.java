@@ -21,6 +21,8 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -28,6 +30,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -105,6 +108,51 @@ class StateMachineManagerTest {
         });
     }
 
+    @Test
+    void shouldRunProcessorsConcurrently_whenParallelismIsConfigured() {
+        var latch = new CountDownLatch(2);
+        Processor processor = () -> {
+            latch.countDown();
+            try {
+                // only completes if the other processor is running at the same time
+                return latch.await(5, SECONDS) ? 1L : 0L;
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .processor(processor)
+                .parallelism(2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            verify(waitStrategy, atLeastOnce()).success();
+            verify(waitStrategy, never()).waitForMillis();
+        });
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldStartNextIterationImmediately_whenWokenUp() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        stateMachine.start();
+        await().untilAsserted(() -> verify(waitStrategy).waitForMillis());
+
+        stateMachine.wakeUp();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+        stateMachine.stop();
+    }
+
     @Test
     void shouldExitWithAnExceptionIfProcessorExitsWithAnUnrecoverableError() {
         var processor = mock(Processor.class);
@@ -117,6 +165,22 @@ class StateMachineManagerTest {
         assertThat(stateMachine.isActive()).isFalse();
     }
 
+    @Test
+    void shouldExit_whenProcessorExitsWithAnUnrecoverableError_andParallelismIsConfigured() {
+        Processor processor = () -> {
+            throw new Error("unrecoverable");
+        };
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .parallelism(2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> assertThat(stateMachine.isActive()).isFalse());
+        verify(waitStrategy, never()).retryInMillis();
+    }
+
     @Test
     void shouldWaitRetryTimeWhenAnExceptionIsThrownByAnProcessor() throws InterruptedException {
         var processor = mock(Processor.class);
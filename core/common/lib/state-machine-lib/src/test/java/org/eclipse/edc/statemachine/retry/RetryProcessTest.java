@@ -52,6 +52,7 @@ class RetryProcessTest {
         boolean any = retryProcess.execute("any");
 
         assertThat(any).isFalse();
+        assertThat(entity.getNextAttemptTimestamp()).isEqualTo(shouldDelayTime + DELAY);
         verifyNoInteractions(process);
     }
 
@@ -21,8 +21,7 @@ plugins {
 dependencies {
     api(project(":spi:common:core-spi"))
     implementation(project(":core:common:lib:util-lib"))
-
-    testImplementation(project(":core:common:lib:query-lib"))
+    implementation(project(":core:common:lib:query-lib"))
 }
 
 
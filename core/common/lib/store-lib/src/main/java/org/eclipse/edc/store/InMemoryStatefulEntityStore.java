@@ -22,37 +22,44 @@ import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
-import org.eclipse.edc.util.concurrency.LockManager;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Comparator.comparingLong;
-import static java.util.stream.Collectors.toList;
 
 /**
  * An in-memory, threadsafe entity store for a {@link StatefulEntity}. This implementation is intended for testing
  * purposes only.
+ * <p>
+ * Entities are indexed by state and ordered by state timestamp, so that {@link #nextNotLeased(int, Criterion...)}
+ * filtering by state only visits the oldest entities in that state instead of sorting the whole store. Leases are
+ * acquired atomically per entity, without a global lock.
  */
 public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements StateEntityStore<T> {
     private static final Duration DEFAULT_LEASE_TIME = Duration.ofSeconds(60);
+    private static final String STATE_PROPERTY = "state";
     private final Map<String, T> entitiesById = new ConcurrentHashMap<>();
+    private final Map<Integer, NavigableSet<IndexEntry>> entitiesByState = new ConcurrentHashMap<>();
+    private final Map<String, IndexEntry> indexEntriesById = new ConcurrentHashMap<>();
     private final QueryResolver<T> queryResolver;
-    private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
     private final String lockId;
     private final Clock clock;
-    private final Map<String, Lease> leases = new HashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
     protected final CriterionOperatorRegistry criterionOperatorRegistry;
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
@@ -73,40 +80,55 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
 
     @Override
     public @NotNull List<T> nextNotLeased(int max, Criterion... criteria) {
-        return lockManager.writeLock(() -> {
-            var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::toPredicate).reduce(x -> true, Predicate::and);
-            var entities = entitiesById.values().stream()
-                    .filter(filterPredicate)
-                    .filter(e -> !isLeased(e.getId()))
-                    .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
-                    .limit(max)
-                    .toList();
-            entities.forEach(i -> acquireLease(i.getId()));
-            return entities.stream().map(StatefulEntity::copy).collect(toList());
-        });
+        var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::toPredicate).reduce(x -> true, Predicate::and);
+        var state = Arrays.stream(criteria).map(this::stateCode).filter(Objects::nonNull).findFirst();
+
+        var candidates = state
+                .map(code -> entitiesByState.getOrDefault(code, new ConcurrentSkipListSet<>()).stream()
+                        .map(entry -> entitiesById.get(entry.id()))
+                        .filter(Objects::nonNull))
+                .orElseGet(() -> entitiesById.values().stream()
+                        .sorted(comparingLong(StatefulEntity::getStateTimestamp))); //order by state timestamp, oldest first
+
+        var now = clock.millis();
+        var result = new ArrayList<T>(max);
+        var iterator = candidates
+                .filter(entity -> entity.getNextAttemptTimestamp() <= now)
+                .filter(filterPredicate)
+                .iterator();
+        while (result.size() < max && iterator.hasNext()) {
+            var entity = iterator.next();
+            if (tryAcquireLease(entity.getId())) {
+                result.add(entity.copy());
+            }
+        }
+        return result;
     }
 
     @Override
     public StoreResult<T> findByIdAndLease(String id) {
-        return lockManager.writeLock(() -> {
-            var entity = entitiesById.get(id);
-            if (entity == null) {
-                return StoreResult.notFound(format("Entity %s not found", id));
-            }
+        var entity = entitiesById.get(id);
+        if (entity == null) {
+            return StoreResult.notFound(format("Entity %s not found", id));
+        }
 
-            try {
-                acquireLease(id);
-                return StoreResult.success(entity);
-            } catch (IllegalStateException e) {
-                return StoreResult.alreadyLeased(format("Entity %s is already leased: %s", id, e.getMessage()));
-            }
-        });
+        try {
+            acquireLease(id);
+            return StoreResult.success(entity.copy());
+        } catch (IllegalStateException e) {
+            return StoreResult.alreadyLeased(format("Entity %s is already leased: %s", id, e.getMessage()));
+        }
     }
 
     @Override
     public void save(T entity) {
         acquireLease(entity.getId());
-        entitiesById.put(entity.getId(), entity.copy());
+        var copy = entity.copy();
+        entitiesById.compute(entity.getId(), (id, previous) -> {
+            unindex(id);
+            index(copy);
+            return copy;
+        });
         freeLease(entity.getId());
     }
 
@@ -114,7 +136,10 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
         if (isLeased(id)) {
             throw new IllegalStateException("Entity is leased and cannot be deleted!");
         }
-        entitiesById.remove(id);
+        entitiesById.computeIfPresent(id, (key, previous) -> {
+            unindex(key);
+            return null;
+        });
     }
 
     public Stream<T> findAll(QuerySpec querySpec) {
@@ -126,15 +151,17 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     public void acquireLease(String id, String lockId, Duration leaseTime) {
-        if (!isLeased(id) || isLeasedBy(id, lockId)) {
-            leases.put(id, new Lease(lockId, clock.millis(), leaseTime.toMillis()));
-        } else {
+        leases.compute(id, (key, lease) -> {
+            if (lease == null || lease.isExpired(clock.millis()) || lease.getLeasedBy().equals(lockId)) {
+                return new Lease(lockId, clock.millis(), leaseTime.toMillis());
+            }
             throw new IllegalStateException("Cannot acquire lease, is already leased by someone else!");
-        }
+        });
     }
 
     public boolean isLeasedBy(String id, String lockId) {
-        return isLeased(id) && leases.get(id).getLeasedBy().equals(lockId);
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis()) && lease.getLeasedBy().equals(lockId);
     }
 
     private void freeLease(String id) {
@@ -145,8 +172,55 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
         acquireLease(id, lockId, DEFAULT_LEASE_TIME);
     }
 
+    /**
+     * Acquires the lease only if the entity is not leased at all, not even by this lock id.
+     */
+    private boolean tryAcquireLease(String id) {
+        var now = clock.millis();
+        var newLease = new Lease(lockId, now, DEFAULT_LEASE_TIME.toMillis());
+        var lease = leases.compute(id, (key, existing) -> existing == null || existing.isExpired(now) ? newLease : existing);
+        return lease == newLease;
+    }
+
     private boolean isLeased(String id) {
-        return leases.containsKey(id) && !leases.get(id).isExpired(clock.millis());
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis());
+    }
+
+    // called within the entity compute, so the index of an entity is never changed concurrently
+    private void index(T entity) {
+        var entry = new IndexEntry(entity.getState(), entity.getStateTimestamp(), entity.getId());
+        entitiesByState.computeIfAbsent(entry.state(), state -> new ConcurrentSkipListSet<>()).add(entry);
+        indexEntriesById.put(entry.id(), entry);
+    }
+
+    // removes the entry that was indexed, as the stored entity could have been changed by a caller in the meantime
+    private void unindex(String id) {
+        var entry = indexEntriesById.remove(id);
+        if (entry == null) {
+            return;
+        }
+        var entries = entitiesByState.get(entry.state());
+        if (entries != null) {
+            entries.remove(entry);
+        }
+    }
+
+    private @Nullable Integer stateCode(Criterion criterion) {
+        if (STATE_PROPERTY.equals(criterion.getOperandLeft()) && "=".equals(criterion.getOperator()) && criterion.getOperandRight() instanceof Integer code) {
+            return code;
+        }
+        return null;
+    }
+
+    private record IndexEntry(int state, long stateTimestamp, String id) implements Comparable<IndexEntry> {
+
+        private static final Comparator<IndexEntry> ORDER = comparingLong(IndexEntry::stateTimestamp).thenComparing(IndexEntry::id);
+
+        @Override
+        public int compareTo(@NotNull IndexEntry other) {
+            return ORDER.compare(this, other);
+        }
     }
 
 }
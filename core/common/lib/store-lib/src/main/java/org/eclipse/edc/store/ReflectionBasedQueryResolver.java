@@ -14,7 +14,10 @@
 
 package org.eclipse.edc.store;
 
+import org.eclipse.edc.query.CachingPropertyLookup;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.query.PropertyLookup;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -22,21 +25,27 @@ import org.eclipse.edc.util.reflection.ReflectionUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Comparator;
+import java.util.Map;
 import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 
 /**
- * Default implementation of {@link QueryResolver} that applies query on a stream. Uses reflection to fetch object fields. Used in stores implementations.
+ * Default implementation of {@link QueryResolver} that applies query on a stream. Uses reflection to fetch object fields,
+ * through a {@link CachingPropertyLookup} when sorting and paginating. Used in stores implementations.
  *
  * @param <T> type of the stream elements.
  */
 public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
+    private static final String ID_FIELD = "id";
+
     private final Class<T> typeParameterClass;
     private final CriterionOperatorRegistry criterionOperatorRegistry;
+    private final PropertyLookup propertyLookup = new CachingPropertyLookup();
 
     /**
      * Constructor for ReflectionBasedQueryResolver
@@ -54,7 +63,8 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
      * Method to query a stream by provided specification.
      * Converts the criterion into 'and' predicate.
      * Applies sorting. When sort field is not found returns empty stream.
-     * Applies offset and limit on the query result.
+     * Applies offset and limit on the query result, or, when the spec carries a cursor, orders by sort field and id and
+     * skips the elements up to the cursor.
      *
      * @param stream      stream to be queried.
      * @param spec        query specification.
@@ -69,6 +79,10 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
         var filteredStream = stream.filter(andPredicate);
 
+        if (spec.getCursor() != null) {
+            return applyCursor(filteredStream, spec, spec.getCursor());
+        }
+
         // sort
         var sortField = spec.getSortField();
 
@@ -84,11 +98,59 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         return filteredStream.skip(spec.getOffset()).limit(spec.getLimit());
     }
 
+    private Stream<T> applyCursor(Stream<T> stream, QuerySpec spec, QueryCursor cursor) {
+        var sortField = spec.getSortField();
+        // an unsorted query is paginated by ascending id
+        var ascending = sortField == null || spec.getSortOrder() == SortOrder.ASC;
+        var sortedById = sortField == null || sortField.equals(ID_FIELD);
+        if (!sortedById) {
+            var field = ReflectionUtil.getFieldRecursive(typeParameterClass, sortField);
+            if (field == null) {
+                throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
+            }
+            if (!cursor.isSortValueOf(field.getType())) {
+                throw new IllegalArgumentException(format("Cannot paginate by %s with a cursor whose sort value is a %s",
+                        sortField, cursor.sortValue().getClass().getSimpleName()));
+            }
+        }
+
+        if (!sortedById && cursor.id() != null && !cursor.nullSortValues() && cursor.sortValue() == null) {
+            throw new IllegalArgumentException(format("Cannot paginate by %s with a cursor that has no sort value", sortField));
+        }
+
+        // as in the sql stores, elements with a null sort value are a separate segment, selected only by a cursor
+        // that points into it and ordered by id
+        var bySortValue = !sortedById && !cursor.nullSortValues();
+        var segment = sortedById ? stream : stream.filter(item -> (propertyLookup.getProperty(sortField, item) == null) == cursor.nullSortValues());
+
+        // the same order is used to sort and to seek past the cursor
+        var order = positionComparator(ascending);
+        Function<T, Position> position = item -> new Position(
+                bySortValue ? propertyLookup.getProperty(sortField, item) : null,
+                String.valueOf(propertyLookup.getProperty(ID_FIELD, item)));
+
+        var sorted = segment.map(item -> Map.entry(position.apply(item), item))
+                .sorted(Map.Entry.comparingByKey(order));
+        if (cursor.id() != null) {
+            var cursorPosition = new Position(bySortValue ? cursor.sortValue() : null, cursor.id());
+            sorted = sorted.filter(entry -> order.compare(entry.getKey(), cursorPosition) > 0);
+        }
+        return sorted.map(Map.Entry::getValue).limit(spec.getLimit());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Comparator<Position> positionComparator(boolean isAscending) {
+        Comparator<Comparable> natural = Comparator.naturalOrder();
+        Comparator<Comparable> direction = isAscending ? natural : natural.reversed();
+        return Comparator.comparing((Position position) -> (Comparable) position.sortValue(), Comparator.nullsLast(direction))
+                .thenComparing(position -> (Comparable) position.id(), direction);
+    }
+
     @NotNull
     private Comparator<T> propertyComparator(boolean isAscending, String property) {
         return (obj1, obj2) -> {
-            var o1 = ReflectionUtil.getFieldValue(property, obj1);
-            var o2 = ReflectionUtil.getFieldValue(property, obj2);
+            var o1 = propertyLookup.getProperty(property, obj1);
+            var o2 = propertyLookup.getProperty(property, obj2);
 
             if (o1 == null || o2 == null) {
                 return 0;
@@ -102,4 +164,7 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         };
     }
 
+    private record Position(Object sortValue, String id) {
+    }
+
 }
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.store;
+
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class InMemoryStatefulEntityStoreTest {
+
+    private static final int INITIAL = 100;
+    private static final int NEXT = 200;
+
+    private final InMemoryStatefulEntityStore<TestEntity> store = new InMemoryStatefulEntityStore<>(TestEntity.class,
+            "lock-id", Clock.systemUTC(), CriterionOperatorRegistryImpl.ofDefaults());
+
+    @Test
+    void findByIdAndLease_shouldReturnCopy() {
+        store.save(entity("id", INITIAL, 10));
+
+        var leased = store.findByIdAndLease("id").getContent();
+        leased.moveTo(NEXT, 20);
+
+        assertThat(store.findById("id")).extracting(StatefulEntity::getState).isEqualTo(INITIAL);
+    }
+
+    @Test
+    void save_afterLease_shouldReindexByNewState() {
+        store.save(entity("id", INITIAL, 10));
+
+        var leased = store.findByIdAndLease("id").getContent();
+        leased.moveTo(NEXT, 20);
+        store.save(leased);
+
+        assertThat(store.nextNotLeased(10, criterion("state", "=", INITIAL))).isEmpty();
+        assertThat(store.nextNotLeased(10, criterion("state", "=", NEXT))).hasSize(1).first()
+                .satisfies(entity -> {
+                    assertThat(entity.getId()).isEqualTo("id");
+                    assertThat(entity.getStateTimestamp()).isEqualTo(20);
+                });
+    }
+
+    @Test
+    void save_afterLease_shouldReindexByNewStateTimestamp() {
+        store.save(entity("first", INITIAL, 10));
+        store.save(entity("second", INITIAL, 20));
+
+        var leased = store.findByIdAndLease("first").getContent();
+        leased.moveTo(INITIAL, 30);
+        store.save(leased);
+
+        assertThat(store.nextNotLeased(1, criterion("state", "=", INITIAL)))
+                .extracting(StatefulEntity::getId).containsExactly("second");
+        assertThat(store.nextNotLeased(1, criterion("state", "=", INITIAL)))
+                .extracting(StatefulEntity::getId).containsExactly("first");
+    }
+
+    @Test
+    void delete_afterLeasedEntityChanged_shouldRemoveIndex() {
+        store.save(entity("id", INITIAL, 10));
+        var leased = store.findByIdAndLease("id").getContent();
+        leased.moveTo(NEXT, 20);
+        store.save(leased);
+
+        store.delete("id");
+
+        assertThat(store.nextNotLeased(10, criterion("state", "=", INITIAL))).isEmpty();
+        assertThat(store.nextNotLeased(10, criterion("state", "=", NEXT))).isEmpty();
+    }
+
+    private TestEntity entity(String id, int state, long stateTimestamp) {
+        return TestEntity.Builder.newInstance().id(id).state(state).stateTimestamp(stateTimestamp).build();
+    }
+
+    public static class TestEntity extends StatefulEntity<TestEntity> {
+
+        @Override
+        public TestEntity copy() {
+            return copy(Builder.newInstance());
+        }
+
+        @Override
+        public String stateAsString() {
+            return String.valueOf(state);
+        }
+
+        void moveTo(int targetState, long timestamp) {
+            transitionTo(targetState);
+            stateTimestamp = timestamp;
+        }
+
+        public static class Builder extends StatefulEntity.Builder<TestEntity, Builder> {
+
+            private Builder(TestEntity entity) {
+                super(entity);
+            }
+
+            public static Builder newInstance() {
+                return new Builder(new TestEntity());
+            }
+
+            @Override
+            public Builder self() {
+                return this;
+            }
+
+            @Override
+            public TestEntity build() {
+                return super.build();
+            }
+        }
+    }
+}
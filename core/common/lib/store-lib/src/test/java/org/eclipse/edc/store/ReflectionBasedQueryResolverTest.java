@@ -16,6 +16,7 @@ package org.eclipse.edc.store;
 
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -119,6 +120,48 @@ class ReflectionBasedQueryResolverTest {
         assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(8, 7);
     }
 
+    @Test
+    void verifyQuery_cursor() {
+        var stream = IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, i % 2 == 0 ? "Alice" : "Bob"));
+
+        var spec = QuerySpec.Builder.newInstance().sortField("name").offset(3).limit(3).cursor(new QueryCursor("Alice", "6")).build();
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(8, 1, 3);
+    }
+
+    @Test
+    void verifyQuery_cursor_shouldPaginateNullSortValuesAsSeparateSegment() {
+        var items = IntStream.range(0, 6).mapToObj(i -> i < 2 ? new FakeItem(i) : new FakeItem(i, i % 2 == 0 ? "Alice" : "Bob")).toList();
+
+        var firstPage = QuerySpec.Builder.newInstance().sortField("name").limit(4).cursor(QueryCursor.START).build();
+        assertThat(queryResolver.query(items.stream(), firstPage)).extracting(FakeItem::getId).containsExactly(2, 4, 3, 5);
+
+        var secondPage = QuerySpec.Builder.newInstance().sortField("name").limit(4).cursor(new QueryCursor("Bob", "5")).build();
+        assertThat(queryResolver.query(items.stream(), secondPage)).isEmpty();
+
+        var nulls = QuerySpec.Builder.newInstance().sortField("name").limit(4).cursor(QueryCursor.NULL_SORT_VALUES).build();
+        assertThat(queryResolver.query(items.stream(), nulls)).extracting(FakeItem::getId).containsExactly(0, 1);
+
+        var withinNulls = QuerySpec.Builder.newInstance().sortField("name").limit(4).cursor(new QueryCursor(null, "0", true)).build();
+        assertThat(queryResolver.query(items.stream(), withinNulls)).extracting(FakeItem::getId).containsExactly(1);
+    }
+
+    @Test
+    void verifyQuery_cursor_desc() {
+        var stream = IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, i % 2 == 0 ? "Alice" : "Bob"));
+
+        var spec = QuerySpec.Builder.newInstance().sortField("name").sortOrder(SortOrder.DESC).limit(3).cursor(new QueryCursor("Bob", "3")).build();
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(1, 8, 6);
+    }
+
+    @Test
+    void verifyQuery_cursor_shouldThrow_whenSortValueTypeDoesNotMatchField() {
+        var stream = IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, "Alice"));
+
+        var spec = QuerySpec.Builder.newInstance().sortField("name").cursor(new QueryCursor(42L, "3")).build();
+
+        assertThatThrownBy(() -> queryResolver.query(stream, spec)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void verifyExceptionThrown_invalidCriterion() {
         var stream = Stream.concat(
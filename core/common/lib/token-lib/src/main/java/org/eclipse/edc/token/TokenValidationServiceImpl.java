@@ -17,7 +17,7 @@ package org.eclipse.edc.token;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.keys.spi.PublicKeyResolver;
-import org.eclipse.edc.security.token.jwt.CryptoConverter;
+import org.eclipse.edc.security.token.jwt.JwsVerifierCache;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.AbstractResult;
@@ -30,7 +30,14 @@ import java.util.List;
 
 public class TokenValidationServiceImpl implements TokenValidationService {
 
+    private final JwsVerifierCache verifierCache;
+
     public TokenValidationServiceImpl() {
+        this(new JwsVerifierCache(JwsVerifierCache.DEFAULT_CACHE_SIZE));
+    }
+
+    public TokenValidationServiceImpl(JwsVerifierCache verifierCache) {
+        this.verifierCache = verifierCache;
     }
 
     @Override
@@ -47,9 +54,9 @@ public class TokenValidationServiceImpl implements TokenValidationService {
                 return publicKeyResolutionResult.mapFailure();
             }
 
-            var verifierCreationResult = CryptoConverter.createVerifierFor(publicKeyResolutionResult.getContent());
+            var verifier = verifierCache.getVerifier(publicKeyId, publicKeyResolutionResult.getContent());
 
-            if (!signedJwt.verify(verifierCreationResult)) {
+            if (!signedJwt.verify(verifier)) {
                 return Result.failure("Token verification failed");
             }
 
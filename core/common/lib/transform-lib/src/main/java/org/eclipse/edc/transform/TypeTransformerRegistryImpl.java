@@ -19,23 +19,32 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.lang.String.format;
 
+/**
+ * Default {@link TypeTransformerRegistry}. The transformer that handles a given (input class, output type) pair is
+ * looked up once and then served from a dispatch cache, which is reset on every registration.
+ */
 public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     private final Map<String, Class<?>> aliases = new HashMap<>();
-    private final List<TypeTransformer<?, ?>> transformers = new ArrayList<>();
-    private final Map<String, TypeTransformerRegistry> contextRegistries = new HashMap<>();
+    private final List<TypeTransformer<?, ?>> transformers = new CopyOnWriteArrayList<>();
+    private final Map<DispatchKey, Optional<TypeTransformer<?, ?>>> dispatchCache = new ConcurrentHashMap<>();
+    private final Map<String, TypeTransformerRegistry> contextRegistries = new ConcurrentHashMap<>();
 
     @Override
     public void register(TypeTransformer<?, ?> transformer) {
         this.transformers.add(transformer);
+        dispatchCache.clear();
     }
 
     @Override
@@ -45,11 +54,22 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
 
     @Override
     public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-        return transformers.stream()
-                .filter(t -> t.getInputType().isInstance(input) && t.getOutputType().equals(outputType))
-                .findAny()
-                .map(it -> (TypeTransformer<INPUT, OUTPUT>) it)
-                .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
+        var transformer = findTransformer(input.getClass(), outputType);
+        if (transformer == null) {
+            throw new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType));
+        }
+        return transformer;
+    }
+
+    /**
+     * Returns the transformer that handles the input class and the output type, null if none is registered.
+     */
+    @SuppressWarnings("unchecked")
+    protected <INPUT, OUTPUT> @Nullable TypeTransformer<INPUT, OUTPUT> findTransformer(Class<?> inputClass, Class<OUTPUT> outputType) {
+        return (TypeTransformer<INPUT, OUTPUT>) dispatchCache.computeIfAbsent(new DispatchKey(inputClass, outputType), key -> transformers.stream()
+                        .filter(t -> t.getInputType().isAssignableFrom(key.inputClass()) && t.getOutputType().equals(key.outputType()))
+                        .findFirst())
+                .orElse(null);
     }
 
     @Override
@@ -66,11 +86,14 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
         }
     }
 
+    private record DispatchKey(Class<?> inputClass, Class<?> outputType) {
+    }
+
     private static class ContextTransformerRegistry extends TypeTransformerRegistryImpl {
 
-        private final TypeTransformerRegistry parent;
+        private final TypeTransformerRegistryImpl parent;
 
-        ContextTransformerRegistry(TypeTransformerRegistry parent) {
+        ContextTransformerRegistry(TypeTransformerRegistryImpl parent) {
             this.parent = parent;
         }
 
@@ -80,12 +103,9 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
         }
 
         @Override
-        public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-            try {
-                return super.transformerFor(input, outputType);
-            } catch (EdcException e) {
-                return parent.transformerFor(input, outputType);
-            }
+        protected <INPUT, OUTPUT> @Nullable TypeTransformer<INPUT, OUTPUT> findTransformer(Class<?> inputClass, Class<OUTPUT> outputType) {
+            TypeTransformer<INPUT, OUTPUT> transformer = super.findTransformer(inputClass, outputType);
+            return transformer != null ? transformer : parent.findTransformer(inputClass, outputType);
         }
     }
 }
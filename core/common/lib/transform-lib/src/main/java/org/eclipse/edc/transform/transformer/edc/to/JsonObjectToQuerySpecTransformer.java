@@ -17,17 +17,20 @@ package org.eclipse.edc.transform.transformer.edc.to;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.jsonld.spi.transformer.AbstractJsonLdTransformer;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.transform.spi.TransformerContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CURSOR;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_SORT_FIELD;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_SORT_ORDER;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 
 public class JsonObjectToQuerySpecTransformer extends AbstractJsonLdTransformer<JsonObject, QuerySpec> {
 
@@ -51,6 +54,8 @@ public class JsonObjectToQuerySpecTransformer extends AbstractJsonLdTransformer<
                     return v -> builder.sortOrder(SortOrder.valueOf(transformString(v, context)));
                 case EDC_QUERY_SPEC_SORT_FIELD:
                     return v -> builder.sortField(transformString(v, context));
+                case EDC_QUERY_SPEC_CURSOR:
+                    return v -> builder.cursor(transformCursor(transformString(v, context), context));
                 default:
                     return doNothing();
             }
@@ -59,4 +64,22 @@ public class JsonObjectToQuerySpecTransformer extends AbstractJsonLdTransformer<
         return builder.build();
     }
 
+    private @Nullable QueryCursor transformCursor(@Nullable String token, TransformerContext context) {
+        if (token == null) {
+            return null;
+        }
+        try {
+            return QueryCursor.decode(token);
+        } catch (IllegalArgumentException e) {
+            context.problem()
+                    .invalidProperty()
+                    .type(EDC_QUERY_SPEC_TYPE)
+                    .property(EDC_QUERY_SPEC_CURSOR)
+                    .value(token)
+                    .error(e.getMessage())
+                    .report();
+            return null;
+        }
+    }
+
 }
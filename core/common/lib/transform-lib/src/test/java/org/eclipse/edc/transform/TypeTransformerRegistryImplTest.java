@@ -43,6 +43,15 @@ public class TypeTransformerRegistryImplTest {
             assertThat(transformer).isInstanceOf(StringIntegerTypeTransformer.class);
         }
 
+        @Test
+        void shouldReturnTransformer_whenRegisteredAfterFailedLookup() {
+            assertThatThrownBy(() -> registry.transformerFor(5, String.class)).isInstanceOf(EdcException.class);
+
+            registry.register(new IntegerStringTypeTransformer());
+
+            assertThat(registry.transformerFor(5, String.class)).isInstanceOf(IntegerStringTypeTransformer.class);
+        }
+
         @Test
         void shouldThrowExceptionWhenTransformerDoesNotExist() {
             var notString = 4L;
@@ -74,6 +83,15 @@ public class TypeTransformerRegistryImplTest {
             assertThatThrownBy(() -> registry.transform(5, String.class)).isInstanceOf(EdcException.class);
         }
 
+        @Test
+        void shouldFallbackToDefaultTransformer_whenRegisteredAfterFirstLookup() {
+            assertThatThrownBy(() -> contextRegistry.transformerFor(5, String.class)).isInstanceOf(EdcException.class);
+
+            registry.register(new IntegerStringTypeTransformer());
+
+            assertThat(contextRegistry.transform(5, String.class)).isSucceeded().isEqualTo("5");
+        }
+
         @Test
         void shouldThrowException_whenForContextIsCalled() {
             assertThatThrownBy(() -> contextRegistry.forContext("any")).isInstanceOf(EdcException.class);
@@ -17,12 +17,14 @@ package org.eclipse.edc.transform.transformer.edc.to;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.transform.spi.TransformerContext;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CURSOR;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -76,4 +78,19 @@ class JsonObjectToQuerySpecTransformerTest {
         verify(context).transform(any(), eq(Criterion.class));
     }
 
+    @Test
+    void transform_withCursor() {
+        var cursor = new QueryCursor(1000L, "last-id");
+        var json = Json.createObjectBuilder()
+                .add(TYPE, EDC_QUERY_SPEC_TYPE)
+                .add(EDC_QUERY_SPEC_SORT_FIELD, "createdAt")
+                .add(EDC_QUERY_SPEC_CURSOR, cursor.encode())
+                .build();
+
+        var result = transformer.transform(getExpanded(json), context);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getCursor()).isEqualTo(cursor);
+    }
+
 }
@@ -20,25 +20,40 @@ import org.eclipse.edc.keys.spi.PrivateKeyResolver;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.security.token.jwt.CachingJwsSignerProvider;
 import org.eclipse.edc.security.token.jwt.DefaultJwsSignerProvider;
+import org.eclipse.edc.security.token.jwt.JwsVerifierCache;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.token.spi.TokenDecoratorRegistry;
 import org.eclipse.edc.token.spi.TokenValidationRulesRegistry;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
+import java.time.Clock;
+
 import static org.eclipse.edc.token.TokenServicesExtension.NAME;
 
 /**
- * This extension registers the {@link TokenValidationService} and the {@link TokenValidationRulesRegistry}
- * which can then be used by downstream modules.
+ * This extension registers the {@link TokenValidationService}, the {@link TokenValidationRulesRegistry} and the
+ * {@link JwsVerifierCache} used to verify signatures, which can then be used by downstream modules.
  */
 @Extension(value = NAME, categories = { "token", "security", "auth" })
 public class TokenServicesExtension implements ServiceExtension {
     public static final String NAME = "Token Services Extension";
 
+    public static final long DEFAULT_SIGNER_CACHE_VALIDITY_MILLIS = 0;
+    @Setting(value = "Validity in milliseconds of the JWS signers cached per private key alias. A key rotated or removed in the vault keeps being used until its signer expires. 0 disables the cache.", defaultValue = DEFAULT_SIGNER_CACHE_VALIDITY_MILLIS + "", type = "long")
+    public static final String SIGNER_CACHE_VALIDITY = "edc.iam.signer.cache.validity";
+
     @Inject
     private PrivateKeyResolver privateKeyResolver;
 
+    @Inject
+    private Clock clock;
+
+    private JwsVerifierCache verifierCache;
+
     @Provider
     public TokenValidationRulesRegistry tokenValidationRulesRegistry() {
         return new TokenValidationRulesRegistryImpl();
@@ -46,7 +61,15 @@ public class TokenServicesExtension implements ServiceExtension {
 
     @Provider
     public TokenValidationService validationService() {
-        return new TokenValidationServiceImpl();
+        return new TokenValidationServiceImpl(jwsVerifierCache());
+    }
+
+    @Provider
+    public JwsVerifierCache jwsVerifierCache() {
+        if (verifierCache == null) {
+            verifierCache = new JwsVerifierCache(JwsVerifierCache.DEFAULT_CACHE_SIZE);
+        }
+        return verifierCache;
     }
 
     @Provider
@@ -55,8 +78,13 @@ public class TokenServicesExtension implements ServiceExtension {
     }
 
     @Provider(isDefault = true)
-    public JwsSignerProvider defaultSignerProvider() {
-        return new DefaultJwsSignerProvider(privateKeyResolver);
+    public JwsSignerProvider defaultSignerProvider(ServiceExtensionContext context) {
+        var signerProvider = new DefaultJwsSignerProvider(privateKeyResolver);
+        var cacheValidity = context.getSetting(SIGNER_CACHE_VALIDITY, DEFAULT_SIGNER_CACHE_VALIDITY_MILLIS);
+        if (cacheValidity <= 0) {
+            return signerProvider;
+        }
+        return new CachingJwsSignerProvider(signerProvider, clock, cacheValidity);
     }
 
     @Provider(isDefault = true)
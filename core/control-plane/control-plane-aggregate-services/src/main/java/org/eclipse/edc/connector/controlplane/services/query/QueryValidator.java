@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.controlplane.services.query;
 
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
@@ -55,7 +56,8 @@ public class QueryValidator {
     }
 
     /**
-     * Validates a {@link QuerySpec} whether it conforms to a particular schema (e.g. a Java class) or not
+     * Validates a {@link QuerySpec} whether it conforms to a particular schema (e.g. a Java class) or not. When the
+     * query carries a {@link QueryCursor}, its sort value must be of the type of the sort field.
      */
     public Result<Void> validate(QuerySpec query) {
         return query.getFilterExpression().stream()
@@ -63,7 +65,8 @@ public class QueryValidator {
                 .map(Object::toString)
                 .map(this::isValid)
                 .reduce(Result::merge)
-                .orElse(Result.success());
+                .orElse(Result.success())
+                .merge(validateCursor(query));
     }
 
     /**
@@ -73,6 +76,27 @@ public class QueryValidator {
      * @param path The path. Cannot start or end with a "."
      */
     protected Result<Void> isValid(String path) {
+        return resolveType(path).mapTo();
+    }
+
+    private Result<Void> validateCursor(QuerySpec query) {
+        var cursor = query.getCursor();
+        if (cursor == null || cursor.sortValue() == null || query.getSortField() == null) {
+            return Result.success();
+        }
+
+        var type = resolveType(query.getSortField());
+        if (type.failed()) {
+            return type.mapTo();
+        }
+        if (!cursor.isSortValueOf(type.getContent())) {
+            return Result.failure(format("Cursor sort value of type %s does not match the type %s of the sort field %s",
+                    cursor.sortValue().getClass().getSimpleName(), type.getContent().getSimpleName(), query.getSortField()));
+        }
+        return Result.success();
+    }
+
+    private Result<Class<?>> resolveType(String path) {
         if (path.endsWith(".") || path.startsWith(".")) {
             return Result.failure("Invalid path expression");
         }
@@ -86,7 +110,7 @@ public class QueryValidator {
             if (type == Map.class) {
                 var pattern = Pattern.compile("^[0-9A-Za-z.':/@]*$");
                 var matcher = pattern.matcher(path);
-                return matcher.find() ? Result.success() :
+                return matcher.find() ? Result.success(Object.class) :
                         Result.failure("Querying Map types is not yet supported");
             }
             var field = getFieldIncludingSubtypes(type, token);
@@ -100,7 +124,7 @@ public class QueryValidator {
                 return Result.failure(format("Field %s not found on type %s", token, type));
             }
         }
-        return Result.success();
+        return Result.success(type);
     }
 
     private Field getFieldIncludingSubtypes(Class<?> type, String token) {
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.controlplane.services.query;
 
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -124,6 +125,27 @@ class QueryValidatorTest {
         assertThat(result.succeeded()).isTrue();
     }
 
+    @Test
+    void validate_cursorSortValueMatchesSortField() {
+        var queryValidator = new QueryValidator(TestObject.class);
+        var query = QuerySpec.Builder.newInstance().sortField("someString").cursor(new QueryCursor("foobar", "id")).build();
+
+        var result = queryValidator.validate(query);
+
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    void validate_cursorSortValueDoesNotMatchSortField() {
+        var queryValidator = new QueryValidator(TestObject.class);
+        var query = QuerySpec.Builder.newInstance().sortField("someString").cursor(new QueryCursor(42L, "id")).build();
+
+        var result = queryValidator.validate(query);
+
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.getFailureDetail()).contains("someString");
+    }
+
     private static class InvalidFilters implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
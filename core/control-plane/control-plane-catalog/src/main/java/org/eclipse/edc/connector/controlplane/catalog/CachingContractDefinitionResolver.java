@@ -0,0 +1,207 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionResolver;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ResolvedContractDefinitions;
+import org.eclipse.edc.connector.controlplane.catalog.spi.policy.CatalogPolicyContext;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
+import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionEvent;
+import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.query.QuerySpec;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * {@link ContractDefinitionResolver} that keeps the contract definitions and the policies they reference in memory,
+ * and memoizes the access policy evaluation per participant agent.
+ * <p>
+ * Cached data is dropped whenever a {@link ContractDefinitionEvent} or a {@link PolicyDefinitionEvent} is received, and
+ * in any case after the configured time-to-live, which bounds staleness in clustered deployments where events are not
+ * propagated between instances. Agents are distinguished by their identity and a SHA-256 digest of the JSON serialization
+ * of their claims and attributes, so claim types that do not implement {@code equals} (e.g. verifiable credentials)
+ * still hit the cache. Agents whose claims cannot be serialized are always evaluated.
+ */
+public class CachingContractDefinitionResolver implements ContractDefinitionResolver, EventSubscriber {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final ContractDefinitionStore definitionStore;
+    private final PolicyEngine policyEngine;
+    private final PolicyDefinitionStore policyStore;
+    private final Clock clock;
+    private final ObjectMapper mapper;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<EvaluationKey, CachedEvaluation> evaluations = new ConcurrentHashMap<>();
+    private long generation = 0;
+    private volatile Snapshot snapshot;
+
+    public CachingContractDefinitionResolver(ContractDefinitionStore definitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore,
+                                             Clock clock, ObjectMapper mapper, long ttlMillis, int maxEntries) {
+        this.definitionStore = definitionStore;
+        this.policyEngine = policyEngine;
+        this.policyStore = policyStore;
+        this.clock = clock;
+        // map entries are sorted so that equal claims always produce the same digest
+        this.mapper = mapper.copy().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public ResolvedContractDefinitions resolveFor(ParticipantAgent agent) {
+        var current = currentSnapshot();
+        var fingerprint = fingerprint(agent);
+
+        var definitions = current.definitions().stream()
+                .filter(definition -> isAccessGranted(current, fingerprint, agent, definition.getAccessPolicyId()))
+                .toList();
+
+        return new ResolvedContractDefinitions(definitions, new HashMap<>(current.policies()));
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        invalidate();
+    }
+
+    /**
+     * Drops all the cached definitions, policies and evaluation results.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        snapshot = null;
+        evaluations.clear();
+    }
+
+    private boolean isAccessGranted(Snapshot current, AgentFingerprint fingerprint, ParticipantAgent agent, String policyId) {
+        var policy = current.policies().get(policyId);
+        if (policy == null) {
+            return false;
+        }
+
+        if (fingerprint == null) {
+            return evaluate(policy, agent);
+        }
+
+        var now = clock.millis();
+        var key = new EvaluationKey(current.generation(), fingerprint, policyId);
+        var cached = evaluations.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.granted();
+        }
+
+        var granted = evaluate(policy, agent);
+        if (evaluations.size() >= maxEntries) {
+            evaluations.values().removeIf(evaluation -> evaluation.expiresAt() <= now);
+            if (evaluations.size() >= maxEntries) {
+                evaluations.clear();
+            }
+        }
+        evaluations.put(key, new CachedEvaluation(granted, now + ttlMillis));
+        return granted;
+    }
+
+    private boolean evaluate(Policy policy, ParticipantAgent agent) {
+        return policyEngine.evaluate(policy, new CatalogPolicyContext(agent)).succeeded();
+    }
+
+    private AgentFingerprint fingerprint(ParticipantAgent agent) {
+        try {
+            var digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            digest.update(mapper.writeValueAsBytes(agent.getClaims()));
+            digest.update(mapper.writeValueAsBytes(agent.getAttributes()));
+            return new AgentFingerprint(agent.getIdentity(), Base64.getEncoder().encodeToString(digest.digest()));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private Snapshot currentSnapshot() {
+        var current = snapshot;
+        var now = clock.millis();
+        if (current != null && current.expiresAt() > now) {
+            return current;
+        }
+
+        long loadingGeneration;
+        synchronized (this) {
+            loadingGeneration = generation;
+        }
+
+        var loaded = load(loadingGeneration, now);
+
+        synchronized (this) {
+            // an invalidation that happened while loading must not be overwritten with possibly stale data
+            if (generation == loadingGeneration) {
+                snapshot = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private Snapshot load(long generation, long now) {
+        List<ContractDefinition> definitions;
+        try (var stream = definitionStore.findAll(QuerySpec.max())) {
+            definitions = stream.toList();
+        }
+
+        var policies = new HashMap<String, Policy>();
+        definitions.stream()
+                .flatMap(definition -> Stream.of(definition.getAccessPolicyId(), definition.getContractPolicyId()))
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(policyId -> Optional.ofNullable(policyStore.findById(policyId))
+                        .map(PolicyDefinition::getPolicy)
+                        .ifPresent(policy -> policies.put(policyId, policy)));
+
+        return new Snapshot(generation, definitions, Map.copyOf(policies), now + ttlMillis);
+    }
+
+    private record Snapshot(long generation, List<ContractDefinition> definitions, Map<String, Policy> policies, long expiresAt) {
+    }
+
+    private record AgentFingerprint(String identity, String digest) {
+    }
+
+    private record EvaluationKey(long generation, AgentFingerprint agent, String policyId) {
+    }
+
+    private record CachedEvaluation(boolean granted, long expiresAt) {
+    }
+}
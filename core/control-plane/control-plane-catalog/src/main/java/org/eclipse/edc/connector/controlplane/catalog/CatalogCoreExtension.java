@@ -15,18 +15,26 @@
 package org.eclipse.edc.connector.controlplane.catalog;
 
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DistributionResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.policy.CatalogPolicyContext;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
 
 import static org.eclipse.edc.connector.controlplane.catalog.spi.policy.CatalogPolicyContext.CATALOG_SCOPE;
 
@@ -35,6 +43,19 @@ public class CatalogCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Catalog Core";
 
+    public static final boolean DEFAULT_CACHE_ENABLED = false;
+    public static final long DEFAULT_CACHE_TTL_MILLIS = 60_000;
+    public static final int DEFAULT_CACHE_MAX_ENTRIES = 10_000;
+
+    @Setting(value = "Enables the in-memory cache of contract definitions, policies and access policy evaluation results used to resolve catalogs", type = "boolean", defaultValue = DEFAULT_CACHE_ENABLED + "")
+    private static final String CATALOG_CACHE_ENABLED = "edc.catalog.cache.enabled";
+
+    @Setting(value = "Time-to-live in milliseconds of the cached contract definitions and access policy evaluation results", type = "long", defaultValue = DEFAULT_CACHE_TTL_MILLIS + "")
+    private static final String CATALOG_CACHE_TTL_MILLIS = "edc.catalog.cache.ttl.ms";
+
+    @Setting(value = "Maximum number of access policy evaluation results kept in the cache", type = "int", defaultValue = DEFAULT_CACHE_MAX_ENTRIES + "")
+    private static final String CATALOG_CACHE_MAX_ENTRIES = "edc.catalog.cache.max-entries";
+
     @Inject
     private AssetIndex assetIndex;
 
@@ -53,6 +74,17 @@ public class CatalogCoreExtension implements ServiceExtension {
     @Inject
     private PolicyEngine policyEngine;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private TypeManager typeManager;
+
+    private ContractDefinitionResolver contractDefinitionResolver;
+
     @Override
     public String name() {
         return NAME;
@@ -61,11 +93,22 @@ public class CatalogCoreExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         policyEngine.registerScope(CATALOG_SCOPE, CatalogPolicyContext.class);
+
+        if (context.getSetting(CATALOG_CACHE_ENABLED, DEFAULT_CACHE_ENABLED)) {
+            var ttl = context.getSetting(CATALOG_CACHE_TTL_MILLIS, DEFAULT_CACHE_TTL_MILLIS);
+            var maxEntries = context.getSetting(CATALOG_CACHE_MAX_ENTRIES, DEFAULT_CACHE_MAX_ENTRIES);
+            var cachingResolver = new CachingContractDefinitionResolver(contractDefinitionStore, policyEngine, policyDefinitionStore, clock,
+                    typeManager.getMapper(), ttl, maxEntries);
+            eventRouter.registerSync(ContractDefinitionEvent.class, cachingResolver);
+            eventRouter.registerSync(PolicyDefinitionEvent.class, cachingResolver);
+            contractDefinitionResolver = cachingResolver;
+        } else {
+            contractDefinitionResolver = new ContractDefinitionResolverImpl(contractDefinitionStore, policyEngine, policyDefinitionStore);
+        }
     }
 
     @Provider
     public DatasetResolver datasetResolver() {
-        var contractDefinitionResolver = new ContractDefinitionResolverImpl(contractDefinitionStore, policyEngine, policyDefinitionStore);
         return new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
                 distributionResolver, criterionOperatorRegistry);
     }
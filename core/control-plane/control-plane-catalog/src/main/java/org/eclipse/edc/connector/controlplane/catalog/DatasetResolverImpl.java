@@ -30,21 +30,27 @@ import org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema;
 import org.eclipse.edc.participant.spi.ParticipantAgent;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.policy.model.PolicyType;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-import static java.lang.Integer.MAX_VALUE;
+import static java.util.Collections.emptyList;
 
 public class DatasetResolverImpl implements DatasetResolver {
 
+    private static final int MIN_PAGE_SIZE = 100;
+    private static final String ASSET_ID_FIELD = "id";
+
     private final ContractDefinitionResolver contractDefinitionResolver;
     private final AssetIndex assetIndex;
     private final PolicyDefinitionStore policyDefinitionStore;
@@ -69,10 +75,35 @@ public class DatasetResolverImpl implements DatasetResolver {
         if (contractDefinitions.isEmpty()) {
             return Stream.empty();
         }
-        
-        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
-        return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset, resolved.policies()))
+
+        var commonCriteria = commonSelectorCriteria(contractDefinitions);
+        var selectors = compileSelectors(contractDefinitions, commonCriteria);
+
+        var filter = new ArrayList<>(querySpec.getFilterExpression());
+        filter.addAll(commonCriteria);
+
+        if (selectors.stream().allMatch(CompiledSelector::matchesAll)) {
+            // every asset returned by the index gets the same offers, so either all of them or none has an offer
+            var hasContractPolicy = contractDefinitions.stream()
+                    .anyMatch(definition -> contractPolicy(definition, resolved.policies()) != null);
+            if (!hasContractPolicy) {
+                return Stream.empty();
+            }
+            // no dataset gets filtered out, so paging can be delegated entirely
+            var assetsQuery = QuerySpec.Builder.newInstance()
+                    .offset(querySpec.getOffset())
+                    .limit(querySpec.getLimit())
+                    .filter(filter)
+                    .sortField(Optional.ofNullable(querySpec.getSortField()).orElse(ASSET_ID_FIELD))
+                    .sortOrder(querySpec.getSortOrder())
+                    .build();
+            return assetIndex.queryAssets(assetsQuery)
+                    .map(asset -> toDataset(selectors, asset, resolved.policies()));
+        }
+
+        var pageSize = Math.max(querySpec.getLimit(), MIN_PAGE_SIZE);
+        return pagedAssets(filter, pageSize)
+                .map(asset -> toDataset(selectors, asset, resolved.policies()))
                 .filter(Dataset::hasOffers)
                 .skip(querySpec.getOffset())
                 .limit(querySpec.getLimit());
@@ -85,14 +116,64 @@ public class DatasetResolverImpl implements DatasetResolver {
         if (contractDefinitions.isEmpty()) {
             return null;
         }
-        
+
+        var selectors = compileSelectors(contractDefinitions, emptyList());
         return Optional.of(id)
                 .map(assetIndex::findById)
-                .map(asset -> toDataset(contractDefinitions, asset, resolved.policies()))
+                .map(asset -> toDataset(selectors, asset, resolved.policies()))
                 .filter(Dataset::hasOffers)
                 .orElse(null);
     }
 
+    /**
+     * Lazily pages through the {@link AssetIndex}: a new page is only fetched once the previous one has been consumed,
+     * and only if the previous one was full. Pages are sorted by asset id, so that no asset is skipped or returned twice
+     * across the separate queries.
+     */
+    private Stream<Asset> pagedAssets(List<Criterion> filter, int pageSize) {
+        return Stream.iterate(fetchPage(filter, 0, pageSize),
+                        Objects::nonNull,
+                        page -> page.isLast(pageSize) ? null : fetchPage(filter, page.offset() + pageSize, pageSize))
+                .flatMap(page -> page.assets().stream());
+    }
+
+    private AssetPage fetchPage(List<Criterion> filter, int offset, int pageSize) {
+        var query = QuerySpec.Builder.newInstance().offset(offset).limit(pageSize).filter(filter).sortField(ASSET_ID_FIELD).build();
+        try (var assets = assetIndex.queryAssets(query)) {
+            return new AssetPage(offset, assets.toList());
+        }
+    }
+
+    /**
+     * Criteria that are part of the assets selector of every contract definition can be evaluated by the
+     * {@link AssetIndex} directly, as an asset not matching them cannot be part of any offer.
+     */
+    private List<Criterion> commonSelectorCriteria(List<ContractDefinition> contractDefinitions) {
+        var first = contractDefinitions.get(0).getAssetsSelector();
+        return first.stream()
+                .distinct()
+                .filter(criterion -> contractDefinitions.stream().allMatch(definition -> definition.getAssetsSelector().contains(criterion)))
+                .toList();
+    }
+
+    /**
+     * Builds the asset selector predicate of every contract definition once, leaving out the criteria that have
+     * already been pushed down to the {@link AssetIndex}.
+     */
+    private List<CompiledSelector> compileSelectors(List<ContractDefinition> contractDefinitions, List<Criterion> pushedDown) {
+        return contractDefinitions.stream()
+                .map(definition -> {
+                    var residual = definition.getAssetsSelector().stream()
+                            .filter(criterion -> !pushedDown.contains(criterion))
+                            .toList();
+                    var predicate = residual.stream()
+                            .<Predicate<Asset>>map(criterionOperatorRegistry::toPredicate)
+                            .reduce(x -> true, Predicate::and);
+                    return new CompiledSelector(definition, predicate, residual.isEmpty());
+                })
+                .toList();
+    }
+
     private Dataset.Builder<?, ?> buildDataset(Asset asset) {
         if (!asset.isCatalog()) {
             return Dataset.Builder.newInstance();
@@ -106,7 +187,7 @@ public class DatasetResolverImpl implements DatasetResolver {
                         .build());
     }
 
-    private Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset, Map<String, Policy> policies) {
+    private Dataset toDataset(List<CompiledSelector> selectors, Asset asset, Map<String, Policy> policies) {
 
         var distributions = distributionResolver.getDistributions(asset);
         var datasetBuilder = buildDataset(asset)
@@ -114,19 +195,11 @@ public class DatasetResolverImpl implements DatasetResolver {
                 .distributions(distributions)
                 .properties(asset.getProperties());
 
-        contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(criterionOperatorRegistry::toPredicate)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
+        selectors.stream()
+                .filter(selector -> selector.test(asset))
+                .map(CompiledSelector::definition)
                 .forEach(contractDefinition -> {
-                    var policy = policies.computeIfAbsent(contractDefinition.getContractPolicyId(), policyId ->
-                            Optional.ofNullable(policyDefinitionStore.findById(policyId))
-                                    .map(PolicyDefinition::getPolicy)
-                                    .orElse(null)
-                    );
-
+                    var policy = contractPolicy(contractDefinition, policies);
                     if (policy != null) {
                         var contractId = ContractOfferId.create(contractDefinition.getId(), asset.getId());
                         var offerPolicy = policy.toBuilder().type(PolicyType.OFFER).build();
@@ -137,4 +210,24 @@ public class DatasetResolverImpl implements DatasetResolver {
         return datasetBuilder.build();
     }
 
+    private Policy contractPolicy(ContractDefinition contractDefinition, Map<String, Policy> policies) {
+        return policies.computeIfAbsent(contractDefinition.getContractPolicyId(), policyId ->
+                Optional.ofNullable(policyDefinitionStore.findById(policyId))
+                        .map(PolicyDefinition::getPolicy)
+                        .orElse(null)
+        );
+    }
+
+    private record CompiledSelector(ContractDefinition definition, Predicate<Asset> predicate, boolean matchesAll) {
+        boolean test(Asset asset) {
+            return matchesAll || predicate.test(asset);
+        }
+    }
+
+    private record AssetPage(int offset, List<Asset> assets) {
+        boolean isLast(int pageSize) {
+            return assets.size() < pageSize;
+        }
+    }
+
 }
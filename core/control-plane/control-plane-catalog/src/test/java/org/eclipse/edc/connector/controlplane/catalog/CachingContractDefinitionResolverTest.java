@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionUpdated;
+import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.policy.engine.spi.PolicyContext;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingContractDefinitionResolverTest {
+
+    private static final long TTL = 1000;
+
+    private final PolicyEngine policyEngine = mock();
+    private final PolicyDefinitionStore policyStore = mock();
+    private final ContractDefinitionStore definitionStore = mock();
+    private final Clock clock = mock();
+
+    private final CachingContractDefinitionResolver resolver = new CachingContractDefinitionResolver(definitionStore,
+            policyEngine, policyStore, clock, new ObjectMapper(), TTL, 100);
+
+    @Test
+    void shouldReturnDefinitionsAndPolicies() {
+        var policy = Policy.Builder.newInstance().build();
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(policy).build());
+        when(policyEngine.evaluate(any(), isA(PolicyContext.class))).thenReturn(Result.success());
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(createContractDefinition()));
+
+        var result = resolver.resolveFor(new ParticipantAgent(emptyMap(), emptyMap()));
+
+        assertThat(result.contractDefinitions()).hasSize(1);
+        assertThat(result.policies()).containsKeys("access", "contract");
+    }
+
+    @Test
+    void shouldNotReturnDefinition_whenAccessPolicyDoesNotExist() {
+        when(policyStore.findById(any())).thenReturn(null);
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(createContractDefinition()));
+
+        var result = resolver.resolveFor(new ParticipantAgent(emptyMap(), emptyMap()));
+
+        assertThat(result.contractDefinitions()).isEmpty();
+    }
+
+    @Test
+    void shouldHitStoresAndEngineOnce_whenSameAgentResolvesWithinTtl() {
+        var policy = Policy.Builder.newInstance().build();
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(policy).build());
+        when(policyEngine.evaluate(any(), isA(PolicyContext.class))).thenReturn(Result.success());
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(createContractDefinition()));
+
+        resolver.resolveFor(new ParticipantAgent(Map.of("claim", "value"), emptyMap()));
+        var result = resolver.resolveFor(new ParticipantAgent(Map.of("claim", "value"), emptyMap()));
+
+        assertThat(result.contractDefinitions()).hasSize(1);
+        verify(definitionStore, times(1)).findAll(any());
+        verify(policyStore, times(1)).findById("access");
+        verify(policyEngine, times(1)).evaluate(any(), isA(PolicyContext.class));
+    }
+
+    @Test
+    void shouldEvaluateOnce_whenClaimsAreEqualButDistinctInstancesWithoutEquals() {
+        var policy = Policy.Builder.newInstance().build();
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(policy).build());
+        when(policyEngine.evaluate(any(), isA(PolicyContext.class))).thenReturn(Result.success());
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(createContractDefinition()));
+
+        resolver.resolveFor(new ParticipantAgent(Map.of("vc", List.of(new Credential("id", "MembershipCredential"))), emptyMap()));
+        var result = resolver.resolveFor(new ParticipantAgent(Map.of("vc", List.of(new Credential("id", "MembershipCredential"))), emptyMap()));
+
+        assertThat(result.contractDefinitions()).hasSize(1);
+        verify(policyEngine, times(1)).evaluate(any(), isA(PolicyContext.class));
+    }
+
+    @Test
+    void shouldEvaluateAgain_whenAgentClaimsDiffer() {
+        var policy = Policy.Builder.newInstance().build();
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(policy).build());
+        when(policyEngine.evaluate(any(), isA(PolicyContext.class))).thenReturn(Result.success(), Result.failure("denied"));
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(createContractDefinition()));
+
+        var granted = resolver.resolveFor(new ParticipantAgent(Map.of("claim", "value"), emptyMap()));
+        var denied = resolver.resolveFor(new ParticipantAgent(Map.of("claim", "another"), emptyMap()));
+
+        assertThat(granted.contractDefinitions()).hasSize(1);
+        assertThat(denied.contractDefinitions()).isEmpty();
+        verify(policyEngine, times(2)).evaluate(any(), isA(PolicyContext.class));
+    }
+
+    @Test
+    void shouldReload_whenTtlExpired() {
+        var policy = Policy.Builder.newInstance().build();
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(policy).build());
+        when(policyEngine.evaluate(any(), isA(PolicyContext.class))).thenReturn(Result.success());
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(createContractDefinition()));
+        var agent = new ParticipantAgent(emptyMap(), emptyMap());
+
+        when(clock.millis()).thenReturn(0L);
+        resolver.resolveFor(agent);
+        when(clock.millis()).thenReturn(TTL);
+        resolver.resolveFor(agent);
+
+        verify(definitionStore, times(2)).findAll(any());
+        verify(policyEngine, times(2)).evaluate(any(), isA(PolicyContext.class));
+    }
+
+    @Test
+    void shouldReload_whenEventReceived() {
+        var policy = Policy.Builder.newInstance().build();
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(policy).build());
+        when(policyEngine.evaluate(any(), isA(PolicyContext.class))).thenReturn(Result.success());
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(createContractDefinition()));
+        var agent = new ParticipantAgent(emptyMap(), emptyMap());
+
+        resolver.resolveFor(agent);
+        resolver.on(EventEnvelope.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .at(clock.millis())
+                .payload(PolicyDefinitionUpdated.Builder.newInstance().policyDefinitionId("access").build())
+                .build());
+        resolver.resolveFor(agent);
+
+        verify(definitionStore, times(2)).findAll(any());
+        verify(policyEngine, times(2)).evaluate(any(), isA(PolicyContext.class));
+    }
+
+    private ContractDefinition createContractDefinition() {
+        return ContractDefinition.Builder.newInstance()
+                .id("definitionId")
+                .accessPolicyId("access")
+                .contractPolicyId("contract")
+                .build();
+    }
+
+    /**
+     * Claim type that, like verifiable credentials, does not implement {@code equals} and {@code hashCode}.
+     */
+    private static class Credential {
+        private final String id;
+        private final String type;
+
+        Credential(String id, String type) {
+            this.id = id;
+            this.type = type;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getType() {
+            return type;
+        }
+    }
+}
@@ -37,11 +37,13 @@ import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
 import org.eclipse.edc.spi.message.Range;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
 
 import java.util.HashMap;
 import java.util.List;
@@ -62,6 +64,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -184,7 +187,7 @@ class DatasetResolverImplTest {
             var contractPolicy = Policy.Builder.newInstance().build();
             var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(pagedQuery(assets));
             when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
             var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 5)).build();
 
@@ -199,7 +202,7 @@ class DatasetResolverImplTest {
             var contractPolicy = Policy.Builder.newInstance().build();
             var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(pagedQuery(assets));
             when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
             var querySpec = QuerySpec.Builder.newInstance().range(new Range(7, 15)).build();
 
@@ -214,7 +217,7 @@ class DatasetResolverImplTest {
             var contractPolicy = Policy.Builder.newInstance().build();
             var assets = range(0, 20).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(contractDefinitions));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(pagedQuery(assets));
             when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
             var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 14)).build();
 
@@ -229,7 +232,7 @@ class DatasetResolverImplTest {
             var contractPolicy = Policy.Builder.newInstance().build();
             var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(contractDefinitions));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(pagedQuery(assets));
             when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
             var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 8)).build();
 
@@ -240,6 +243,102 @@ class DatasetResolverImplTest {
                     .map(getId()).containsExactly("6", "7");
         }
 
+        @Test
+        void shouldPushDownSelectorCriteriaSharedByAllDefinitions() {
+            var shared = new Criterion(EDC_NAMESPACE + "type", "=", "shared");
+            var contractDefinitions = List.of(
+                    contractDefinitionBuilder("definition1").assetsSelector(List.of(shared)).build(),
+                    contractDefinitionBuilder("definition2").assetsSelector(List.of(shared)).build()
+            );
+            var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).property(EDC_NAMESPACE + "type", "shared").build()).toList();
+            when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(contractDefinitions));
+            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(pagedQuery(assets));
+            when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+            var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 4)).build();
+
+            var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
+
+            assertThat(datasets).hasSize(2).map(getId()).containsExactly("2", "3");
+            verify(assetIndex).queryAssets(argThat(q -> q.getFilterExpression().contains(shared) && q.getOffset() == 2 && q.getLimit() == 2));
+        }
+
+        @Test
+        void shouldPassSortToAssetIndex_whenPagingIsDelegated() {
+            var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
+            when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
+            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("assetId").build()));
+            when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+            var querySpec = QuerySpec.Builder.newInstance().sortField("name").sortOrder(SortOrder.DESC).build();
+
+            var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
+
+            assertThat(datasets).hasSize(1);
+            verify(assetIndex).queryAssets(argThat(q -> "name".equals(q.getSortField()) && q.getSortOrder() == SortOrder.DESC));
+        }
+
+        @Test
+        void shouldSortById_whenPagingIsDelegatedWithoutSort() {
+            var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
+            when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
+            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("assetId").build()));
+            when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+            var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+            assertThat(datasets).hasSize(1);
+            verify(assetIndex).queryAssets(argThat(q -> "id".equals(q.getSortField())));
+        }
+
+        @Test
+        void shouldDelegatePaging_whenOnlySomeContractPoliciesAreFound() {
+            var contractDefinitions = List.of(
+                    contractDefinitionBuilder("definition1").contractPolicyId("missingPolicy").build(),
+                    contractDefinitionBuilder("definition2").contractPolicyId("contractPolicy").build()
+            );
+            var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+            when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(contractDefinitions));
+            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(pagedQuery(assets));
+            when(policyStore.findById("contractPolicy")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+            var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 4)).build();
+
+            var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
+
+            assertThat(datasets).hasSize(2)
+                    .allSatisfy(dataset -> assertThat(dataset.getOffers()).hasSize(1))
+                    .map(getId()).containsExactly("2", "3");
+            verify(assetIndex).queryAssets(argThat(q -> q.getOffset() == 2 && q.getLimit() == 2));
+        }
+
+        @Test
+        void shouldNotQueryAssets_whenNoContractPolicyFound() {
+            var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
+            when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
+            when(policyStore.findById("contractPolicyId")).thenReturn(null);
+
+            var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+            assertThat(datasets).isEmpty();
+            verify(assetIndex, never()).queryAssets(any());
+        }
+
+        @Test
+        void shouldPageThroughAssetIndex_whenSelectorCriteriaCannotBePushedDown() {
+            var contractDefinitions = List.of(
+                    contractDefinitionBuilder("definition1").assetsSelector(List.of(new Criterion(EDC_NAMESPACE + "id", "=", "150"))).build(),
+                    contractDefinitionBuilder("definition2").assetsSelector(List.of(new Criterion(EDC_NAMESPACE + "id", "=", "250"))).build()
+            );
+            var assets = range(0, 1000).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+            when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(contractDefinitions));
+            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(pagedQuery(assets));
+            when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+            var querySpec = QuerySpec.Builder.newInstance().range(new Range(0, 2)).build();
+
+            var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
+
+            assertThat(datasets).hasSize(2).map(getId()).containsExactly("150", "250");
+            verify(assetIndex, times(3)).queryAssets(argThat(q -> q.getLimit() == 100 && "id".equals(q.getSortField())));
+        }
+
         @Test
         void shouldReturnCatalogWithinCatalog_whenAssetIsCatalogAsset() {
             var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
@@ -384,6 +483,13 @@ class DatasetResolverImplTest {
         return DataService.Builder.newInstance().build();
     }
 
+    private Answer<Stream<Asset>> pagedQuery(List<Asset> assets) {
+        return invocation -> {
+            QuerySpec querySpec = invocation.getArgument(0);
+            return assets.stream().skip(querySpec.getOffset()).limit(querySpec.getLimit());
+        };
+    }
+
     @NotNull
     private ThrowingExtractor<Dataset, Object, RuntimeException> getId() {
         return it -> it.getProperty(Asset.PROPERTY_ID);
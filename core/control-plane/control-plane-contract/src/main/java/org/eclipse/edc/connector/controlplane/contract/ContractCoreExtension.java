@@ -23,6 +23,7 @@ import org.eclipse.edc.connector.controlplane.contract.listener.ContractNegotiat
 import org.eclipse.edc.connector.controlplane.contract.negotiation.ConsumerContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.controlplane.contract.negotiation.ProviderContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.controlplane.contract.policy.PolicyEquality;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationEvent;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ContractNegotiationPendingGuard;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.NegotiationWaitStrategy;
@@ -53,6 +54,7 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.statemachine.StateMachineWakeUpSubscriber;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.jetbrains.annotations.NotNull;
 
@@ -65,6 +67,7 @@ import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExp
 import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_USE_ACTION_ATTRIBUTE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_PARALLELISM;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
 
@@ -86,6 +89,12 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the provider negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.provider.state-machine.batch-size";
 
+    @Setting(value = "the number of negotiations that the consumer negotiation state machine processes concurrently. Default value " + DEFAULT_PARALLELISM, type = "int")
+    private static final String NEGOTIATION_CONSUMER_STATE_MACHINE_PARALLELISM = "edc.negotiation.consumer.state-machine.parallelism";
+
+    @Setting(value = "the number of negotiations that the provider negotiation state machine processes concurrently. Default value " + DEFAULT_PARALLELISM, type = "int")
+    private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_PARALLELISM = "edc.negotiation.provider.state-machine.parallelism";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the consumer negotiation with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT = "edc.negotiation.consumer.send.retry.limit";
 
@@ -209,6 +218,7 @@ public class ContractCoreExtension implements ServiceExtension {
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .parallelism(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_PARALLELISM, DEFAULT_PARALLELISM))
                 .entityRetryProcessConfiguration(consumerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
@@ -226,6 +236,7 @@ public class ContractCoreExtension implements ServiceExtension {
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .parallelism(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_PARALLELISM, DEFAULT_PARALLELISM))
                 .entityRetryProcessConfiguration(providerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
@@ -233,6 +244,7 @@ public class ContractCoreExtension implements ServiceExtension {
 
         context.registerService(ConsumerContractNegotiationManager.class, consumerNegotiationManager);
         context.registerService(ProviderContractNegotiationManager.class, providerNegotiationManager);
+        eventRouter.register(ContractNegotiationEvent.class, new StateMachineWakeUpSubscriber(consumerNegotiationManager, providerNegotiationManager));
     }
 
     private EntityRetryProcessConfiguration providerEntityRetryProcessConfiguration(ServiceExtensionContext context) {
@@ -15,7 +15,7 @@
 package org.eclipse.edc.connector.controlplane.query.asset;
 
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
-import org.eclipse.edc.query.ReflectionPropertyLookup;
+import org.eclipse.edc.query.CachingPropertyLookup;
 import org.eclipse.edc.spi.query.PropertyLookup;
 
 import java.util.Map;
@@ -27,7 +27,7 @@ import static java.util.Map.entry;
 
 public class AssetPropertyLookup implements PropertyLookup {
 
-    private final PropertyLookup fallbackPropertyLookup = new ReflectionPropertyLookup();
+    private final PropertyLookup fallbackPropertyLookup = new CachingPropertyLookup();
 
     @Override
     public Object getProperty(String key, Object object) {
@@ -28,6 +28,7 @@ import org.eclipse.edc.connector.controlplane.transfer.provision.ProvisionRespon
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessManager;
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessPendingGuard;
 import org.eclipse.edc.connector.controlplane.transfer.spi.edr.EndpointDataReferenceReceiverRegistry;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
 import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessStarted;
 import org.eclipse.edc.connector.controlplane.transfer.spi.flow.DataFlowManager;
 import org.eclipse.edc.connector.controlplane.transfer.spi.observe.TransferProcessObservable;
@@ -52,6 +53,7 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.statemachine.StateMachineWakeUpSubscriber;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
@@ -60,6 +62,7 @@ import java.time.Clock;
 
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_PARALLELISM;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
 
@@ -78,6 +81,9 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
 
+    @Setting(value = "the number of transfer processes that the state machine processes concurrently. Default value " + DEFAULT_PARALLELISM, type = "int")
+    private static final String TRANSFER_STATE_MACHINE_PARALLELISM = "edc.transfer.state-machine.parallelism";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the transfer with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
 
@@ -182,6 +188,7 @@ public class TransferCoreExtension implements ServiceExtension {
                 .store(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .parallelism(context.getSetting(TRANSFER_STATE_MACHINE_PARALLELISM, DEFAULT_PARALLELISM))
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .protocolWebhook(protocolWebhook)
@@ -191,6 +198,7 @@ public class TransferCoreExtension implements ServiceExtension {
                 .build();
 
         context.registerService(TransferProcessManager.class, processManager);
+        eventRouter.register(TransferProcessEvent.class, new StateMachineWakeUpSubscriber(processManager));
 
         registry.register(new AddProvisionedResourceCommandHandler(transferProcessStore, provisionResponsesHandler));
         registry.register(new DeprovisionCompleteCommandHandler(transferProcessStore, deprovisionResponsesHandler));
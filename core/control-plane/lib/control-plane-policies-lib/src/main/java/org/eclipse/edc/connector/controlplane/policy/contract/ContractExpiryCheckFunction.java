@@ -86,7 +86,10 @@ public class ContractExpiryCheckFunction<C extends AgreementPolicyContext> imple
                         .map(duration -> Instant.ofEpochSecond(context.contractAgreement().getContractSigningDate())
                                 .plus(duration)
                         )
-                ).map(bound -> checkFixedPeriod(context.now(), operator, bound))
+                ).map(bound -> {
+                    reportOutcomeChange(context, bound);
+                    return checkFixedPeriod(context.now(), operator, bound);
+                })
                 .orElseGet(() -> {
                     var message = "Unsupported right-value, expected either an ISO-8061 String or a expression matching '%s', but got '%s'"
                             .formatted(ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY, rightValueStr);
@@ -129,6 +132,19 @@ public class ContractExpiryCheckFunction<C extends AgreementPolicyContext> imple
         };
     }
 
+    /**
+     * The comparison with the bound changes when the bound is reached and right after it, so report the next of
+     * these instants.
+     */
+    private void reportOutcomeChange(C context, Instant bound) {
+        var now = context.now();
+        if (now.isBefore(bound)) {
+            context.reportOutcomeChangeAt(bound);
+        } else if (now.equals(bound)) {
+            context.reportOutcomeChangeAt(bound.plusMillis(1));
+        }
+    }
+
     private boolean checkFixedPeriod(Instant now, Operator operator, Instant bound) {
         var comparison = now.compareTo(bound);
 
@@ -127,6 +127,37 @@ class ContractExpiryCheckFunctionTest {
         assertThat(context.hasProblems()).isFalse();
     }
 
+    @Test
+    void shouldReportOutcomeChange_whenBoundIsInTheFuture() {
+        var now = now();
+        var bound = now.plusSeconds(10);
+        var context = new TestAgreementPolicyContext(now, null);
+
+        function.evaluate(LT, bound.toString(), Permission.Builder.newInstance().build(), context);
+
+        assertThat(context.outcomeChange).isEqualTo(bound);
+    }
+
+    @Test
+    void shouldReportOutcomeChange_whenBoundIsNow() {
+        var now = now();
+        var context = new TestAgreementPolicyContext(now, null);
+
+        function.evaluate(LEQ, now.toString(), Permission.Builder.newInstance().build(), context);
+
+        assertThat(context.outcomeChange).isEqualTo(now.plusMillis(1));
+    }
+
+    @Test
+    void shouldNotReportOutcomeChange_whenBoundIsInThePast() {
+        var now = now();
+        var context = new TestAgreementPolicyContext(now, null);
+
+        function.evaluate(GEQ, now.minusSeconds(10).toString(), Permission.Builder.newInstance().build(), context);
+
+        assertThat(context.outcomeChange).isNull();
+    }
+
     private static class ValidInstant implements ArgumentsProvider {
 
         @Override
@@ -212,6 +243,7 @@ class ContractExpiryCheckFunctionTest {
 
         private final Instant now;
         private final ContractAgreement contractAgreement;
+        private Instant outcomeChange;
 
         TestAgreementPolicyContext(Instant now, ContractAgreement contractAgreement) {
             this.now = now;
@@ -228,6 +260,11 @@ class ContractExpiryCheckFunctionTest {
             return now;
         }
 
+        @Override
+        public void reportOutcomeChangeAt(Instant instant) {
+            outcomeChange = instant;
+        }
+
         @Override
         public String scope() {
             return "any";
@@ -17,12 +17,14 @@ package org.eclipse.edc.connector.policy.monitor;
 import org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction;
 import org.eclipse.edc.connector.controlplane.services.spi.contractagreement.ContractAgreementService;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
 import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessStarted;
 import org.eclipse.edc.connector.policy.monitor.manager.PolicyMonitorManagerImpl;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorContext;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorManager;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore;
 import org.eclipse.edc.connector.policy.monitor.subscriber.StartMonitoring;
+import org.eclipse.edc.connector.policy.monitor.subscriber.TriggerEvaluation;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.RuleBindingRegistry;
 import org.eclipse.edc.policy.model.Permission;
@@ -58,6 +60,10 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Setting(value = "the batch size in the policy monitor state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String POLICY_MONITOR_BATCH_SIZE = "edc.policy.monitor.state-machine.batch-size";
 
+    @Setting(value = "the max interval in milliseconds between two evaluations of a monitored transfer process. If 0, the policies are re-evaluated continuously, " +
+            "otherwise they are evaluated when their outcome could change, on transfer process events, and at most after this interval", type = "long", defaultValue = "0")
+    private static final String POLICY_MONITOR_MAX_EVALUATION_INTERVAL = "edc.policy.monitor.evaluation.max-interval-millis";
+
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
@@ -89,6 +95,7 @@ public class PolicyMonitorExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
+        var maxEvaluationInterval = context.getSetting(POLICY_MONITOR_MAX_EVALUATION_INTERVAL, 0L);
         var iterationWaitMillis = context.getSetting(POLICY_MONITOR_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
         var waitStrategy = new ExponentialWaitStrategy(iterationWaitMillis);
 
@@ -108,11 +115,16 @@ public class PolicyMonitorExtension implements ServiceExtension {
                 .policyEngine(policyEngine)
                 .transferProcessService(transferProcessService)
                 .store(policyMonitorStore)
+                .maxEvaluationInterval(maxEvaluationInterval)
                 .build();
 
         context.registerService(PolicyMonitorManager.class, manager);
 
         eventRouter.registerSync(TransferProcessStarted.class, new StartMonitoring(manager));
+        if (maxEvaluationInterval > 0) {
+            // with continuous evaluation every monitored transfer process is evaluated anyway at the next iteration
+            eventRouter.register(TransferProcessEvent.class, new TriggerEvaluation(manager));
+        }
     }
 
     @Override
@@ -45,6 +45,7 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
     private PolicyEngine policyEngine;
     private TransferProcessService transferProcessService;
     private ContractAgreementService contractAgreementService;
+    private long maxEvaluationInterval = 0;
 
     private PolicyMonitorManagerImpl() {
 
@@ -63,6 +64,22 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
         update(entry);
     }
 
+    @Override
+    public void triggerEvaluation(String transferProcessId) {
+        var result = store.findByIdAndLease(transferProcessId);
+        if (result.failed()) {
+            monitor.debug(() -> "[policy-monitor] Cannot trigger evaluation for TP %s: %s".formatted(transferProcessId, result.getFailureDetail()));
+            return;
+        }
+
+        var entry = result.getContent();
+        if (entry.getState() == STARTED.code()) {
+            entry.setNextAttemptTimestamp(0);
+        }
+        store.save(entry);
+        wakeUp();
+    }
+
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
@@ -108,9 +125,25 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
         // we update the state timestamp ensure fairness on polling on  `STARTED` state
         // the lease will be broken in `onNotProcessed`
         entry.updateStateTimestamp();
+        if (maxEvaluationInterval > 0) {
+            entry.setNextAttemptTimestamp(nextEvaluation(policyContext));
+        }
         return false;
     }
 
+    /**
+     * The entry needs to be evaluated again when the outcome of the policy could change, and in any case after the
+     * max evaluation interval, that bounds the delay for changes that are not reported by the evaluation.
+     */
+    private long nextEvaluation(PolicyMonitorContext policyContext) {
+        var next = clock.millis() + maxEvaluationInterval;
+        var outcomeChange = policyContext.nextOutcomeChange();
+        if (outcomeChange != null) {
+            next = Math.min(next, outcomeChange.toEpochMilli());
+        }
+        return next;
+    }
+
     private Processor processEntriesInState(PolicyMonitorEntryStates state, Function<PolicyMonitorEntry, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()) };
         return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
@@ -145,6 +178,16 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
             return this;
         }
 
+        /**
+         * Max interval in milliseconds between two evaluations of the same entry. If 0, the entries are re-evaluated
+         * continuously, otherwise they are evaluated when the outcome of the policy could change, at most after this
+         * interval, or when {@link #triggerEvaluation(String)} is called.
+         */
+        public Builder maxEvaluationInterval(long maxEvaluationInterval) {
+            manager.maxEvaluationInterval = maxEvaluationInterval;
+            return this;
+        }
+
         @Override
         public Builder self() {
             return this;
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.policy.monitor.subscriber;
+
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessStarted;
+import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorManager;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.PROVIDER;
+
+/**
+ * Event subscriber that will trigger the evaluation of a monitored transfer process whenever it changes and it's a
+ * PROVIDER one, so that the change is handled without waiting for the next scheduled evaluation.
+ */
+public class TriggerEvaluation implements EventSubscriber {
+
+    private final PolicyMonitorManager manager;
+
+    public TriggerEvaluation(PolicyMonitorManager manager) {
+        this.manager = manager;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        if (event.getPayload() instanceof TransferProcessEvent transferProcessEvent
+                && !(transferProcessEvent instanceof TransferProcessStarted)
+                && PROVIDER.name().equals(transferProcessEvent.getType())) {
+            manager.triggerEvaluation(transferProcessEvent.getTransferProcessId());
+        }
+    }
+}
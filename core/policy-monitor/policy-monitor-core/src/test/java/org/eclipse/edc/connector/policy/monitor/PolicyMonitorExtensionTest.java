@@ -15,29 +15,40 @@
 package org.eclipse.edc.connector.policy.monitor;
 
 import org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorContext;
+import org.eclipse.edc.connector.policy.monitor.subscriber.TriggerEvaluation;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.Map;
+
 import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(DependencyInjectionExtension.class)
 class PolicyMonitorExtensionTest {
 
     private final PolicyEngine policyEngine = mock();
+    private final EventRouter eventRouter = mock();
 
     @BeforeEach
     void setUp(ServiceExtensionContext context) {
         context.registerService(PolicyEngine.class, policyEngine);
+        context.registerService(EventRouter.class, eventRouter);
     }
 
     @Test
@@ -47,4 +58,20 @@ class PolicyMonitorExtensionTest {
         verify(policyEngine).registerFunction(eq(PolicyMonitorContext.class), eq(Permission.class),
                 eq(CONTRACT_EXPIRY_EVALUATION_KEY), isA(ContractExpiryCheckFunction.class));
     }
+
+    @Test
+    void shouldNotTriggerEvaluationOnEvents_whenEvaluationIsContinuous(PolicyMonitorExtension extension, ServiceExtensionContext context) {
+        extension.initialize(context);
+
+        verify(eventRouter, never()).register(eq(TransferProcessEvent.class), any());
+    }
+
+    @Test
+    void shouldTriggerEvaluationOnEvents_whenMaxEvaluationIntervalIsSet(PolicyMonitorExtension extension, ServiceExtensionContext context) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.policy.monitor.evaluation.max-interval-millis", "60000")));
+
+        extension.initialize(context);
+
+        verify(eventRouter).register(eq(TransferProcessEvent.class), isA(TriggerEvaluation.class));
+    }
 }
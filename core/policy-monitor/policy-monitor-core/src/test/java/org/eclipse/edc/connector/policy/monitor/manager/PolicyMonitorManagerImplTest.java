@@ -29,11 +29,15 @@ import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
 
 import static java.util.Collections.emptyList;
@@ -218,6 +222,89 @@ class PolicyMonitorManagerImplTest {
         });
     }
 
+    @Test
+    void started_shouldScheduleNextEvaluation_whenMaxEvaluationIntervalIsSet() {
+        var now = Instant.now();
+        var scheduledManager = scheduledManager(now, 60_000);
+        var entry = PolicyMonitorEntry.Builder.newInstance()
+                .id("transferProcessId")
+                .contractId("contractId")
+                .state(STARTED.code())
+                .build();
+        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(transferProcessService.findById(entry.getId()))
+                .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
+        when(contractAgreementService.findById(any())).thenReturn(createContractAgreement(Policy.Builder.newInstance().build()));
+        when(policyEngine.evaluate(any(), isA(PolicyContext.class))).thenReturn(Result.success());
+
+        scheduledManager.start();
+
+        await().untilAsserted(() -> verify(store).save(argThat(it -> it.getState() == STARTED.code() &&
+                it.getNextAttemptTimestamp() == now.toEpochMilli() + 60_000)));
+    }
+
+    @Test
+    void started_shouldScheduleNextEvaluationAtOutcomeChange_whenItIsBeforeMaxEvaluationInterval() {
+        var now = Instant.now();
+        var outcomeChange = now.plusSeconds(10);
+        var scheduledManager = scheduledManager(now, 60_000);
+        var entry = PolicyMonitorEntry.Builder.newInstance()
+                .id("transferProcessId")
+                .contractId("contractId")
+                .state(STARTED.code())
+                .build();
+        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(transferProcessService.findById(entry.getId()))
+                .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
+        when(contractAgreementService.findById(any())).thenReturn(createContractAgreement(Policy.Builder.newInstance().build()));
+        when(policyEngine.evaluate(any(), isA(PolicyMonitorContext.class))).thenAnswer(i -> {
+            i.getArgument(1, PolicyMonitorContext.class).reportOutcomeChangeAt(outcomeChange);
+            return Result.success();
+        });
+
+        scheduledManager.start();
+
+        await().untilAsserted(() -> verify(store).save(argThat(it -> it.getState() == STARTED.code() &&
+                it.getNextAttemptTimestamp() == outcomeChange.toEpochMilli())));
+    }
+
+    @Test
+    void triggerEvaluation_shouldMakeEntryDue() {
+        var entry = PolicyMonitorEntry.Builder.newInstance()
+                .id("transferProcessId")
+                .contractId("contractId")
+                .state(STARTED.code())
+                .nextAttemptTimestamp(Long.MAX_VALUE)
+                .build();
+        when(store.findByIdAndLease("transferProcessId")).thenReturn(StoreResult.success(entry));
+
+        manager.triggerEvaluation("transferProcessId");
+
+        verify(store).save(argThat(it -> it.getNextAttemptTimestamp() == 0));
+    }
+
+    @Test
+    void triggerEvaluation_shouldDoNothing_whenEntryCannotBeLeased() {
+        when(store.findByIdAndLease("transferProcessId")).thenReturn(StoreResult.alreadyLeased("leased"));
+
+        manager.triggerEvaluation("transferProcessId");
+
+        verify(store, never()).save(any());
+    }
+
+    private PolicyMonitorManager scheduledManager(Instant now, long maxEvaluationInterval) {
+        return PolicyMonitorManagerImpl.Builder.newInstance()
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .monitor(mock())
+                .clock(Clock.fixed(now, ZoneId.systemDefault()))
+                .contractAgreementService(contractAgreementService)
+                .policyEngine(policyEngine)
+                .transferProcessService(transferProcessService)
+                .store(store)
+                .maxEvaluationInterval(maxEvaluationInterval)
+                .build();
+    }
+
     private ContractAgreement createContractAgreement(Policy policy) {
         return ContractAgreement.Builder.newInstance()
                 .providerId("providerId")
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.policy.monitor.subscriber;
+
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessStarted;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessSuspended;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessTerminated;
+import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorManager;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.CONSUMER;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.PROVIDER;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class TriggerEvaluationTest {
+
+    private final PolicyMonitorManager manager = mock();
+    private final TriggerEvaluation subscriber = new TriggerEvaluation(manager);
+
+    @Test
+    void shouldTriggerEvaluation_whenTransferProcessIsProvider() {
+        var event = TransferProcessTerminated.Builder.newInstance()
+                .transferProcessId("transferProcessId")
+                .contractId("contractId")
+                .type(PROVIDER.name())
+                .build();
+
+        subscriber.on(envelope(event));
+
+        verify(manager).triggerEvaluation("transferProcessId");
+    }
+
+    @Test
+    void shouldNotTriggerEvaluation_whenTransferProcessIsConsumer() {
+        var event = TransferProcessSuspended.Builder.newInstance()
+                .transferProcessId("transferProcessId")
+                .contractId("contractId")
+                .type(CONSUMER.name())
+                .build();
+
+        subscriber.on(envelope(event));
+
+        verifyNoInteractions(manager);
+    }
+
+    @Test
+    void shouldNotTriggerEvaluation_whenTransferProcessStarted() {
+        var event = TransferProcessStarted.Builder.newInstance()
+                .transferProcessId("transferProcessId")
+                .contractId("contractId")
+                .type(PROVIDER.name())
+                .build();
+
+        subscriber.on(envelope(event));
+
+        verifyNoInteractions(manager);
+    }
+
+    private EventEnvelope<TransferProcessEvent> envelope(TransferProcessEvent event) {
+        return EventEnvelope.Builder.newInstance()
+                .at(Instant.now().toEpochMilli())
+                .payload(event)
+                .build();
+    }
+}
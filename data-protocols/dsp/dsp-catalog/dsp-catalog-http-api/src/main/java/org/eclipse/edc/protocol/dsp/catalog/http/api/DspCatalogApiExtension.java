@@ -24,11 +24,13 @@ import org.eclipse.edc.protocol.dsp.catalog.http.api.controller.DspCatalogApiCon
 import org.eclipse.edc.protocol.dsp.catalog.http.api.controller.DspCatalogApiController20241;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.decorator.Base64continuationTokenSerDes;
 import org.eclipse.edc.protocol.dsp.catalog.http.api.decorator.ContinuationTokenManagerImpl;
+import org.eclipse.edc.protocol.dsp.catalog.http.api.streaming.CatalogResponseStreamer;
 import org.eclipse.edc.protocol.dsp.catalog.validation.CatalogRequestMessageValidator;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
@@ -60,6 +62,11 @@ public class DspCatalogApiExtension implements ServiceExtension {
 
     public static final String NAME = "Dataspace Protocol Catalog Extension";
 
+    private static final boolean DEFAULT_STREAM_CATALOG_RESPONSE = false;
+
+    @Setting(value = "If true, catalog responses are written in chunks of datasets instead of being built as a single JSON document in memory", type = "boolean", defaultValue = DEFAULT_STREAM_CATALOG_RESPONSE + "")
+    private static final String STREAM_CATALOG_RESPONSE = "edc.dsp.catalog.response.streaming";
+
     @Inject
     private WebService webService;
     @Inject
@@ -96,8 +103,11 @@ public class DspCatalogApiExtension implements ServiceExtension {
         registerValidators(DSP_NAMESPACE_V_08);
         registerValidators(DSP_NAMESPACE_V_2024_1);
 
-        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController(service, dspRequestHandler, continuationTokenManager(monitor, DSP_TRANSFORMER_CONTEXT_V_08, DSP_NAMESPACE_V_08)));
-        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController20241(service, dspRequestHandler, continuationTokenManager(monitor, DSP_TRANSFORMER_CONTEXT_V_2024_1, DSP_NAMESPACE_V_2024_1)));
+        var streamCatalog = context.getSetting(STREAM_CATALOG_RESPONSE, DEFAULT_STREAM_CATALOG_RESPONSE);
+        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController(service, dspRequestHandler, continuationTokenManager(monitor, DSP_TRANSFORMER_CONTEXT_V_08, DSP_NAMESPACE_V_08),
+                streamCatalog ? new CatalogResponseStreamer(jsonLd, DSP_SCOPE_V_08, monitor) : null));
+        webService.registerResource(ApiContext.PROTOCOL, new DspCatalogApiController20241(service, dspRequestHandler, continuationTokenManager(monitor, DSP_TRANSFORMER_CONTEXT_V_2024_1, DSP_NAMESPACE_V_2024_1),
+                streamCatalog ? new CatalogResponseStreamer(jsonLd, DSP_SCOPE_V_2024_1, monitor) : null));
         webService.registerDynamicResource(ApiContext.PROTOCOL, DspCatalogApiController.class, new JerseyJsonLdInterceptor(jsonLd, jsonLdMapper, DSP_SCOPE_V_08));
         webService.registerDynamicResource(ApiContext.PROTOCOL, DspCatalogApiController20241.class, new JerseyJsonLdInterceptor(jsonLd, jsonLdMapper, DSP_SCOPE_V_2024_1));
 
@@ -37,6 +37,7 @@ import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.http.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.http.spi.message.PostDspRequest;
+import org.eclipse.edc.protocol.dsp.http.spi.message.ResponseStreamer;
 
 import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
@@ -60,17 +61,35 @@ public class DspCatalogApiController {
     private final ContinuationTokenManager continuationTokenManager;
     private final String protocol;
     private final JsonLdNamespace namespace;
+    private final ResponseStreamer<Catalog> catalogStreamer;
 
     public DspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler, ContinuationTokenManager continuationTokenManager) {
-        this(service, dspRequestHandler, continuationTokenManager, DATASPACE_PROTOCOL_HTTP, DSP_NAMESPACE_V_08);
+        this(service, dspRequestHandler, continuationTokenManager, null);
+    }
+
+    public DspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler, ContinuationTokenManager continuationTokenManager,
+                                   ResponseStreamer<Catalog> catalogStreamer) {
+        this(service, dspRequestHandler, continuationTokenManager, DATASPACE_PROTOCOL_HTTP, DSP_NAMESPACE_V_08, catalogStreamer);
     }
 
     public DspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler, ContinuationTokenManager continuationTokenManager, String protocol, JsonLdNamespace namespace) {
+        this(service, dspRequestHandler, continuationTokenManager, protocol, namespace, null);
+    }
+
+    /**
+     * Creates the controller.
+     *
+     * @param catalogStreamer if not null, catalogs are streamed to the response instead of being transformed and
+     *                        compacted as a single JSON object.
+     */
+    public DspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler, ContinuationTokenManager continuationTokenManager,
+                                   String protocol, JsonLdNamespace namespace, ResponseStreamer<Catalog> catalogStreamer) {
         this.service = service;
         this.dspRequestHandler = dspRequestHandler;
         this.continuationTokenManager = continuationTokenManager;
         this.protocol = protocol;
         this.namespace = namespace;
+        this.catalogStreamer = catalogStreamer;
     }
 
     @POST
@@ -92,6 +111,7 @@ public class DspCatalogApiController {
                 .serviceCall(service::getCatalog)
                 .errorProvider(CatalogError.Builder::newInstance)
                 .protocol(protocol)
+                .responseStreamer(catalogStreamer)
                 .build();
 
         var responseDecorator = continuationTokenManager.createResponseDecorator(uriInfo.getAbsolutePath().toString());
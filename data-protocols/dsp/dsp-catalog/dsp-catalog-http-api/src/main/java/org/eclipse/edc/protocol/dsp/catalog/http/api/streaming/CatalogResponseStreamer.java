@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.http.api.streaming;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.protocol.dsp.http.spi.message.ResponseStreamer;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+
+/**
+ * Streams a {@link Catalog} to the response body. The catalog without its datasets is transformed and compacted
+ * first, then the datasets are transformed, compacted and written in chunks, so that the JSON-LD representation of the
+ * whole catalog never needs to be held in memory, and the first bytes are sent as soon as the first chunk is ready.
+ * <p>
+ * Every chunk is compacted as the value of the dataset property of a node, which results in the same representation
+ * the datasets would have when the whole catalog is compacted at once.
+ */
+public class CatalogResponseStreamer implements ResponseStreamer<Catalog> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    private final JsonLd jsonLd;
+    private final String scope;
+    private final Monitor monitor;
+    private final int chunkSize;
+    private final JsonGeneratorFactory generatorFactory = Json.createGeneratorFactory(Map.of());
+
+    public CatalogResponseStreamer(JsonLd jsonLd, String scope, Monitor monitor) {
+        this(jsonLd, scope, monitor, DEFAULT_CHUNK_SIZE);
+    }
+
+    public CatalogResponseStreamer(JsonLd jsonLd, String scope, Monitor monitor, int chunkSize) {
+        this.jsonLd = jsonLd;
+        this.scope = scope;
+        this.monitor = monitor;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Result<StreamingOutput> stream(Catalog catalog, TypeTransformerRegistry transformerRegistry) {
+        var catalogWithoutDatasets = Catalog.Builder.newInstance()
+                .id(catalog.getId())
+                .offers(catalog.getOffers())
+                .distributions(catalog.getDistributions())
+                .properties(catalog.getProperties())
+                .dataServices(catalog.getDataServices())
+                .participantId(catalog.getParticipantId())
+                .build();
+
+        var compactedCatalog = transformerRegistry.transform(catalogWithoutDatasets, JsonObject.class)
+                .compose(json -> jsonLd.compact(json, scope));
+        if (compactedCatalog.failed()) {
+            return compactedCatalog.mapFailure();
+        }
+
+        var datasets = catalog.getDatasets();
+        if (datasets.isEmpty()) {
+            return Result.success(output -> {
+                var generator = generatorFactory.createGenerator(output);
+                generator.write(compactedCatalog.getContent());
+                generator.flush();
+            });
+        }
+
+        // the first chunk is compacted upfront, to detect failures while the error can still be returned to the client
+        var firstChunk = compactDatasets(chunk(datasets, 0), transformerRegistry);
+        if (firstChunk.failed()) {
+            return firstChunk.mapFailure();
+        }
+
+        return Result.success(output -> {
+            var generator = generatorFactory.createGenerator(output);
+            var datasetsKey = firstChunk.getContent().key();
+
+            generator.writeStartObject();
+            compactedCatalog.getContent().entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(datasetsKey))
+                    .forEach(entry -> generator.write(entry.getKey(), entry.getValue()));
+
+            if (datasets.size() == 1) {
+                generator.write(datasetsKey, firstChunk.getContent().value());
+            } else {
+                generator.writeStartArray(datasetsKey);
+                writeElements(generator, firstChunk.getContent().value());
+                for (var from = chunkSize; from < datasets.size(); from += chunkSize) {
+                    generator.flush();
+                    var compacted = compactDatasets(chunk(datasets, from), transformerRegistry);
+                    if (compacted.failed()) {
+                        monitor.warning("Error streaming catalog %s: %s".formatted(catalog.getId(), compacted.getFailureDetail()));
+                        throw new IOException("Catalog streaming failed: " + compacted.getFailureDetail());
+                    }
+                    writeElements(generator, compacted.getContent().value());
+                }
+                generator.writeEnd();
+            }
+
+            generator.writeEnd();
+            generator.flush();
+        });
+    }
+
+    private List<Dataset> chunk(List<Dataset> datasets, int from) {
+        return datasets.subList(from, Math.min(from + chunkSize, datasets.size()));
+    }
+
+    private Result<CompactedDatasets> compactDatasets(List<Dataset> datasets, TypeTransformerRegistry transformerRegistry) {
+        var array = Json.createArrayBuilder();
+        for (var dataset : datasets) {
+            var transformed = transformerRegistry.transform(dataset, JsonObject.class);
+            if (transformed.failed()) {
+                return transformed.mapFailure();
+            }
+            array.add(transformed.getContent());
+        }
+
+        var node = Json.createObjectBuilder().add(DCAT_DATASET_ATTRIBUTE, array).build();
+        var compacted = jsonLd.compact(node, scope);
+        if (compacted.failed()) {
+            return compacted.mapFailure();
+        }
+
+        return compacted.getContent().entrySet().stream()
+                .filter(entry -> !entry.getKey().equals(CONTEXT))
+                .findFirst()
+                .map(entry -> Result.success(new CompactedDatasets(entry.getKey(), entry.getValue())))
+                .orElseGet(() -> Result.failure("Compacted datasets not found"));
+    }
+
+    private void writeElements(JsonGenerator generator, JsonValue value) {
+        if (value instanceof JsonArray array) {
+            array.forEach(generator::write);
+        } else {
+            generator.write(value);
+        }
+    }
+
+    private record CompactedDatasets(String key, JsonValue value) {
+    }
+}
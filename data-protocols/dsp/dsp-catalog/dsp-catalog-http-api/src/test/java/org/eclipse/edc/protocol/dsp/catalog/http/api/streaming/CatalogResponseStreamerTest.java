@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.http.api.streaming;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CatalogResponseStreamerTest {
+
+    private static final String SCOPE = "scope";
+
+    private final JsonLd jsonLd = mock();
+    private final TypeTransformerRegistry transformerRegistry = mock();
+    private final CatalogResponseStreamer streamer = new CatalogResponseStreamer(jsonLd, SCOPE, mock(), 2);
+
+    @BeforeEach
+    void setUp() {
+        when(transformerRegistry.transform(exactly(Catalog.class), eq(JsonObject.class))).thenAnswer(i -> {
+            Catalog catalog = i.getArgument(0);
+            return Result.success(Json.createObjectBuilder()
+                    .add(ID, catalog.getId())
+                    .add(DCAT_DATASET_ATTRIBUTE, Json.createArrayBuilder())
+                    .build());
+        });
+        when(transformerRegistry.transform(exactly(Dataset.class), eq(JsonObject.class))).thenAnswer(i -> {
+            Dataset dataset = i.getArgument(0);
+            return Result.success(Json.createObjectBuilder().add(ID, dataset.getId()).build());
+        });
+        when(jsonLd.compact(any(), eq(SCOPE))).thenAnswer(i -> {
+            JsonObject json = i.getArgument(0);
+            return Result.success(Json.createObjectBuilder(json).add(CONTEXT, Json.createObjectBuilder()).build());
+        });
+    }
+
+    @Test
+    void shouldWriteAllDatasetsInChunks() throws IOException {
+        var catalog = Catalog.Builder.newInstance().id("catalogId")
+                .datasets(IntStream.range(0, 5).mapToObj(i -> Dataset.Builder.newInstance().id("dataset-" + i).build()).toList())
+                .build();
+
+        var result = streamer.stream(catalog, transformerRegistry);
+
+        assertThat(result).isSucceeded();
+        var json = write(result.getContent());
+        assertThat(json.getString(ID)).isEqualTo("catalogId");
+        assertThat(json.getJsonObject(CONTEXT)).isNotNull();
+        assertThat(json.getJsonArray(DCAT_DATASET_ATTRIBUTE)).hasSize(5)
+                .map(it -> it.asJsonObject().getString(ID))
+                .containsExactly("dataset-0", "dataset-1", "dataset-2", "dataset-3", "dataset-4");
+    }
+
+    @Test
+    void shouldWriteCatalog_whenThereAreNoDatasets() throws IOException {
+        var catalog = Catalog.Builder.newInstance().id("catalogId").build();
+
+        var result = streamer.stream(catalog, transformerRegistry);
+
+        assertThat(result).isSucceeded();
+        var json = write(result.getContent());
+        assertThat(json.getString(ID)).isEqualTo("catalogId");
+        assertThat(json.getJsonArray(DCAT_DATASET_ATTRIBUTE)).isEmpty();
+    }
+
+    @Test
+    void shouldFail_whenFirstChunkCannotBeTransformed() {
+        when(transformerRegistry.transform(exactly(Dataset.class), eq(JsonObject.class))).thenReturn(Result.failure("error"));
+        var catalog = Catalog.Builder.newInstance().id("catalogId")
+                .dataset(Dataset.Builder.newInstance().id("dataset").build())
+                .build();
+
+        var result = streamer.stream(catalog, transformerRegistry);
+
+        assertThat(result).isFailed();
+    }
+
+    // Catalog extends Dataset, so isA(Dataset.class) would match the catalog as well
+    private static <T> T exactly(Class<T> type) {
+        return argThat(argument -> argument != null && argument.getClass() == type);
+    }
+
+    private JsonObject write(StreamingOutput output) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        output.write(bytes);
+        try (var reader = Json.createReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return reader.readObject();
+        }
+    }
+}
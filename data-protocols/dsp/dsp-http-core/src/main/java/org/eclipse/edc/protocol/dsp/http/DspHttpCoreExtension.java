@@ -49,10 +49,13 @@ import org.eclipse.edc.protocol.dsp.spi.transform.DspProtocolTypeTransformerRegi
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.iam.AudienceResolver;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -60,6 +63,10 @@ import org.eclipse.edc.token.spi.TokenDecorator;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.lang.String.format;
 import static org.eclipse.edc.policy.context.request.spi.RequestCatalogPolicyContext.CATALOGING_REQUEST_SCOPE;
 import static org.eclipse.edc.policy.context.request.spi.RequestContractNegotiationPolicyContext.CONTRACT_NEGOTIATION_REQUEST_SCOPE;
 import static org.eclipse.edc.policy.context.request.spi.RequestTransferProcessPolicyContext.TRANSFER_PROCESS_REQUEST_SCOPE;
@@ -80,6 +87,19 @@ public class DspHttpCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Dataspace Protocol Core Extension";
 
+    private static final int DEFAULT_DISPATCH_THREADS = 0;
+    @Setting(value = "Number of threads that prepare the outgoing protocol messages, i.e. policy evaluation and token acquisition. " +
+            "If 0, messages are prepared on the calling thread", type = "int", defaultValue = DEFAULT_DISPATCH_THREADS + "")
+    public static final String DSP_DISPATCH_THREADS = "edc.dsp.dispatch.threads";
+    private static final int DEFAULT_DISPATCH_MAX_CONCURRENCY = 0;
+    @Setting(value = "Max number of outgoing protocol messages in flight to a single counter-party. If 0, there is no limit. " +
+            "A limit requires " + DSP_DISPATCH_THREADS + " to be greater than 0", type = "int", defaultValue = DEFAULT_DISPATCH_MAX_CONCURRENCY + "")
+    public static final String DSP_DISPATCH_MAX_CONCURRENCY = "edc.dsp.dispatch.counter-party.max-concurrency";
+    private static final int DEFAULT_DISPATCH_MAX_PENDING = 1000;
+    @Setting(value = "Max number of outgoing protocol messages waiting for a single counter-party when the concurrency limit is reached. " +
+            "Further messages fail right away and are retried by the caller", type = "int", defaultValue = DEFAULT_DISPATCH_MAX_PENDING + "")
+    public static final String DSP_DISPATCH_MAX_PENDING = "edc.dsp.dispatch.counter-party.max-pending";
+
     @Inject
     private RemoteMessageDispatcherRegistry dispatcherRegistry;
     @Inject
@@ -108,6 +128,11 @@ public class DspHttpCoreExtension implements ServiceExtension {
     @Inject
     private ProtocolVersionRegistry versionRegistry;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService dispatchExecutor;
+
     private DspProtocolTypeTransformerRegistry dspTransformerRegistry;
     private DspProtocolParser dspProtocolParser;
 
@@ -132,7 +157,19 @@ public class DspHttpCoreExtension implements ServiceExtension {
             td = bldr -> bldr;
         }
 
-        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver);
+        var dispatchThreads = context.getSetting(DSP_DISPATCH_THREADS, DEFAULT_DISPATCH_THREADS);
+        var maxConcurrency = context.getSetting(DSP_DISPATCH_MAX_CONCURRENCY, DEFAULT_DISPATCH_MAX_CONCURRENCY);
+        if (maxConcurrency > 0 && dispatchThreads <= 0) {
+            // waiting messages would otherwise be started on the http client thread that completed the previous one
+            throw new EdcException(format("%s requires %s to be greater than 0", DSP_DISPATCH_MAX_CONCURRENCY, DSP_DISPATCH_THREADS));
+        }
+        if (dispatchThreads > 0) {
+            dispatchExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(dispatchThreads), "DSP Dispatch");
+        }
+        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver,
+                dispatchExecutor != null ? dispatchExecutor : Runnable::run,
+                maxConcurrency,
+                context.getSetting(DSP_DISPATCH_MAX_PENDING, DEFAULT_DISPATCH_MAX_PENDING));
         registerNegotiationPolicyScopes(dispatcher);
         registerTransferProcessPolicyScopes(dispatcher);
         registerCatalogPolicyScopes(dispatcher);
@@ -141,6 +178,13 @@ public class DspHttpCoreExtension implements ServiceExtension {
         return dispatcher;
     }
 
+    @Override
+    public void shutdown() {
+        if (dispatchExecutor != null) {
+            dispatchExecutor.shutdownNow();
+        }
+    }
+
     @Provider
     public DspRequestHandler dspRequestHandler() {
         return new DspRequestHandlerImpl(monitor, validatorRegistry, dspTransformerRegistry());
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.dispatcher;
+
+import org.eclipse.edc.spi.EdcException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+/**
+ * Limits the number of dispatches in flight to every counter-party, without blocking the caller: the dispatches that
+ * exceed the limit wait in a bounded queue and start as soon as a previous one completes. When the queue is full the
+ * dispatch fails right away, so that the caller can retry it later. A waiting dispatch is started on the hand-over
+ * executor, never on the thread that completed the previous one, which is usually an http client callback thread.
+ */
+class CounterPartyDispatchLimiter {
+
+    private final int maxConcurrency;
+    private final int maxPending;
+    private final Executor handOverExecutor;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the limiter.
+     *
+     * @param maxConcurrency max dispatches in flight per counter-party, 0 means unlimited.
+     * @param maxPending max dispatches waiting per counter-party.
+     * @param handOverExecutor the executor on which waiting dispatches are started.
+     */
+    CounterPartyDispatchLimiter(int maxConcurrency, int maxPending, Executor handOverExecutor) {
+        this.maxConcurrency = maxConcurrency;
+        this.maxPending = maxPending;
+        this.handOverExecutor = handOverExecutor;
+    }
+
+    <T> CompletableFuture<T> submit(String counterParty, Supplier<CompletableFuture<T>> dispatch) {
+        if (maxConcurrency <= 0) {
+            return dispatch.get();
+        }
+        return lanes.computeIfAbsent(counterParty, Lane::new).submit(dispatch);
+    }
+
+    private class Lane {
+
+        private final String counterParty;
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+        private int inFlight = 0;
+
+        Lane(String counterParty) {
+            this.counterParty = counterParty;
+        }
+
+        <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> dispatch) {
+            var result = new CompletableFuture<T>();
+            Runnable start = () -> run(dispatch, result);
+            synchronized (this) {
+                if (inFlight >= maxConcurrency) {
+                    if (waiting.size() >= maxPending) {
+                        return failedFuture(new EdcException(format("Too many messages in flight to %s", counterParty)));
+                    }
+                    waiting.addLast(start);
+                    return result;
+                }
+                inFlight++;
+            }
+            start.run();
+            return result;
+        }
+
+        private <T> void run(Supplier<CompletableFuture<T>> dispatch, CompletableFuture<T> result) {
+            CompletableFuture<T> future;
+            try {
+                future = dispatch.get();
+            } catch (Throwable throwable) {
+                future = failedFuture(throwable);
+            }
+            future.whenComplete((value, throwable) -> {
+                release();
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                } else {
+                    result.complete(value);
+                }
+            });
+        }
+
+        private void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.pollFirst();
+                if (next == null) {
+                    inFlight--;
+                    return;
+                }
+            }
+            // the slot of the completed dispatch is handed over to the next one
+            handOverExecutor.execute(next);
+        }
+    }
+}
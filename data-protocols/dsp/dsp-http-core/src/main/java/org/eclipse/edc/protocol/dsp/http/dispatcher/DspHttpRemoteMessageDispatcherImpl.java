@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.protocol.dsp.http.dispatcher;
 
+import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
@@ -36,11 +37,13 @@ import org.eclipse.edc.token.spi.TokenDecorator;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import static java.lang.String.format;
@@ -51,6 +54,10 @@ import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
 /**
  * Dispatches remote messages using the dataspace protocol.
+ * <p>
+ * The policy evaluation and the token acquisition that precede the request run on the given executor, so that a slow
+ * identity service does not hold the caller, e.g. a state machine thread. The dispatches to every counter-party can
+ * be limited, so that a few slow counter-parties cannot take all the resources needed to communicate with the others.
  */
 public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageDispatcher {
 
@@ -63,6 +70,8 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
     private final PolicyEngine policyEngine;
     private final TokenDecorator tokenDecorator;
     private final AudienceResolver audienceResolver;
+    private final Executor executor;
+    private final CounterPartyDispatchLimiter limiter;
 
 
     public DspHttpRemoteMessageDispatcherImpl(EdcHttpClient httpClient,
@@ -70,11 +79,32 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
                                               TokenDecorator decorator,
                                               PolicyEngine policyEngine,
                                               AudienceResolver audienceResolver) {
+        this(httpClient, identityService, decorator, policyEngine, audienceResolver, Runnable::run, 0, 0);
+    }
+
+    /**
+     * Creates the dispatcher.
+     *
+     * @param executor the executor on which requests get prepared, i.e. policy evaluation and token acquisition, and
+     *                 on which dispatches waiting for a counter-party are started.
+     * @param maxConcurrencyPerCounterParty max dispatches in flight per counter-party, 0 means unlimited.
+     * @param maxPendingPerCounterParty max dispatches waiting per counter-party, exceeding ones fail right away.
+     */
+    public DspHttpRemoteMessageDispatcherImpl(EdcHttpClient httpClient,
+                                              IdentityService identityService,
+                                              TokenDecorator decorator,
+                                              PolicyEngine policyEngine,
+                                              AudienceResolver audienceResolver,
+                                              Executor executor,
+                                              int maxConcurrencyPerCounterParty,
+                                              int maxPendingPerCounterParty) {
         this.httpClient = httpClient;
         this.identityService = identityService;
         this.policyEngine = policyEngine;
         this.tokenDecorator = decorator;
         this.audienceResolver = audienceResolver;
+        this.executor = executor;
+        this.limiter = new CounterPartyDispatchLimiter(maxConcurrencyPerCounterParty, maxPendingPerCounterParty, executor);
     }
 
     @Override
@@ -84,6 +114,25 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
             return failedFuture(new EdcException(format("No DSP message dispatcher found for message type %s", message.getClass())));
         }
 
+        return limiter.submit(counterParty(message), () -> CompletableFuture.supplyAsync(() -> prepareRequest(message, handler), executor)
+                .thenCompose(request -> httpClient.executeAsync(request, List.of(retryWhenStatusNot2xxOr4xx())))
+                .thenApply(response -> handleResponse(response, message.getProtocol(), responseType, handler.bodyExtractor)));
+    }
+
+    @Override
+    public <M extends RemoteMessage, R> void registerMessage(Class<M> clazz, DspHttpRequestFactory<M> requestFactory,
+                                                             DspHttpResponseBodyExtractor<R> bodyExtractor) {
+        handlers.put(clazz, new MessageHandler<>(requestFactory, bodyExtractor));
+    }
+
+    @Override
+    public <M extends RemoteMessage> void registerPolicyScope(Class<M> messageClass,
+                                                              Function<M, Policy> policyProvider,
+                                                              RequestPolicyContext.Provider contextProvider) {
+        policyScopes.put(messageClass, new PolicyScope<>(messageClass, policyProvider, contextProvider));
+    }
+
+    private <M extends RemoteMessage> Request prepareRequest(M message, MessageHandler<M, ?> handler) {
         var request = handler.requestFactory.createRequest(message);
 
         var tokenParametersBuilder = TokenParameters.Builder.newInstance();
@@ -116,28 +165,19 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
         return audienceResolver.resolve(message)
                 .map(audience -> tokenDecorator.decorate(tokenParametersBuilder).claims(AUDIENCE_CLAIM, audience).build()) // enforce the audience, ignore anything a decorator might have set
                 .compose(identityService::obtainClientCredentials)
-                .map(token -> {
-                    var requestWithAuth = request.newBuilder()
-                            .header("Authorization", token.getToken())
-                            .build();
-
-                    return httpClient.executeAsync(requestWithAuth, List.of(retryWhenStatusNot2xxOr4xx()))
-                            .thenApply(response -> handleResponse(response, message.getProtocol(), responseType, handler.bodyExtractor));
-                })
-                .orElse(failure -> failedFuture(new EdcException(format("Unable to obtain credentials: %s", failure.getFailureDetail()))));
+                .map(token -> request.newBuilder()
+                        .header("Authorization", token.getToken())
+                        .build())
+                .orElseThrow(failure -> new EdcException(format("Unable to obtain credentials: %s", failure.getFailureDetail())));
     }
 
-    @Override
-    public <M extends RemoteMessage, R> void registerMessage(Class<M> clazz, DspHttpRequestFactory<M> requestFactory,
-                                                             DspHttpResponseBodyExtractor<R> bodyExtractor) {
-        handlers.put(clazz, new MessageHandler<>(requestFactory, bodyExtractor));
-    }
-
-    @Override
-    public <M extends RemoteMessage> void registerPolicyScope(Class<M> messageClass,
-                                                              Function<M, Policy> policyProvider,
-                                                              RequestPolicyContext.Provider contextProvider) {
-        policyScopes.put(messageClass, new PolicyScope<>(messageClass, policyProvider, contextProvider));
+    private String counterParty(RemoteMessage message) {
+        var address = String.valueOf(message.getCounterPartyAddress());
+        try {
+            return Optional.ofNullable(URI.create(address).getAuthority()).orElse(address);
+        } catch (IllegalArgumentException e) {
+            return address;
+        }
     }
 
     @NotNull
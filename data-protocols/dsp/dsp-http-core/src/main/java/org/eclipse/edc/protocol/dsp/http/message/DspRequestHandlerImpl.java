@@ -136,7 +136,10 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
 
         var resource = serviceResult.getContent();
 
-        var outputTransformation = registry.transform(resource, JsonObject.class);
+        var streamer = request.getResponseStreamer();
+        Result<?> outputTransformation = streamer != null
+                ? streamer.stream(resource, registry)
+                : registry.transform(resource, JsonObject.class);
         if (outputTransformation.failed()) {
             var errorCode = UUID.randomUUID();
             monitor.warning("Error transforming %s, error id %s: %s".formatted(request.getResultClass().getSimpleName(), errorCode, outputTransformation.getFailureDetail()));
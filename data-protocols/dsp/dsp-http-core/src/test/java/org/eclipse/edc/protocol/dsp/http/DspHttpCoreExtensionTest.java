@@ -17,17 +17,22 @@ package org.eclipse.edc.protocol.dsp.http;
 import org.eclipse.edc.boot.system.injection.ObjectFactory;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.protocol.dsp.http.message.DspRequestHandlerImpl;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.iam.AudienceResolver;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.eclipse.edc.token.spi.TokenDecorator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
@@ -78,6 +83,15 @@ class DspHttpCoreExtensionTest {
         verify(identityService).obtainClientCredentials(argThat(tokenParams -> tokenParams.getStringClaim(SCOPE_CLAIM).equals("test-scope")));
     }
 
+    @Test
+    void createDispatcher_shouldFail_whenConcurrencyIsLimitedWithoutDispatchThreads(ServiceExtensionContext context, ObjectFactory factory) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of(DspHttpCoreExtension.DSP_DISPATCH_MAX_CONCURRENCY, "10")));
+
+        extension = factory.constructInstance(DspHttpCoreExtension.class);
+
+        assertThatThrownBy(() -> extension.dspHttpRemoteMessageDispatcher(context)).isInstanceOf(EdcException.class);
+    }
+
     @Test
     @DisplayName("Assert creation of a DspRequestHandlerImpl")
     void createDspRequestHandler(DspHttpCoreExtension extension) {
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.dispatcher;
+
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CounterPartyDispatchLimiterTest {
+
+    private final Duration timeout = Duration.ofSeconds(5);
+
+    @Test
+    void shouldStartDispatchRightAway_whenUnlimited() {
+        var limiter = new CounterPartyDispatchLimiter(0, 0, Runnable::run);
+        var started = new AtomicInteger();
+
+        for (var i = 0; i < 10; i++) {
+            limiter.submit("counter-party", () -> {
+                started.incrementAndGet();
+                return new CompletableFuture<>();
+            });
+        }
+
+        assertThat(started).hasValue(10);
+    }
+
+    @Test
+    void shouldQueueDispatches_whenLimitIsReached() {
+        var limiter = new CounterPartyDispatchLimiter(1, 10, Runnable::run);
+        var inFlight = new CompletableFuture<String>();
+
+        var first = limiter.submit("counter-party", () -> inFlight);
+        var second = limiter.submit("counter-party", () -> CompletableFuture.completedFuture("second"));
+
+        assertThat(second).isNotDone();
+
+        inFlight.complete("first");
+
+        assertThat(first).succeedsWithin(timeout).isEqualTo("first");
+        assertThat(second).succeedsWithin(timeout).isEqualTo("second");
+    }
+
+    @Test
+    void shouldStartWaitingDispatchOnHandOverExecutor() {
+        var handOvers = new ArrayList<Runnable>();
+        var limiter = new CounterPartyDispatchLimiter(1, 10, handOvers::add);
+        var inFlight = new CompletableFuture<String>();
+        var started = new AtomicInteger();
+
+        limiter.submit("counter-party", () -> inFlight);
+        var second = limiter.submit("counter-party", () -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture("second");
+        });
+
+        inFlight.complete("first");
+
+        assertThat(started).hasValue(0);
+        assertThat(handOvers).hasSize(1);
+
+        handOvers.get(0).run();
+
+        assertThat(started).hasValue(1);
+        assertThat(second).succeedsWithin(timeout).isEqualTo("second");
+    }
+
+    @Test
+    void shouldNotLimitOtherCounterParties() {
+        var limiter = new CounterPartyDispatchLimiter(1, 10, Runnable::run);
+
+        limiter.submit("slow-counter-party", CompletableFuture::new);
+        var other = limiter.submit("other-counter-party", () -> CompletableFuture.completedFuture("other"));
+
+        assertThat(other).succeedsWithin(timeout).isEqualTo("other");
+    }
+
+    @Test
+    void shouldFail_whenQueueIsFull() {
+        var limiter = new CounterPartyDispatchLimiter(1, 1, Runnable::run);
+
+        limiter.submit("counter-party", CompletableFuture::new);
+        limiter.submit("counter-party", CompletableFuture::new);
+        var rejected = limiter.submit("counter-party", CompletableFuture::new);
+
+        assertThat(rejected).failsWithin(timeout).withThrowableThat().withCauseInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void shouldReleaseSlot_whenDispatchFails() {
+        var limiter = new CounterPartyDispatchLimiter(1, 10, Runnable::run);
+
+        var failed = limiter.submit("counter-party", () -> {
+            throw new EdcException("error");
+        });
+        var next = limiter.submit("counter-party", () -> CompletableFuture.completedFuture("next"));
+
+        assertThat(failed).failsWithin(timeout);
+        assertThat(next).succeedsWithin(timeout).isEqualTo("next");
+    }
+}
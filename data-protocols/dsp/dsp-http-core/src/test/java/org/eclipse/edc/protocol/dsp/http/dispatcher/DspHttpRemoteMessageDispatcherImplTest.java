@@ -45,8 +45,11 @@ import org.mockito.AdditionalMatchers;
 import org.mockito.ArgumentCaptor;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -337,6 +340,53 @@ class DspHttpRemoteMessageDispatcherImplTest {
         });
     }
 
+    @Test
+    void dispatch_shouldPrepareRequestOnExecutor() {
+        var tasks = new ArrayList<Runnable>();
+        Executor executor = tasks::add;
+        var asyncDispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, tokenDecorator, policyEngine,
+                audienceResolver, executor, 0, 0);
+        when(audienceResolver.resolve(any())).thenReturn(Result.success(AUDIENCE_VALUE));
+        when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
+        when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(completedFuture(dummyResponse(200)));
+        when(identityService.obtainClientCredentials(any()))
+                .thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("token").build()));
+        asyncDispatcher.registerMessage(TestMessage.class, requestFactory, mock());
+
+        var result = asyncDispatcher.dispatch(String.class, new TestMessage());
+
+        assertThat(result).isNotDone();
+        verifyNoInteractions(identityService, httpClient);
+
+        tasks.forEach(Runnable::run);
+
+        assertThat(result).succeedsWithin(timeout);
+    }
+
+    @Test
+    void dispatch_shouldLimitDispatchesPerCounterParty() {
+        var limitedDispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, tokenDecorator, policyEngine,
+                audienceResolver, Runnable::run, 1, 10);
+        var inFlight = new CompletableFuture<okhttp3.Response>();
+        when(audienceResolver.resolve(any())).thenReturn(Result.success(AUDIENCE_VALUE));
+        when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
+        when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(inFlight, completedFuture(dummyResponse(200)));
+        when(identityService.obtainClientCredentials(any()))
+                .thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("token").build()));
+        limitedDispatcher.registerMessage(TestMessage.class, requestFactory, mock());
+
+        var first = limitedDispatcher.dispatch(String.class, new TestMessage());
+        var second = limitedDispatcher.dispatch(String.class, new TestMessage());
+
+        assertThat(second).isNotDone();
+        verify(requestFactory).createRequest(any());
+
+        inFlight.complete(dummyResponse(200));
+
+        assertThat(first).succeedsWithin(timeout);
+        assertThat(second).succeedsWithin(timeout);
+    }
+
     static class TestMessage implements RemoteMessage {
         @Override
         public String getProtocol() {
@@ -16,6 +16,7 @@ package org.eclipse.edc.protocol.dsp.http.message;
 
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.protocol.dsp.http.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.http.spi.message.PostDspRequest;
@@ -50,6 +51,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -405,6 +407,41 @@ class DspRequestHandlerImplTest {
             assertThat(result.getHeaderString("test")).isEqualTo("test");
         }
 
+        @Test
+        void shouldUseResponseStreamer_whenSpecified() {
+            var message = mock(TestProcessRemoteMessage.class);
+            var content = new Object();
+            StreamingOutput output = outputStream -> { };
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(TestProcessRemoteMessage.class))).thenReturn(Result.success(message));
+            var request = postDspRequestBuilder()
+                    .serviceCall((m, t) -> ServiceResult.success(content))
+                    .responseStreamer((resource, registry) -> resource == content && registry == transformerRegistry
+                            ? Result.success(output) : Result.failure("unexpected arguments"))
+                    .build();
+
+            var result = handler.createResource(request);
+
+            assertThat(result.getStatus()).isEqualTo(200);
+            assertThat(result.getEntity()).isSameAs(output);
+            assertThat(result.getMediaType()).isEqualTo(APPLICATION_JSON_TYPE);
+            verify(transformerRegistry, never()).transform(any(), eq(JsonObject.class));
+        }
+
+        @Test
+        void shouldReturnInternalServerError_whenResponseStreamerFails() {
+            var message = mock(TestProcessRemoteMessage.class);
+            var request = postDspRequestBuilder().responseStreamer((resource, registry) -> Result.failure("error")).build();
+            var jsonError = error("500", "Failure", request.getProcessId());
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(TestProcessRemoteMessage.class))).thenReturn(Result.success(message));
+            when(transformerRegistry.transform(isA(TestError.class), eq(JsonObject.class))).thenReturn(Result.success(jsonError));
+
+            var result = handler.createResource(request);
+
+            assertThat(result.getStatus()).isEqualTo(500);
+        }
+
         private PostDspRequest.Builder<TestProcessRemoteMessage, Object, TestError> postDspRequestBuilder() {
             return PostDspRequest.Builder
                     .newInstance(TestProcessRemoteMessage.class, Object.class, TestError.class)
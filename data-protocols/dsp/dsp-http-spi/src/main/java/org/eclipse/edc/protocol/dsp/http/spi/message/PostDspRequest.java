@@ -26,6 +26,7 @@ public class PostDspRequest<I extends RemoteMessage, R, E extends ErrorMessage>
     private JsonObject message;
     private String processId;
     private String expectedMessageType;
+    private ResponseStreamer<R> responseStreamer;
 
     private PostDspRequest(Class<I> messageClass, Class<R> resultClass, Class<E> errorClass) {
         super(messageClass, resultClass, errorClass);
@@ -43,6 +44,13 @@ public class PostDspRequest<I extends RemoteMessage, R, E extends ErrorMessage>
         return expectedMessageType;
     }
 
+    /**
+     * The streamer that writes the resulting resource, if null the resource is transformed to a {@link JsonObject}.
+     */
+    public ResponseStreamer<R> getResponseStreamer() {
+        return responseStreamer;
+    }
+
     public static class Builder<I extends RemoteMessage, R, E extends ErrorMessage> extends DspRequest.Builder<I, R, PostDspRequest<I, R, E>, E, Builder<I, R, E>> {
 
         private Builder(Class<I> inputClass, Class<R> resultClass, Class<E> errorClass) {
@@ -68,6 +76,11 @@ public class PostDspRequest<I extends RemoteMessage, R, E extends ErrorMessage>
             return this;
         }
 
+        public Builder<I, R, E> responseStreamer(ResponseStreamer<R> responseStreamer) {
+            super.message.responseStreamer = responseStreamer;
+            return this;
+        }
+
         @Override
         protected Builder<I, R, E> self() {
             return this;
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.spi.message;
+
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+
+/**
+ * Writes a DSP response resource incrementally to the response body, instead of transforming it into a single
+ * {@link jakarta.json.JsonObject} that gets compacted and serialized as a whole.
+ *
+ * @param <R> the resource type.
+ */
+@FunctionalInterface
+public interface ResponseStreamer<R> {
+
+    /**
+     * Prepare the streaming of the resource. Failures that can be detected upfront should be returned as a failed
+     * result, as once the streaming has started the response status cannot be changed anymore.
+     *
+     * @param resource            the resource.
+     * @param transformerRegistry the transformer registry of the protocol version.
+     * @return the output that writes the compacted JSON-LD representation of the resource.
+     */
+    Result<StreamingOutput> stream(R resource, TypeTransformerRegistry transformerRegistry);
+}
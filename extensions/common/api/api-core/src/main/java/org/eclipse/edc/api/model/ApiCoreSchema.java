@@ -58,7 +58,9 @@ public interface ApiCoreSchema {
             int limit,
             SortOrder sortOrder,
             String sortField,
-            List<CriterionSchema> filterExpression
+            List<CriterionSchema> filterExpression,
+            @Schema(description = "Enables keyset pagination: empty for the first page, then the continuation token returned with the previous page. The offset is ignored")
+            String cursor
     ) {
         public static final String QUERY_SPEC_EXAMPLE = """
                 {
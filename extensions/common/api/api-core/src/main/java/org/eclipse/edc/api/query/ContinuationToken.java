@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.query;
+
+import org.eclipse.edc.spi.query.QueryCursor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static java.lang.String.format;
+
+/**
+ * Computes the opaque token that management API clients pass as {@code cursor} in the next {@link QuerySpec} to
+ * fetch the following page of a keyset-paginated query. The token is returned in the {@link #HEADER} response header.
+ */
+public final class ContinuationToken {
+
+    public static final String HEADER = "Edc-Continuation-Token";
+
+    private static final String ID_FIELD = "id";
+
+    private ContinuationToken() {
+    }
+
+    /**
+     * Returns the token of the page that follows the passed one. There's no next page if the query is not
+     * keyset-paginated or if the page is not full, except when a sorted query reaches the end of the elements with a
+     * sort value: the next page then starts the segment of the elements whose sort value is null.
+     *
+     * @param querySpec the query that returned the page.
+     * @param page      the page content.
+     * @return the token, empty if there's no next page.
+     */
+    public static Optional<String> next(QuerySpec querySpec, List<?> page) {
+        var cursor = querySpec.getCursor();
+        if (cursor == null) {
+            return Optional.empty();
+        }
+
+        var sortField = querySpec.getSortField();
+        var sortedById = sortField == null || sortField.equals(ID_FIELD);
+        if (page.isEmpty() || page.size() < querySpec.getLimit()) {
+            return sortedById || cursor.nullSortValues() ? Optional.empty() : Optional.of(QueryCursor.NULL_SORT_VALUES.encode());
+        }
+
+        var last = page.get(page.size() - 1);
+        var sortValue = sortedById || cursor.nullSortValues() ? null : ReflectionUtil.getFieldValue(sortField, last);
+        try {
+            String id = ReflectionUtil.getFieldValue(ID_FIELD, last);
+            return Optional.of(new QueryCursor(sortValue, id, !sortedById && sortValue == null).encode());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(format("Cannot paginate by %s with a cursor: %s", sortField, e.getMessage()));
+        }
+    }
+}
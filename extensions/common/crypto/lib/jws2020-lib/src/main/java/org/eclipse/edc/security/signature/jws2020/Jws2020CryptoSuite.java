@@ -17,9 +17,14 @@ package org.eclipse.edc.security.signature.jws2020;
 import com.apicatalog.ld.signature.CryptoSuite;
 import com.apicatalog.ld.signature.primitive.MessageDigest;
 import com.apicatalog.ld.signature.primitive.Urdna2015;
+import org.eclipse.edc.security.token.jwt.JwsVerifierCache;
 
 class Jws2020CryptoSuite extends CryptoSuite {
     Jws2020CryptoSuite() {
-        super(new Urdna2015(), new MessageDigest("SHA-256"), new Jws2020Signature());
+        this(new JwsVerifierCache(JwsVerifierCache.DEFAULT_CACHE_SIZE));
+    }
+
+    Jws2020CryptoSuite(JwsVerifierCache verifierCache) {
+        super(new Urdna2015(), new MessageDigest("SHA-256"), new Jws2020Signature(verifierCache));
     }
 }
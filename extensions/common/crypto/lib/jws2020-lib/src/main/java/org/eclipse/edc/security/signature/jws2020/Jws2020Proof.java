@@ -26,6 +26,7 @@ import com.apicatalog.vc.solid.SolidProofValue;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonStructure;
+import org.eclipse.edc.security.token.jwt.JwsVerifierCache;
 
 import java.net.URI;
 import java.time.Instant;
@@ -38,7 +39,7 @@ import static org.eclipse.edc.security.signature.jws2020.Jws2020SignatureSuite.P
  * Represents the {@code proof} object of a verifiable credential which is backed by a JsonWebKey2020, either embedded or linked.
  */
 public class Jws2020Proof implements Proof, MethodAdapter {
-    private final CryptoSuite cryptoSuite;
+    private CryptoSuite cryptoSuite;
     private JsonObject expandedDocument;
     private URI id;
     private Instant created;
@@ -48,7 +49,6 @@ public class Jws2020Proof implements Proof, MethodAdapter {
     private Jwk2020KeyAdapter adapter;
 
     protected Jws2020Proof() {
-        cryptoSuite = new Jws2020CryptoSuite();
     }
 
     @Override
@@ -121,6 +121,7 @@ public class Jws2020Proof implements Proof, MethodAdapter {
 
     public static final class Builder {
         private final Jws2020Proof instance;
+        private JwsVerifierCache verifierCache;
 
         private Builder() {
             instance = new Jws2020Proof();
@@ -133,6 +134,8 @@ public class Jws2020Proof implements Proof, MethodAdapter {
         public Jws2020Proof build() {
             Objects.requireNonNull(instance.expandedDocument, "JsonDocument cannot be null");
             Objects.requireNonNull(instance.adapter, "Jwk2020KeyAdapter cannot be null");
+            Objects.requireNonNull(verifierCache, "JwsVerifierCache cannot be null");
+            instance.cryptoSuite = new Jws2020CryptoSuite(verifierCache);
             return instance;
         }
 
@@ -170,5 +173,10 @@ public class Jws2020Proof implements Proof, MethodAdapter {
             instance.verificationMethod = verificationMethod;
             return this;
         }
+
+        public Builder verifierCache(JwsVerifierCache verifierCache) {
+            this.verifierCache = verifierCache;
+            return this;
+        }
     }
 }
@@ -26,6 +26,7 @@ import com.nimbusds.jose.JWSObject;
 import com.nimbusds.jose.Payload;
 import com.nimbusds.jose.jwk.JWK;
 import org.eclipse.edc.security.token.jwt.CryptoConverter;
+import org.eclipse.edc.security.token.jwt.JwsVerifierCache;
 
 import java.text.ParseException;
 import java.util.Collections;
@@ -35,6 +36,12 @@ import java.util.Collections;
  */
 class Jws2020Signature implements SignatureAlgorithm {
 
+    private final JwsVerifierCache verifierCache;
+
+    Jws2020Signature(JwsVerifierCache verifierCache) {
+        this.verifierCache = verifierCache;
+    }
+
     @Override
     public void verify(byte[] publicKey, byte[] signature, byte[] data) throws VerificationError {
 
@@ -43,7 +50,7 @@ class Jws2020Signature implements SignatureAlgorithm {
             if (jwk == null) {
                 throw new UnsupportedOperationException("Cannot deserialize public key, expected JWK format");
             }
-            var verifier = CryptoConverter.createVerifier(jwk);
+            var verifier = verifierCache.getVerifier(jwk);
 
             var detachedPayload = new Payload(data);
             var jws = new String(signature);
@@ -27,6 +27,7 @@ import com.apicatalog.vc.solid.SolidProofValue;
 import com.apicatalog.vc.suite.SignatureSuite;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.security.token.jwt.JwsVerifierCache;
 
 import static com.apicatalog.vc.VcVocab.SECURITY_VOCAB;
 
@@ -39,12 +40,21 @@ public final class Jws2020SignatureSuite implements SignatureSuite {
     public static final Term PROOF_VALUE_TERM = Term.create("jws", SECURITY_VOCAB);
     public static final String ID = SECURITY_VOCAB + JWS2020_ID;
     public final Jwk2020KeyAdapter methodAdapter;
+    private final JwsVerifierCache verifierCache;
 
     /**
      * Creates a new {@link Jws2020SignatureSuite} using an object mapper. That mapper is needed because parts of the schema are plain JSON.
      */
     public Jws2020SignatureSuite(ObjectMapper mapper) {
+        this(mapper, new JwsVerifierCache(JwsVerifierCache.DEFAULT_CACHE_SIZE));
+    }
+
+    /**
+     * Creates a new {@link Jws2020SignatureSuite} that verifies proofs with the verifiers kept in the given cache.
+     */
+    public Jws2020SignatureSuite(ObjectMapper mapper, JwsVerifierCache verifierCache) {
         methodAdapter = new Jwk2020KeyAdapter(mapper);
+        this.verifierCache = verifierCache;
     }
 
     @Override
@@ -69,6 +79,7 @@ public final class Jws2020SignatureSuite implements SignatureSuite {
                 .jws(getProofValue(node.scalar(PROOF_VALUE_TERM).string()))
                 .adapter(methodAdapter)
                 .verificationMethod(node.node(DataIntegrityVocab.VERIFICATION_METHOD).map(methodAdapter))
+                .verifierCache(verifierCache)
                 .build();
     }
 
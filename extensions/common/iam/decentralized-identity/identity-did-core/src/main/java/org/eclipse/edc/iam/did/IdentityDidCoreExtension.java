@@ -22,17 +22,37 @@ import org.eclipse.edc.keys.spi.KeyParserRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 
 @Provides({ DidResolverRegistry.class, DidPublicKeyResolver.class })
 @Extension(value = IdentityDidCoreExtension.NAME)
 public class IdentityDidCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Identity Did Core";
+
+    @Setting(value = "Maximum number of cached DID resolutions.", defaultValue = DidResolverRegistryImpl.DEFAULT_CACHE_SIZE + "", type = "int")
+    public static final String DID_CACHE_SIZE = "edc.iam.did.cache.size";
+    @Setting(value = "Maximum time in milliseconds a resolved DID document is cached. A shorter maximum age stated by the DID resolver takes precedence.",
+            defaultValue = DidResolverRegistryImpl.DEFAULT_CACHE_VALIDITY_MILLIS + "", type = "long")
+    public static final String DID_CACHE_VALIDITY = "edc.iam.did.cache.validity";
+    @Setting(value = "Time in milliseconds a failed DID resolution is cached.", defaultValue = DidResolverRegistryImpl.DEFAULT_NEGATIVE_CACHE_VALIDITY_MILLIS + "", type = "long")
+    public static final String DID_NEGATIVE_CACHE_VALIDITY = "edc.iam.did.cache.negative.validity";
+
     @Inject
     private KeyParserRegistry keyParserRegistry;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+    @Inject
+    private Clock clock;
+    private ExecutorService refreshExecutor;
 
     @Override
     public String name() {
@@ -41,11 +61,24 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl();
+        var config = context.getConfig();
+        refreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "DID Document Refresh Thread");
+        var didResolverRegistry = new DidResolverRegistryImpl(
+                config.getInteger(DID_CACHE_SIZE, DidResolverRegistryImpl.DEFAULT_CACHE_SIZE),
+                config.getLong(DID_CACHE_VALIDITY, DidResolverRegistryImpl.DEFAULT_CACHE_VALIDITY_MILLIS),
+                config.getLong(DID_NEGATIVE_CACHE_VALIDITY, DidResolverRegistryImpl.DEFAULT_NEGATIVE_CACHE_VALIDITY_MILLIS),
+                refreshExecutor, clock);
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(keyParserRegistry, didResolverRegistry);
         context.registerService(DidPublicKeyResolver.class, publicKeyResolver);
     }
 
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
 }
@@ -23,8 +23,10 @@ import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.keys.AbstractPublicKeyResolver;
 import org.eclipse.edc.keys.spi.KeyParserRegistry;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
 import org.jetbrains.annotations.Nullable;
 
+import java.security.PublicKey;
 import java.text.ParseException;
 import java.util.HashMap;
 import java.util.List;
@@ -35,8 +37,15 @@ import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.eclipse.edc.iam.did.spi.document.DidConstants.ALLOWED_VERIFICATION_TYPES;
 
+/**
+ * Resolves public keys from the verification methods of DID documents. Resolved keys are kept as long as the
+ * {@link DidResolverRegistry} returns the same document instance they were resolved from, so that cached documents don't
+ * need to be searched and parsed again.
+ */
 public class DidPublicKeyResolverImpl extends AbstractPublicKeyResolver implements DidPublicKeyResolver {
 
+    public static final int DEFAULT_KEY_CACHE_SIZE = 100;
+
     /**
      * this regex pattern matches both DIDs and DIDs with a fragment (e.g. key-ID).
      * Group 1 ("did")      = the did:method:identifier portion
@@ -46,10 +55,40 @@ public class DidPublicKeyResolverImpl extends AbstractPublicKeyResolver implemen
     private static final String GROUP_DID = "did";
     private static final String GROUP_FRAGMENT = "fragment";
     private final DidResolverRegistry resolverRegistry;
+    private final ConcurrentLruCache<String, ResolvedKey> keyCache;
 
     public DidPublicKeyResolverImpl(KeyParserRegistry registry, DidResolverRegistry resolverRegistry) {
+        this(registry, resolverRegistry, DEFAULT_KEY_CACHE_SIZE);
+    }
+
+    public DidPublicKeyResolverImpl(KeyParserRegistry registry, DidResolverRegistry resolverRegistry, int keyCacheSize) {
         super(registry);
         this.resolverRegistry = resolverRegistry;
+        this.keyCache = new ConcurrentLruCache<>(keyCacheSize);
+    }
+
+    @Override
+    public Result<PublicKey> resolveKey(String id) {
+        var matcher = id == null ? null : PATTERN_DID_WITH_OPTIONAL_FRAGMENT.matcher(id);
+        if (matcher == null || !matcher.matches()) {
+            return super.resolveKey(id);
+        }
+
+        var did = matcher.group(GROUP_DID);
+        var didResult = resolverRegistry.resolve(did);
+        if (didResult.failed()) {
+            return parseKey(id, didResult.mapTo());
+        }
+
+        var didDocument = didResult.getContent();
+        var cached = keyCache.get(id);
+        if (cached != null && cached.didDocument() == didDocument) {
+            return cached.key();
+        }
+
+        var key = parseKey(id, resolveDidPublicKey(didDocument, did, id, matcher.group(GROUP_FRAGMENT)));
+        keyCache.put(id, new ResolvedKey(didDocument, key));
+        return key;
     }
 
     @Override
@@ -77,7 +116,10 @@ public class DidPublicKeyResolverImpl extends AbstractPublicKeyResolver implemen
             return didResult.mapTo();
         }
 
-        var didDocument = didResult.getContent();
+        return resolveDidPublicKey(didResult.getContent(), didUrl, verificationMethodUrl, keyId);
+    }
+
+    private Result<String> resolveDidPublicKey(DidDocument didDocument, String didUrl, String verificationMethodUrl, @Nullable String keyId) {
         var verificationMethods = validVerificationMethods(didDocument);
         if (verificationMethods.isEmpty()) {
             return Result.failure(format("DID document with id %s does not contain any supported Verification Method", didDocument.getId()));
@@ -132,4 +174,7 @@ public class DidPublicKeyResolverImpl extends AbstractPublicKeyResolver implemen
             }
         };
     }
+
+    private record ResolvedKey(DidDocument didDocument, Result<PublicKey> key) {
+    }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.iam.did.resolution;
 
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolution;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.spi.result.Result;
@@ -22,23 +23,42 @@ import org.eclipse.edc.util.collection.ConcurrentLruCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
- * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link ConcurrentLruCache}
+ * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link ConcurrentLruCache}.
+ * <p>
+ * Resolved documents are cached for the configured validity, or for the maximum age stated by the resolver, whichever is
+ * shorter. Failed resolutions are cached as well, for a shorter period, so that unresolvable DIDs are not fetched on every
+ * request. Concurrent resolutions of the same DID share a single call to the resolver, and documents that are about to
+ * expire are refreshed in the background, while the cached document is still served.
  */
 public class DidResolverRegistryImpl implements DidResolverRegistry {
     public static final String DID_SEPARATOR = ":";
+    public static final int DEFAULT_CACHE_SIZE = 50;
+    public static final long DEFAULT_CACHE_VALIDITY_MILLIS = 5 * 60 * 1000L;
+    public static final long DEFAULT_NEGATIVE_CACHE_VALIDITY_MILLIS = 30 * 1000L;
+    public static final double REFRESH_AHEAD_FACTOR = 0.8;
     private static final String DID = "did";
     private static final int DID_PREFIX = 0;
     private static final int DID_METHOD_NAME = 1;
-    private final ConcurrentLruCache<String, DidDocument> didCache;
+    private final ConcurrentLruCache<String, CachedResolution> didCache;
+    private final Map<String, CompletableFuture<CachedResolution>> inFlight = new ConcurrentHashMap<>();
     private final Map<String, DidResolver> resolvers = new HashMap<>();
+    private final long cacheValidity;
+    private final long negativeCacheValidity;
+    private final Executor refreshExecutor;
+    private final Clock clock;
 
     public DidResolverRegistryImpl() {
-        didCache = new ConcurrentLruCache<>(50);
+        this(DEFAULT_CACHE_SIZE);
     }
 
     /**
@@ -47,7 +67,24 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
      * @param cacheSize the maximum number of entries that the cache can hold. Pass 0 to effectively deactivate the cache.
      */
     public DidResolverRegistryImpl(int cacheSize) {
-        didCache = new ConcurrentLruCache<>(cacheSize);
+        this(cacheSize, DEFAULT_CACHE_VALIDITY_MILLIS, DEFAULT_NEGATIVE_CACHE_VALIDITY_MILLIS, Runnable::run, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a DidResolverRegistryImpl object with the specified cache configuration.
+     *
+     * @param cacheSize             the maximum number of entries that the cache can hold. Pass 0 to effectively deactivate the cache.
+     * @param cacheValidity         the maximum time in milliseconds a resolved document is cached
+     * @param negativeCacheValidity the time in milliseconds a failed resolution is cached
+     * @param refreshExecutor       the executor on which documents that are about to expire are refreshed
+     * @param clock                 the clock
+     */
+    public DidResolverRegistryImpl(int cacheSize, long cacheValidity, long negativeCacheValidity, Executor refreshExecutor, Clock clock) {
+        this.didCache = new ConcurrentLruCache<>(cacheSize);
+        this.cacheValidity = cacheValidity;
+        this.negativeCacheValidity = negativeCacheValidity;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
     }
 
     @Override
@@ -88,17 +125,58 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
 
     @NotNull
     private Result<DidDocument> resolveCachedDocument(String didKey, DidResolver resolver) {
-        var didDocument = didCache.get(didKey);
-        if (didDocument == null) {
+        var now = clock.millis();
+        var cached = didCache.get(didKey);
+        if (cached == null || cached.expiresAt() <= now) {
+            return fetch(didKey, resolver, false).result();
+        }
+
+        if (cached.refreshAt() <= now && !inFlight.containsKey(didKey)) {
+            refreshExecutor.execute(() -> fetch(didKey, resolver, true));
+        }
+        return cached.result();
+    }
 
-            var resolveResult = resolver.resolve(didKey);
-            if (resolveResult.failed()) {
-                return resolveResult;
+    /**
+     * Resolves the document, or waits for the resolution that is already in progress for the same DID. A failed refresh
+     * doesn't replace a cached document, which stays in use until it expires.
+     */
+    private CachedResolution fetch(String didKey, DidResolver resolver, boolean refresh) {
+        var future = new CompletableFuture<CachedResolution>();
+        var existing = inFlight.putIfAbsent(didKey, future);
+        if (existing != null) {
+            return existing.join();
+        }
+
+        try {
+            var resolution = load(didKey, resolver);
+            if (resolution.expiresAt() > clock.millis() && (!refresh || resolution.result().succeeded())) {
+                didCache.put(didKey, resolution);
             }
-            didDocument = resolveResult.getContent();
-            didCache.put(didKey, didDocument);
+            future.complete(resolution);
+            return resolution;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(didKey, future);
         }
+    }
+
+    private CachedResolution load(String didKey, DidResolver resolver) {
+        var result = resolver.resolveWithMaxAge(didKey);
+        var now = clock.millis();
+        if (result.failed()) {
+            var expiresAt = now + negativeCacheValidity;
+            return new CachedResolution(result.map(DidResolution::didDocument), expiresAt, expiresAt);
+        }
+
+        var validity = Optional.ofNullable(result.getContent().maxAge())
+                .map(maxAge -> Math.min(maxAge.toMillis(), cacheValidity))
+                .orElse(cacheValidity);
+        return new CachedResolution(result.map(DidResolution::didDocument), now + validity, now + (long) (validity * REFRESH_AHEAD_FACTOR));
+    }
 
-        return Result.success(didDocument);
+    private record CachedResolution(Result<DidDocument> result, long expiresAt, long refreshAt) {
     }
 }
@@ -39,6 +39,7 @@ import static java.lang.String.format;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -107,6 +108,29 @@ class DidPublicKeyResolverImplTest {
         verify(resolverRegistry).resolve(DID_URL);
     }
 
+    @Test
+    void resolve_shouldReuseKey_whenDocumentIsUnchanged() {
+        var didDocument = createDidDocument();
+        when(resolverRegistry.resolve(DID_URL)).thenReturn(Result.success(didDocument));
+
+        var first = resolver.resolveKey(DID_URL + "#" + KEYID);
+        var second = resolver.resolveKey(DID_URL + "#" + KEYID);
+
+        assertThat(first).isSucceeded();
+        assertThat(second).isSucceeded().isEqualTo(first.getContent());
+        verify(keyParserRegistry, times(1)).parse(anyString());
+    }
+
+    @Test
+    void resolve_shouldParseKeyAgain_whenDocumentChanged() {
+        when(resolverRegistry.resolve(DID_URL)).thenReturn(Result.success(createDidDocument()), Result.success(createDidDocument()));
+
+        resolver.resolveKey(DID_URL + "#" + KEYID);
+        resolver.resolveKey(DID_URL + "#" + KEYID);
+
+        verify(keyParserRegistry, times(2)).parse(anyString());
+    }
+
     @Test
     void resolve_noValidVerificationMethod() {
         var didDocument = DidDocument.Builder.newInstance()
@@ -15,15 +15,28 @@
 package org.eclipse.edc.iam.did.resolution;
 
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolution;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Verifies {@link DidResolverRegistryImpl}.
@@ -67,6 +80,149 @@ class DidResolverRegistryImplTest {
         assertThat(registry.isSupported("did:unsupported:whatever")).isFalse();
     }
 
+    @Test
+    void resolve_shouldCacheDocument_untilExpired() {
+        var now = new AtomicLong();
+        var resolver = new CountingResolver(Result.success(new DidResolution(DidDocument.Builder.newInstance().build(), null)));
+        var cachingRegistry = new DidResolverRegistryImpl(10, 1000, 100, Runnable::run, clockAt(now));
+        cachingRegistry.register(resolver);
+
+        cachingRegistry.resolve("did:foo:id");
+        cachingRegistry.resolve("did:foo:id");
+        assertThat(resolver.calls).hasValue(1);
+
+        now.set(1000);
+        cachingRegistry.resolve("did:foo:id");
+        assertThat(resolver.calls).hasValue(2);
+    }
+
+    @Test
+    void resolve_shouldHonourMaxAgeOfResolver() {
+        var now = new AtomicLong();
+        var resolver = new CountingResolver(Result.success(new DidResolution(DidDocument.Builder.newInstance().build(), Duration.ofMillis(100))));
+        var cachingRegistry = new DidResolverRegistryImpl(10, 1000, 100, Runnable::run, clockAt(now));
+        cachingRegistry.register(resolver);
+
+        cachingRegistry.resolve("did:foo:id");
+        now.set(100);
+        cachingRegistry.resolve("did:foo:id");
+
+        assertThat(resolver.calls).hasValue(2);
+    }
+
+    @Test
+    void resolve_shouldCacheFailure() {
+        var now = new AtomicLong();
+        var resolver = new CountingResolver(Result.failure("not found"));
+        var cachingRegistry = new DidResolverRegistryImpl(10, 1000, 100, Runnable::run, clockAt(now));
+        cachingRegistry.register(resolver);
+
+        assertThat(cachingRegistry.resolve("did:foo:id").failed()).isTrue();
+        assertThat(cachingRegistry.resolve("did:foo:id").failed()).isTrue();
+        assertThat(resolver.calls).hasValue(1);
+
+        now.set(100);
+        cachingRegistry.resolve("did:foo:id");
+        assertThat(resolver.calls).hasValue(2);
+    }
+
+    @Test
+    void resolve_shouldRefreshInBackground_beforeExpiry() {
+        var now = new AtomicLong();
+        var refreshes = new ArrayList<Runnable>();
+        var resolver = new CountingResolver(Result.success(new DidResolution(DidDocument.Builder.newInstance().build(), null)));
+        var cachingRegistry = new DidResolverRegistryImpl(10, 1000, 100, refreshes::add, clockAt(now));
+        cachingRegistry.register(resolver);
+        cachingRegistry.resolve("did:foo:id");
+
+        now.set((long) (1000 * DidResolverRegistryImpl.REFRESH_AHEAD_FACTOR));
+        var result = cachingRegistry.resolve("did:foo:id");
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(refreshes).hasSize(1);
+        assertThat(resolver.calls).hasValue(1);
+        refreshes.get(0).run();
+        assertThat(resolver.calls).hasValue(2);
+    }
+
+    @Test
+    void resolve_shouldKeepDocument_whenRefreshFails() {
+        var now = new AtomicLong();
+        var refreshes = new ArrayList<Runnable>();
+        var resolver = new CountingResolver(Result.success(new DidResolution(DidDocument.Builder.newInstance().build(), null)));
+        var cachingRegistry = new DidResolverRegistryImpl(10, 1000, 100, refreshes::add, clockAt(now));
+        cachingRegistry.register(resolver);
+        cachingRegistry.resolve("did:foo:id");
+
+        now.set((long) (1000 * DidResolverRegistryImpl.REFRESH_AHEAD_FACTOR));
+        cachingRegistry.resolve("did:foo:id");
+        resolver.result = Result.failure("unavailable");
+        refreshes.get(0).run();
+
+        assertThat(cachingRegistry.resolve("did:foo:id").succeeded()).isTrue();
+    }
+
+    @Test
+    void resolve_shouldShareConcurrentResolutions() throws InterruptedException {
+        var latch = new CountDownLatch(1);
+        var calls = new AtomicInteger();
+        var cachingRegistry = new DidResolverRegistryImpl(10, 1000, 100, Runnable::run, Clock.systemUTC());
+        cachingRegistry.register(new MockResolver() {
+            @Override
+            public @NotNull Result<DidDocument> resolve(String didKey) {
+                calls.incrementAndGet();
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.resolve(didKey);
+            }
+        });
+
+        var executor = Executors.newFixedThreadPool(4);
+        var results = IntStream.range(0, 4)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> cachingRegistry.resolve("did:foo:id"), executor))
+                .toList();
+        Thread.sleep(100);
+        latch.countDown();
+
+        assertThat(results).allSatisfy(result -> assertThat(result.join().succeeded()).isTrue());
+        assertThat(calls).hasValue(1);
+        executor.shutdownNow();
+    }
+
+    private Clock clockAt(AtomicLong now) {
+        Clock clock = mock();
+        when(clock.millis()).thenAnswer(i -> now.get());
+        return clock;
+    }
+
+    private static class CountingResolver implements DidResolver {
+        private final AtomicInteger calls = new AtomicInteger();
+        private Result<DidResolution> result;
+
+        CountingResolver(Result<DidResolution> result) {
+            this.result = result;
+        }
+
+        @Override
+        public @NotNull String getMethod() {
+            return FOO_METHOD;
+        }
+
+        @Override
+        public @NotNull Result<DidDocument> resolve(String didKey) {
+            return resolveWithMaxAge(didKey).map(DidResolution::didDocument);
+        }
+
+        @Override
+        public @NotNull Result<DidResolution> resolveWithMaxAge(String didKey) {
+            calls.incrementAndGet();
+            return result;
+        }
+    }
+
     /**
      * Mock resolver class.
      */
@@ -15,15 +15,19 @@
 package org.eclipse.edc.iam.did.web.resolution;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.CacheControl;
 import okhttp3.Request;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolution;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.time.Duration;
 
 import static java.lang.String.format;
 
@@ -56,6 +60,16 @@ public class WebDidResolver implements DidResolver {
     @Override
     @NotNull
     public Result<DidDocument> resolve(String didKey) {
+        return resolveWithMaxAge(didKey).map(DidResolution::didDocument);
+    }
+
+    /**
+     * Resolves the DID document, taking the maximum age from the {@code Cache-Control} header of the response: {@code no-store}
+     * and {@code no-cache} result in a maximum age of zero.
+     */
+    @Override
+    @NotNull
+    public Result<DidResolution> resolveWithMaxAge(String didKey) {
         String url;
         try {
             url = urlResolver.apply(didKey);
@@ -74,11 +88,19 @@ public class WebDidResolver implements DidResolver {
                     return Result.failure("DID response contained an empty body: " + didKey);
                 }
                 var didDocument = mapper.readValue(body.string(), DidDocument.class);
-                return Result.success(didDocument);
+                return Result.success(new DidResolution(didDocument, maxAge(response.cacheControl())));
             }
         } catch (IOException e) {
             monitor.severe("Error resolving DID: " + didKey, e);
             return Result.failure("Error resolving DID: " + e.getMessage());
         }
     }
+
+    @Nullable
+    private Duration maxAge(CacheControl cacheControl) {
+        if (cacheControl.noStore() || cacheControl.noCache()) {
+            return Duration.ZERO;
+        }
+        return cacheControl.maxAgeSeconds() >= 0 ? Duration.ofSeconds(cacheControl.maxAgeSeconds()) : null;
+    }
 }
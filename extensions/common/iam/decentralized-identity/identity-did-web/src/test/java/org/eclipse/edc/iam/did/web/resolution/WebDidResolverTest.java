@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 import static okhttp3.Protocol.HTTP_1_1;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,6 +54,26 @@ class WebDidResolverTest {
         assertThat(result.getContent()).isNotNull();
     }
 
+    @Test
+    void verifyResolveDocument_withMaxAge() {
+        var resolver = createResolver(cacheControlInterceptor("public, max-age=120"));
+
+        var result = resolver.resolveWithMaxAge("did:web:foo.com:edc:EiDfkaPHt8Yojnh15O7egrj5pA9tTefh_SYtbhF1-XyAeA");
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().maxAge()).isEqualTo(Duration.ofSeconds(120));
+    }
+
+    @Test
+    void verifyResolveDocument_withNoStore() {
+        var resolver = createResolver(cacheControlInterceptor("no-store"));
+
+        var result = resolver.resolveWithMaxAge("did:web:foo.com:edc:EiDfkaPHt8Yojnh15O7egrj5pA9tTefh_SYtbhF1-XyAeA");
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().maxAge()).isEqualTo(Duration.ZERO);
+    }
+
     @Test
     void verifyResolveDocumentNotFound() {
         var interceptor = new Interceptor() {
@@ -70,6 +91,17 @@ class WebDidResolverTest {
         assertThat(result.failed()).isTrue();
     }
 
+    private Interceptor cacheControlInterceptor(String cacheControl) {
+        return chain -> {
+            var didStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("did.json");
+            assert didStream != null;
+            var didDocument = new String(didStream.readAllBytes(), StandardCharsets.UTF_8);
+            var body = ResponseBody.create(didDocument, MediaType.get("application/json"));
+            return new Response.Builder().body(body).protocol(HTTP_1_1).request(chain.request()).code(200).message("ok")
+                    .header("Cache-Control", cacheControl).build();
+        };
+    }
+
     private WebDidResolver createResolver(Interceptor... interceptors) {
         return new WebDidResolver(testHttpClient(interceptors), true, new ObjectMapper(), mock(Monitor.class));
     }
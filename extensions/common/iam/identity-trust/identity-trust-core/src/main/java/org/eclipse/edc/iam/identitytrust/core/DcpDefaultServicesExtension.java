@@ -58,6 +58,11 @@ public class DcpDefaultServicesExtension implements ServiceExtension {
     @Setting(value = "Self-issued ID Token expiration in minutes. By default is 5 minutes", defaultValue = "" + DcpDefaultServicesExtension.DEFAULT_STS_TOKEN_EXPIRATION_MIN)
     private static final String STS_TOKEN_EXPIRATION = "edc.iam.sts.token.expiration"; // in minutes
     private static final int DEFAULT_STS_TOKEN_EXPIRATION_MIN = 5;
+    @Setting(value = "Whether the Embedded STS reuses a token for the same claims, until its remaining validity drops below the safety margin. Tokens with a bearer access scope are never reused", defaultValue = "false", type = "boolean")
+    private static final String STS_TOKEN_REUSE_ENABLED = "edc.iam.sts.token.reuse.enabled";
+    @Setting(value = "Minimum remaining validity in seconds a token needs to have to be reused by the Embedded STS", defaultValue = "" + DcpDefaultServicesExtension.DEFAULT_STS_TOKEN_REUSE_MARGIN_SEC, type = "long")
+    private static final String STS_TOKEN_REUSE_MARGIN = "edc.iam.sts.token.reuse.margin";
+    private static final long DEFAULT_STS_TOKEN_REUSE_MARGIN_SEC = 60;
     @Inject
     private Clock clock;
     @Inject
@@ -80,7 +85,11 @@ public class DcpDefaultServicesExtension implements ServiceExtension {
         var publicKeyId = context.getSetting(STS_PUBLIC_KEY_ID, null);
         var privateKeyAlias = context.getSetting(STS_PRIVATE_KEY_ALIAS, null);
 
-        return new EmbeddedSecureTokenService(new JwtGenerationService(externalSigner), () -> privateKeyAlias, () -> publicKeyId, clock, TimeUnit.MINUTES.toSeconds(tokenExpiration), jtiValidationStore);
+        var reuseTokens = context.getSetting(STS_TOKEN_REUSE_ENABLED, false);
+        var reuseMargin = context.getSetting(STS_TOKEN_REUSE_MARGIN, DEFAULT_STS_TOKEN_REUSE_MARGIN_SEC);
+
+        return new EmbeddedSecureTokenService(new JwtGenerationService(externalSigner), () -> privateKeyAlias, () -> publicKeyId, clock,
+                TimeUnit.MINUTES.toSeconds(tokenExpiration), jtiValidationStore, reuseTokens, reuseMargin);
     }
 
     @Provider(isDefault = true)
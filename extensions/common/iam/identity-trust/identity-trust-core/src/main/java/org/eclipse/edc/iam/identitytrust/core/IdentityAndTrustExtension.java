@@ -21,6 +21,7 @@ import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.iam.identitytrust.core.defaults.DefaultCredentialServiceClient;
 import org.eclipse.edc.iam.identitytrust.service.DidCredentialServiceUrlResolver;
 import org.eclipse.edc.iam.identitytrust.service.IdentityAndTrustService;
+import org.eclipse.edc.iam.identitytrust.service.VerifiedPresentationCache;
 import org.eclipse.edc.iam.identitytrust.service.verification.MultiFormatPresentationVerifier;
 import org.eclipse.edc.iam.identitytrust.spi.ClaimTokenCreatorFunction;
 import org.eclipse.edc.iam.identitytrust.spi.CredentialServiceClient;
@@ -44,6 +45,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.security.signature.jws2020.Jws2020SignatureSuite;
+import org.eclipse.edc.security.token.jwt.JwsVerifierCache;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -66,6 +68,7 @@ import org.jetbrains.annotations.NotNull;
 import java.net.URISyntaxException;
 import java.time.Clock;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -80,6 +83,17 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     public static final long DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS = 15 * 60 * 1000L;
     @Setting(value = "Validity period of cached StatusList2021 credential entries in milliseconds.", defaultValue = DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS + "", type = "long")
     public static final String REVOCATION_CACHE_VALIDITY = "edc.iam.credential.revocation.cache.validity";
+    public static final long DEFAULT_PRESENTATION_CACHE_VALIDITY_MILLIS = 0;
+    @Setting(value = "Validity period in milliseconds of cached claims of verified presentations. The cache is disabled with 0. " +
+            "Cached claims are dropped whenever a status list gets refreshed.", defaultValue = DEFAULT_PRESENTATION_CACHE_VALIDITY_MILLIS + "", type = "long")
+    public static final String PRESENTATION_CACHE_VALIDITY = "edc.iam.credential.presentation.cache.validity";
+    public static final int DEFAULT_PRESENTATION_CACHE_MAX_ENTRIES = 10_000;
+    @Setting(value = "Maximum number of cached claims of verified presentations.", defaultValue = DEFAULT_PRESENTATION_CACHE_MAX_ENTRIES + "", type = "int")
+    public static final String PRESENTATION_CACHE_MAX_ENTRIES = "edc.iam.credential.presentation.cache.size";
+    public static final int DEFAULT_CREDENTIAL_VALIDATION_PARALLELISM = 0;
+    @Setting(value = "Number of threads used to verify presentations and their credentials concurrently, stopping at the first failure. " +
+            "With 0, they are verified one after another.", defaultValue = DEFAULT_CREDENTIAL_VALIDATION_PARALLELISM + "", type = "int")
+    public static final String CREDENTIAL_VALIDATION_PARALLELISM = "edc.iam.credential.validation.parallelism";
     @Setting(value = "DID of this connector", required = true)
     public static final String CONNECTOR_DID_PROPERTY = "edc.iam.issuer.id";
     public static final String DCP_SELF_ISSUED_TOKEN_CONTEXT = "dcp-si";
@@ -140,10 +154,15 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     private JtiValidationStore jtiValidationStore;
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
+    @Inject
+    private JwsVerifierCache jwsVerifierCache;
     private PresentationVerifier presentationVerifier;
     private CredentialServiceClient credentialServiceClient;
     private long reaperThreadPeriod;
     private ScheduledFuture<?> jtiEntryReaperThread;
+    private ExecutorService statusListRefreshExecutor;
+    private ExecutorService credentialValidationExecutor;
+    private VerifiedPresentationCache verifiedPresentationCache;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
@@ -159,7 +178,7 @@ public class IdentityAndTrustExtension implements ServiceExtension {
         rulesRegistry.addRule(JWT_VC_TOKEN_CONTEXT, new HasSubjectRule());
 
         // TODO move in a separated extension?
-        signatureSuiteRegistry.register(JSON_2020_SIGNATURE_SUITE, new Jws2020SignatureSuite(typeManager.getMapper(JSON_LD)));
+        signatureSuiteRegistry.register(JSON_2020_SIGNATURE_SUITE, new Jws2020SignatureSuite(typeManager.getMapper(JSON_LD), jwsVerifierCache));
 
         reaperThreadPeriod = context.getSetting(CLEANUP_PERIOD, DEFAULT_CLEANUP_PERIOD_SECONDS);
 
@@ -173,8 +192,14 @@ public class IdentityAndTrustExtension implements ServiceExtension {
 
         // register revocation services
         var validity = context.getConfig().getLong(REVOCATION_CACHE_VALIDITY, DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS);
-        revocationServiceRegistry.addService(StatusList2021Status.TYPE, new StatusList2021RevocationService(typeManager.getMapper(), validity));
-        revocationServiceRegistry.addService(BitstringStatusListStatus.TYPE, new BitstringStatusListRevocationService(typeManager.getMapper(), validity));
+        statusListRefreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "Status List Refresh Thread");
+        verifiedPresentationCache = createVerifiedPresentationCache(context);
+        // a refreshed status list may revoke credentials whose claims are cached
+        Runnable onStatusListRefresh = verifiedPresentationCache != null ? verifiedPresentationCache::invalidateAll : () -> { };
+        revocationServiceRegistry.addService(StatusList2021Status.TYPE, new StatusList2021RevocationService(typeManager.getMapper(), validity, statusListRefreshExecutor,
+                clock, context.getMonitor(), onStatusListRefresh));
+        revocationServiceRegistry.addService(BitstringStatusListStatus.TYPE, new BitstringStatusListRevocationService(typeManager.getMapper(), validity, statusListRefreshExecutor,
+                clock, context.getMonitor(), onStatusListRefresh));
     }
 
     @Override
@@ -186,6 +211,10 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     @Override
     public void shutdown() {
         jtiEntryReaperThread.cancel(true);
+        statusListRefreshExecutor.shutdownNow();
+        if (credentialValidationExecutor != null) {
+            credentialValidationExecutor.shutdownNow();
+        }
     }
 
     @Provider
@@ -193,12 +222,16 @@ public class IdentityAndTrustExtension implements ServiceExtension {
         var credentialServiceUrlResolver = new DidCredentialServiceUrlResolver(didResolverRegistry);
         var validationAction = tokenValidationAction();
 
+        var parallelism = context.getConfig().getInteger(CREDENTIAL_VALIDATION_PARALLELISM, DEFAULT_CREDENTIAL_VALIDATION_PARALLELISM);
+        if (parallelism > 0) {
+            credentialValidationExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(parallelism), "Credential Validation");
+        }
         var credentialValidationService = new VerifiableCredentialValidationServiceImpl(createPresentationVerifier(context),
-                trustedIssuerRegistry, revocationServiceRegistry, clock);
+                trustedIssuerRegistry, revocationServiceRegistry, clock, credentialValidationExecutor);
 
         return new IdentityAndTrustService(secureTokenService, getOwnDid(context),
                 getCredentialServiceClient(context), validationAction, credentialServiceUrlResolver, claimTokenFunction,
-                credentialValidationService);
+                credentialValidationService, verifiedPresentationCache);
     }
 
     @Provider
@@ -237,6 +270,16 @@ public class IdentityAndTrustExtension implements ServiceExtension {
         };
     }
 
+    private VerifiedPresentationCache createVerifiedPresentationCache(ServiceExtensionContext context) {
+        var validity = context.getConfig().getLong(PRESENTATION_CACHE_VALIDITY, DEFAULT_PRESENTATION_CACHE_VALIDITY_MILLIS);
+        if (validity <= 0) {
+            return null;
+        }
+        var revocationValidity = context.getConfig().getLong(REVOCATION_CACHE_VALIDITY, DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS);
+        var maxEntries = context.getConfig().getInteger(PRESENTATION_CACHE_MAX_ENTRIES, DEFAULT_PRESENTATION_CACHE_MAX_ENTRIES);
+        return new VerifiedPresentationCache(clock, validity, revocationValidity, maxEntries);
+    }
+
     private String getOwnDid(ServiceExtensionContext context) {
         var ownDid = context.getConfig().getString(CONNECTOR_DID_PROPERTY, null);
         if (ownDid == null) {
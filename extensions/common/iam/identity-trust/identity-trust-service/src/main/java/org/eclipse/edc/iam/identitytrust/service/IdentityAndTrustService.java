@@ -30,6 +30,7 @@ import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.iam.VerificationContext;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.util.string.StringUtils;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -71,6 +72,7 @@ public class IdentityAndTrustService implements IdentityService {
     private final CredentialServiceUrlResolver credentialServiceUrlResolver;
     private final ClaimTokenCreatorFunction claimTokenCreatorFunction;
     private final VerifiableCredentialValidationService verifiableCredentialValidationService;
+    private final VerifiedPresentationCache verifiedPresentationCache;
 
     /**
      * Constructs a new instance of the {@link IdentityAndTrustService}.
@@ -84,6 +86,25 @@ public class IdentityAndTrustService implements IdentityService {
                                    CredentialServiceUrlResolver csUrlResolver,
                                    ClaimTokenCreatorFunction claimTokenCreatorFunction,
                                    VerifiableCredentialValidationService verifiableCredentialValidationService) {
+        this(secureTokenService, myOwnDid, credentialServiceClient, tokenValidationAction, csUrlResolver, claimTokenCreatorFunction,
+                verifiableCredentialValidationService, null);
+    }
+
+    /**
+     * Constructs a new instance of the {@link IdentityAndTrustService}, which keeps the claims of verified presentations in the
+     * given cache.
+     *
+     * @param secureTokenService        Instance of an STS, which can create SI tokens
+     * @param myOwnDid                  The DID which belongs to "this connector"
+     * @param verifiedPresentationCache Cache for the claims of verified presentations, can be null to disable caching
+     */
+    public IdentityAndTrustService(SecureTokenService secureTokenService, String myOwnDid,
+                                   CredentialServiceClient credentialServiceClient,
+                                   TokenValidationAction tokenValidationAction,
+                                   CredentialServiceUrlResolver csUrlResolver,
+                                   ClaimTokenCreatorFunction claimTokenCreatorFunction,
+                                   VerifiableCredentialValidationService verifiableCredentialValidationService,
+                                   @Nullable VerifiedPresentationCache verifiedPresentationCache) {
         this.secureTokenService = secureTokenService;
         this.myOwnDid = myOwnDid;
         this.credentialServiceClient = credentialServiceClient;
@@ -91,6 +112,7 @@ public class IdentityAndTrustService implements IdentityService {
         this.credentialServiceUrlResolver = csUrlResolver;
         this.claimTokenCreatorFunction = claimTokenCreatorFunction;
         this.verifiableCredentialValidationService = verifiableCredentialValidationService;
+        this.verifiedPresentationCache = verifiedPresentationCache;
     }
 
     @Override
@@ -133,6 +155,14 @@ public class IdentityAndTrustService implements IdentityService {
         var claimToken = claimTokenResult.getContent();
         var accessToken = claimToken.getStringClaim(PRESENTATION_TOKEN_CLAIM);
         var issuer = claimToken.getStringClaim(ISSUER);
+        var scopes = context.getScopes();
+
+        if (verifiedPresentationCache != null) {
+            var cached = verifiedPresentationCache.get(issuer, accessToken, scopes);
+            if (cached != null) {
+                return success(cached);
+            }
+        }
 
         var siTokenClaims = Map.of(PRESENTATION_TOKEN_CLAIM, accessToken,
                 ISSUED_AT, Instant.now().toString(),
@@ -148,7 +178,7 @@ public class IdentityAndTrustService implements IdentityService {
 
         // get CS Url, execute VP request
         var vpResponse = credentialServiceUrlResolver.resolve(issuer)
-                .compose(url -> credentialServiceClient.requestPresentation(url, siTokenString, context.getScopes().stream().toList()));
+                .compose(url -> credentialServiceClient.requestPresentation(url, siTokenString, scopes.stream().toList()));
 
         if (vpResponse.failed()) {
             return vpResponse.mapEmpty();
@@ -156,13 +186,18 @@ public class IdentityAndTrustService implements IdentityService {
 
         var presentations = vpResponse.getContent();
 
-        var result = verifiableCredentialValidationService.validate(presentations, getAdditionalValidations());
+        var credentials = presentations.stream().map(p -> p.presentation().getCredentials().stream())
+                .reduce(Stream.empty(), Stream::concat)
+                .toList();
 
-        return result
+        var result = verifiableCredentialValidationService.validate(presentations, getAdditionalValidations())
                 .compose(u -> verifyPresentationIssuer(issuer, presentations))
-                .compose(u -> claimTokenCreatorFunction.apply(presentations.stream().map(p -> p.presentation().getCredentials().stream())
-                        .reduce(Stream.empty(), Stream::concat)
-                        .toList()));
+                .compose(u -> claimTokenCreatorFunction.apply(credentials));
+
+        if (result.succeeded() && verifiedPresentationCache != null) {
+            verifiedPresentationCache.put(issuer, accessToken, scopes, result.getContent(), credentials);
+        }
+        return result;
     }
 
     /**
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.service;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the claims obtained from successfully verified presentations, so that repeated requests of the same
+ * counter-party, presenting the same access token for the same scopes, don't need to query and validate the
+ * presentations again.
+ * <p>
+ * An entry expires after the configured time-to-live, but never later than the earliest expiration date of the
+ * credentials it was built from. Entries built from credentials that carry a {@code credentialStatus} also expire
+ * after the revocation list validity period. Moreover, all entries are dropped through {@link #invalidateAll()} whenever
+ * a status list gets refreshed, so that a revocation is honoured as soon as it is seen. Access tokens are only held as
+ * SHA-256 hashes.
+ */
+public class VerifiedPresentationCache {
+
+    private final Clock clock;
+    private final long ttlMillis;
+    private final long revocationValidityMillis;
+    private final int maxEntries;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    public VerifiedPresentationCache(Clock clock, long ttlMillis, long revocationValidityMillis, int maxEntries) {
+        this.clock = clock;
+        this.ttlMillis = ttlMillis;
+        this.revocationValidityMillis = revocationValidityMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached claims for the given issuer, access token and scopes, or null if there's no valid entry.
+     */
+    public @Nullable ClaimToken get(String issuer, String accessToken, Collection<String> scopes) {
+        var key = key(issuer, accessToken, scopes);
+        var entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= clock.millis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return ClaimToken.Builder.newInstance().claims(entry.claimToken().getClaims()).build();
+    }
+
+    /**
+     * Stores the claims that were created out of the given verified credentials.
+     */
+    public void put(String issuer, String accessToken, Collection<String> scopes, ClaimToken claimToken, List<VerifiableCredential> credentials) {
+        var now = clock.millis();
+        var expiresAt = now + ttlMillis;
+        for (var credential : credentials) {
+            if (credential.getExpirationDate() != null) {
+                expiresAt = Math.min(expiresAt, credential.getExpirationDate().toEpochMilli());
+            }
+            if (!credential.getCredentialStatus().isEmpty()) {
+                expiresAt = Math.min(expiresAt, now + revocationValidityMillis);
+            }
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(key(issuer, accessToken, scopes), new Entry(claimToken, expiresAt));
+    }
+
+    /**
+     * Drops all the cached entries. Called when a status list gets refreshed.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private Key key(String issuer, String accessToken, Collection<String> scopes) {
+        return new Key(issuer, hash(accessToken), scopes.stream().sorted().toList());
+    }
+
+    private String hash(String accessToken) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(Objects.requireNonNullElse(accessToken, "").getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record Key(String issuer, String accessTokenHash, List<String> scopes) {
+    }
+
+    private record Entry(ClaimToken claimToken, long expiresAt) {
+    }
+}
@@ -40,6 +40,7 @@ import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Clock;
 import java.util.List;
 
 import static org.eclipse.edc.iam.identitytrust.spi.SelfIssuedTokenConstants.PRESENTATION_TOKEN_CLAIM;
@@ -58,6 +59,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -251,6 +253,29 @@ class IdentityAndTrustServiceTest {
                     });
         }
 
+        @Test
+        void verify_shouldUseCachedClaims_whenSameTokenIsVerifiedAgain() {
+            var cachingService = new IdentityAndTrustService(mockedSts, EXPECTED_OWN_DID, mockedClient,
+                    actionMock, credentialServiceUrlResolverMock, vcs -> Result.success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()),
+                    credentialValidationServiceMock, new VerifiedPresentationCache(Clock.systemUTC(), 60_000, 60_000, 100));
+            var presentation = createPresentationBuilder()
+                    .holder(CONSUMER_DID)
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(createCredentialBuilder().build()))
+                    .build();
+            var vpContainer = new VerifiablePresentationContainer("test-vp", CredentialFormat.JSON_LD, presentation);
+            when(mockedClient.requestPresentation(any(), any(), any())).thenReturn(success(List.of(vpContainer)));
+            var token = createJwt(CONSUMER_DID, EXPECTED_OWN_DID);
+
+            var first = cachingService.verifyJwtToken(token, verificationContext());
+            var second = cachingService.verifyJwtToken(token, verificationContext());
+
+            assertThat(first).isSucceeded();
+            assertThat(second).isSucceeded().satisfies(ct -> Assertions.assertThat(ct.getListClaim("vc")).hasSize(1));
+            verify(mockedClient, times(1)).requestPresentation(any(), any(), any());
+            verify(credentialValidationServiceMock, times(1)).validate(anyList(), anyCollection());
+        }
+
         @Test
         void verify_singlePresentation_multipleCredentials() {
             var presentation = createPresentationBuilder()
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.service;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.TestFunctions.createCredentialBuilder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VerifiedPresentationCacheTest {
+
+    private static final long TTL = 1000;
+    private static final long REVOCATION_VALIDITY = 500;
+    private static final Instant NOW = Instant.now();
+
+    private final ClaimToken claimToken = ClaimToken.Builder.newInstance().claim("key", "value").build();
+
+    @Test
+    void shouldReturnCachedClaims() {
+        var cache = cacheAt(NOW);
+
+        cache.put("issuer", "token", Set.of("scope1", "scope2"), claimToken, List.of(createCredentialBuilder().build()));
+
+        assertThat(cache.get("issuer", "token", List.of("scope2", "scope1"))).isNotNull()
+                .satisfies(ct -> assertThat(ct.getStringClaim("key")).isEqualTo("value"));
+        assertThat(cache.get("issuer", "another-token", Set.of("scope1", "scope2"))).isNull();
+        assertThat(cache.get("another-issuer", "token", Set.of("scope1", "scope2"))).isNull();
+        assertThat(cache.get("issuer", "token", Set.of("scope1"))).isNull();
+    }
+
+    @Test
+    void shouldExpire_afterTtl() {
+        Clock clock = mock();
+        when(clock.millis()).thenReturn(NOW.toEpochMilli());
+        var cache = new VerifiedPresentationCache(clock, TTL, REVOCATION_VALIDITY, 100);
+        cache.put("issuer", "token", Set.of(), claimToken, List.of(createCredentialBuilder().build()));
+
+        when(clock.millis()).thenReturn(NOW.plusMillis(TTL).toEpochMilli());
+
+        assertThat(cache.get("issuer", "token", Set.of())).isNull();
+    }
+
+    @Test
+    void shouldExpire_whenCredentialExpires() {
+        Clock clock = mock();
+        when(clock.millis()).thenReturn(NOW.toEpochMilli());
+        var cache = new VerifiedPresentationCache(clock, TTL, REVOCATION_VALIDITY, 100);
+        var credential = createCredentialBuilder().expirationDate(NOW.plusMillis(100)).build();
+        cache.put("issuer", "token", Set.of(), claimToken, List.of(credential));
+
+        when(clock.millis()).thenReturn(NOW.plusMillis(100).toEpochMilli());
+
+        assertThat(cache.get("issuer", "token", Set.of())).isNull();
+    }
+
+    @Test
+    void shouldExpire_whenRevocationListIsRefreshed() {
+        Clock clock = mock();
+        when(clock.millis()).thenReturn(NOW.toEpochMilli());
+        var cache = new VerifiedPresentationCache(clock, TTL, REVOCATION_VALIDITY, 100);
+        var credential = createCredentialBuilder()
+                .credentialStatus(new CredentialStatus("status-id", "StatusList2021Entry", Map.of()))
+                .build();
+        cache.put("issuer", "token", Set.of(), claimToken, List.of(credential));
+
+        when(clock.millis()).thenReturn(NOW.plusMillis(REVOCATION_VALIDITY - 1).toEpochMilli());
+        assertThat(cache.get("issuer", "token", Set.of())).isNotNull();
+
+        when(clock.millis()).thenReturn(NOW.plusMillis(REVOCATION_VALIDITY).toEpochMilli());
+        assertThat(cache.get("issuer", "token", Set.of())).isNull();
+    }
+
+    @Test
+    void shouldNotCache_whenCredentialIsAlreadyExpired() {
+        var cache = cacheAt(NOW);
+        var credential = createCredentialBuilder().expirationDate(NOW.minusSeconds(1)).build();
+
+        cache.put("issuer", "token", Set.of(), claimToken, List.of(credential));
+
+        assertThat(cache.get("issuer", "token", Set.of())).isNull();
+    }
+
+    @Test
+    void invalidateAll() {
+        var cache = cacheAt(NOW);
+        cache.put("issuer", "token", Set.of(), claimToken, List.of(createCredentialBuilder().build()));
+
+        cache.invalidateAll();
+
+        assertThat(cache.get("issuer", "token", Set.of())).isNull();
+    }
+
+    private VerifiedPresentationCache cacheAt(Instant instant) {
+        return new VerifiedPresentationCache(Clock.fixed(instant, ZoneId.systemDefault()), TTL, REVOCATION_VALIDITY, 100);
+    }
+}
@@ -28,6 +28,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -47,28 +48,66 @@ import static org.eclipse.edc.spi.result.Result.success;
  * Implementation of a {@link SecureTokenService}, that is capable of creating a self-signed ID token ("SI token") completely in-process.
  * To that end, it makes use of the <a href="https://connect2id.com/products/nimbus-jose-jwt">Nimbus JOSE/JWT library</a>.<br/>
  * As a recommendation, the private key it uses should not be used for anything else.
+ * <p>
+ * Optionally, a token that was created for a given set of claims gets handed out again for the same claims, until its
+ * remaining validity drops below the configured safety margin. Tokens that carry a bearer access token are never reused,
+ * because the JTI of the access token is consumed when the counter-party presents it.
  */
 public class EmbeddedSecureTokenService implements SecureTokenService {
 
     private static final List<String> ACCESS_TOKEN_INHERITED_CLAIMS = List.of(ISSUER);
+    private static final int MAX_REUSABLE_TOKENS = 1000;
     private final TokenGenerationService tokenGenerationService;
     private final Supplier<String> privateKeyIdSupplier;
     private final Supplier<String> publicKeyIdSupplier;
     private final Clock clock;
     private final long validity;
     private final JtiValidationStore jtiValidationStore;
+    private final boolean reuseTokens;
+    private final long reuseSafetyMargin;
+    private final Map<Map<String, String>, ReusableToken> reusableTokens = new ConcurrentHashMap<>();
 
     public EmbeddedSecureTokenService(TokenGenerationService tokenGenerationService, Supplier<String> privateKeyIdSupplier, Supplier<String> publicKeyIdSupplier, Clock clock, long validity, JtiValidationStore jtiValidationStore) {
+        this(tokenGenerationService, privateKeyIdSupplier, publicKeyIdSupplier, clock, validity, jtiValidationStore, false, 0);
+    }
+
+    /**
+     * Creates the service.
+     *
+     * @param validity          the validity of the created tokens, in seconds
+     * @param reuseTokens       whether tokens without bearer access scope should be reused for the same claims
+     * @param reuseSafetyMargin the minimum remaining validity, in seconds, a token needs to have to get reused
+     */
+    public EmbeddedSecureTokenService(TokenGenerationService tokenGenerationService, Supplier<String> privateKeyIdSupplier, Supplier<String> publicKeyIdSupplier, Clock clock, long validity,
+                                      JtiValidationStore jtiValidationStore, boolean reuseTokens, long reuseSafetyMargin) {
         this.tokenGenerationService = tokenGenerationService;
         this.privateKeyIdSupplier = privateKeyIdSupplier;
         this.publicKeyIdSupplier = publicKeyIdSupplier;
         this.clock = clock;
         this.validity = validity;
         this.jtiValidationStore = jtiValidationStore;
+        this.reuseTokens = reuseTokens;
+        this.reuseSafetyMargin = reuseSafetyMargin;
     }
 
     @Override
     public Result<TokenRepresentation> createToken(Map<String, String> claims, @Nullable String bearerAccessScope) {
+        if (!reuseTokens || bearerAccessScope != null) {
+            return generateToken(claims, bearerAccessScope);
+        }
+
+        var key = new HashMap<>(claims);
+        var now = clock.millis();
+        var reusable = reusableTokens.get(key);
+        if (reusable != null && reusable.reusableUntil() > now) {
+            return success(reusable.token());
+        }
+
+        return generateToken(claims, bearerAccessScope)
+                .onSuccess(token -> storeReusable(key, token, now));
+    }
+
+    private Result<TokenRepresentation> generateToken(Map<String, String> claims, @Nullable String bearerAccessScope) {
         var selfIssuedClaims = new HashMap<>(claims);
         return ofNullable(bearerAccessScope)
                 .map(scope -> createAndAcceptAccessToken(claims, scope, selfIssuedClaims::put))
@@ -79,6 +118,20 @@ public class EmbeddedSecureTokenService implements SecureTokenService {
                 });
     }
 
+    private void storeReusable(Map<String, String> key, TokenRepresentation token, long now) {
+        var reusableUntil = now + (validity - reuseSafetyMargin) * 1000;
+        if (reusableUntil <= now) {
+            return;
+        }
+        if (reusableTokens.size() >= MAX_REUSABLE_TOKENS) {
+            reusableTokens.values().removeIf(reusable -> reusable.reusableUntil() <= now);
+            if (reusableTokens.size() >= MAX_REUSABLE_TOKENS) {
+                reusableTokens.clear();
+            }
+        }
+        reusableTokens.put(key, new ReusableToken(token, reusableUntil));
+    }
+
     private Result<Void> recordToken(String jti, Long exp) {
         var storeResult = jtiValidationStore.storeEntry(new JtiValidationEntry(jti, exp));
         return storeResult.succeeded()
@@ -129,4 +182,7 @@ public class EmbeddedSecureTokenService implements SecureTokenService {
                 .filter(entry -> ACCESS_TOKEN_INHERITED_CLAIMS.contains(entry.getKey()))
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
+
+    private record ReusableToken(TokenRepresentation token, long reusableUntil) {
+    }
 }
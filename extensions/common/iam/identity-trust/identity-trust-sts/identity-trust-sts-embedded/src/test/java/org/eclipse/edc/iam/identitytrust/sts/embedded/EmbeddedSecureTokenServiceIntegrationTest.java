@@ -21,8 +21,10 @@ import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.jwt.validation.jti.JtiValidationStore;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.token.InMemoryJtiValidationStore;
 import org.eclipse.edc.token.JwtGenerationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +38,7 @@ import java.security.Key;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
 import java.time.Clock;
 import java.util.List;
 import java.util.Map;
@@ -61,6 +64,7 @@ public class EmbeddedSecureTokenServiceIntegrationTest {
 
     private final JtiValidationStore jtiValidationStore = mock();
     private KeyPair keyPair;
+    private JwtGenerationService tokenGenerationService;
     private EmbeddedSecureTokenService secureTokenService;
 
     private static KeyPair generateKeyPair() throws NoSuchAlgorithmException {
@@ -71,7 +75,7 @@ public class EmbeddedSecureTokenServiceIntegrationTest {
     @BeforeEach
     void setup() throws NoSuchAlgorithmException {
         keyPair = generateKeyPair();
-        var tokenGenerationService = new JwtGenerationService(s -> Result.success(new RSASSASigner(keyPair.getPrivate())));
+        tokenGenerationService = new JwtGenerationService(s -> Result.success(new RSASSASigner(keyPair.getPrivate())));
         when(jtiValidationStore.storeEntry(any())).thenReturn(StoreResult.success());
         secureTokenService = new EmbeddedSecureTokenService(tokenGenerationService, () -> "test-private-keyid", () -> "test-keyid", Clock.systemUTC(), 10 * 60, jtiValidationStore);
     }
@@ -125,6 +129,20 @@ public class EmbeddedSecureTokenServiceIntegrationTest {
                 });
     }
 
+    @Test
+    void createToken_withBearerAccessScope_shouldBeAcceptedOnEveryPresentation_whenReuseIsEnabled() {
+        var store = new InMemoryJtiValidationStore();
+        var sts = new EmbeddedSecureTokenService(tokenGenerationService, () -> "test-private-keyid", () -> "test-keyid", Clock.systemUTC(), 10 * 60, store, true, 60);
+        var claims = Map.of(ISSUER, "testIssuer", AUDIENCE, "audience");
+
+        var first = sts.createToken(claims, "email:read");
+        var second = sts.createToken(claims, "email:read");
+
+        // presenting an access token consumes its JTI, like the JTI validation rule does
+        assertThat(first).isSucceeded().satisfies(token -> assertThat(store.findById(accessTokenJti(token))).isNotNull());
+        assertThat(second).isSucceeded().satisfies(token -> assertThat(store.findById(accessTokenJti(token))).isNotNull());
+    }
+
     @ParameterizedTest
     @ArgumentsSource(ClaimsArguments.class)
     void createToken_shouldFail_withMissingClaims(Map<String, String> claims) {
@@ -133,6 +151,11 @@ public class EmbeddedSecureTokenServiceIntegrationTest {
                 .satisfies(f -> assertThat(f.getFailureDetail()).matches("Missing [a-z]* in the input claims"));
     }
 
+    private String accessTokenJti(TokenRepresentation tokenRepresentation) throws ParseException {
+        var accessToken = SignedJWT.parse(tokenRepresentation.getToken()).getJWTClaimsSet().getStringClaim(PRESENTATION_TOKEN_CLAIM);
+        return SignedJWT.parse(accessToken).getJWTClaimsSet().getJWTID();
+    }
+
     private JWSVerifier createVerifier(JWSHeader header, Key publicKey) throws JOSEException {
         return new DefaultJWSVerifierFactory().createJWSVerifier(header, publicKey);
     }
@@ -26,6 +26,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -149,4 +151,53 @@ public class EmbeddedSecureTokenServiceTest {
 
     }
 
+
+    @Test
+    void createToken_shouldReuseToken_whenEnabledAndWithinSafetyMargin() {
+        var claims = Map.of(ISSUER, "testIssuer", AUDIENCE, "aud");
+        var clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        var sts = new EmbeddedSecureTokenService(tokenGenerationService, keySupplier, () -> "test-key", clock, 10 * 60, jtiValidationStore, true, 60);
+        var token = TokenRepresentation.Builder.newInstance().token("test").build();
+        when(tokenGenerationService.generate(eq(TEST_PRIVATEKEY_ID), any(TokenDecorator[].class))).thenReturn(Result.success(token));
+
+        var first = sts.createToken(claims, null);
+        var second = sts.createToken(claims, null);
+        var otherClaims = sts.createToken(Map.of(ISSUER, "anotherIssuer", AUDIENCE, "aud"), null);
+
+        assertThat(first.getContent()).isSameAs(token);
+        assertThat(second.getContent()).isSameAs(token);
+        assertThat(otherClaims.succeeded()).isTrue();
+        verify(tokenGenerationService, times(2)).generate(any(), any(TokenDecorator[].class));
+    }
+
+    @Test
+    void createToken_shouldNotReuseToken_whenBearerAccessScopeIsRequested() {
+        var claims = Map.of(ISSUER, "testIssuer", AUDIENCE, "aud");
+        var clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        var sts = new EmbeddedSecureTokenService(tokenGenerationService, keySupplier, () -> "test-key", clock, 10 * 60, jtiValidationStore, true, 60);
+        var token = TokenRepresentation.Builder.newInstance().token("test").build();
+        when(tokenGenerationService.generate(eq(TEST_PRIVATEKEY_ID), any(TokenDecorator[].class))).thenReturn(Result.success(token));
+
+        sts.createToken(claims, "scope:test");
+        sts.createToken(claims, "scope:test");
+
+        verify(tokenGenerationService, times(4)).generate(any(), any(TokenDecorator[].class));
+        verify(jtiValidationStore, times(2)).storeEntry(any());
+    }
+
+    @Test
+    void createToken_shouldNotReuseToken_whenSafetyMarginReached() {
+        var start = Instant.now();
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(start);
+        when(clock.millis()).thenReturn(start.toEpochMilli(), start.plusSeconds(10 * 60 - 60).toEpochMilli());
+        var sts = new EmbeddedSecureTokenService(tokenGenerationService, keySupplier, () -> "test-key", clock, 10 * 60, jtiValidationStore, true, 60);
+        var token = TokenRepresentation.Builder.newInstance().token("test").build();
+        when(tokenGenerationService.generate(eq(TEST_PRIVATEKEY_ID), any(TokenDecorator[].class))).thenReturn(Result.success(token));
+
+        sts.createToken(Map.of(), null);
+        sts.createToken(Map.of(), null);
+
+        verify(tokenGenerationService, times(2)).generate(any(), any(TokenDecorator[].class));
+    }
 }
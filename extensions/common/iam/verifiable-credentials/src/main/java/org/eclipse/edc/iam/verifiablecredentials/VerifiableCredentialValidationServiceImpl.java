@@ -27,29 +27,54 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.validation.PresentationVeri
 import org.eclipse.edc.iam.verifiablecredentials.spi.validation.TrustedIssuerRegistry;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.spi.result.Result.failure;
 
+/**
+ * Default {@link VerifiableCredentialValidationService}. If it is given an executor, the presentations are verified
+ * concurrently, then each of their credentials is validated concurrently, and validation stops at the first failure.
+ * Otherwise, they are verified one after another, and all failures are reported.
+ * <p>
+ * In both cases credentials are only validated once their presentations have been cryptographically verified, as
+ * some rules act on data taken from the credential, e.g. downloading the status list it references.
+ */
 public class VerifiableCredentialValidationServiceImpl implements VerifiableCredentialValidationService {
+    private static final String NO_CREDENTIALS_ERROR = "Could not determine the status of the VC validation";
     private final PresentationVerifier presentationVerifier;
     private final TrustedIssuerRegistry trustedIssuerRegistry;
     private final RevocationServiceRegistry revocationServiceRegistry;
     private final Clock clock;
+    private final ExecutorService executor;
 
     public VerifiableCredentialValidationServiceImpl(PresentationVerifier presentationVerifier, TrustedIssuerRegistry trustedIssuerRegistry, RevocationServiceRegistry revocationServiceRegistry, Clock clock) {
+        this(presentationVerifier, trustedIssuerRegistry, revocationServiceRegistry, clock, null);
+    }
+
+    public VerifiableCredentialValidationServiceImpl(PresentationVerifier presentationVerifier, TrustedIssuerRegistry trustedIssuerRegistry, RevocationServiceRegistry revocationServiceRegistry,
+                                                     Clock clock, @Nullable ExecutorService executor) {
         this.presentationVerifier = presentationVerifier;
         this.trustedIssuerRegistry = trustedIssuerRegistry;
         this.revocationServiceRegistry = revocationServiceRegistry;
         this.clock = clock;
+        this.executor = executor;
     }
 
     @Override
     public Result<Void> validate(List<VerifiablePresentationContainer> presentations, Collection<? extends CredentialValidationRule> additionalRules) {
+        if (executor != null) {
+            return validateConcurrently(presentations, additionalRules);
+        }
+
         return presentations.stream().map(verifiablePresentation -> {
             var credentials = verifiablePresentation.presentation().getCredentials();
             // verify, that the VP and all VPs are cryptographically OK
@@ -59,22 +84,89 @@ public class VerifiableCredentialValidationServiceImpl implements VerifiableCred
         }).reduce(Result.success(), Result::merge);
     }
 
+    private Result<Void> validateConcurrently(List<VerifiablePresentationContainer> presentations, Collection<? extends CredentialValidationRule> additionalRules) {
+        var presentationChecks = presentations.stream()
+                .<Supplier<Result<Void>>>map(verifiablePresentation -> () -> presentationVerifier.verifyPresentation(verifiablePresentation))
+                .toList();
+
+        return runConcurrently(presentationChecks)
+                .compose(v -> runConcurrently(credentialChecks(presentations, additionalRules)));
+    }
+
+    private List<Supplier<Result<Void>>> credentialChecks(List<VerifiablePresentationContainer> presentations, Collection<? extends CredentialValidationRule> additionalRules) {
+        var checks = new ArrayList<Supplier<Result<Void>>>();
+        for (var verifiablePresentation : presentations) {
+            var credentials = verifiablePresentation.presentation().getCredentials();
+            if (credentials.isEmpty()) {
+                checks.add(() -> failure(NO_CREDENTIALS_ERROR));
+                continue;
+            }
+            var rule = credentialRule(verifiablePresentation.presentation().getHolder(), additionalRules);
+            credentials.forEach(credential -> checks.add(() -> rule.apply(credential)));
+        }
+        return checks;
+    }
+
+    private Result<Void> runConcurrently(List<Supplier<Result<Void>>> checks) {
+        var firstFailure = new CompletableFuture<Result<Void>>();
+        var tasks = new ArrayList<Future<?>>();
+        var results = checks.stream()
+                .map(check -> submit(check, firstFailure, tasks))
+                .toList();
+
+        var allChecks = CompletableFuture.allOf(results.toArray(CompletableFuture[]::new));
+        CompletableFuture.anyOf(allChecks, firstFailure).join();
+
+        if (firstFailure.isDone()) {
+            // cancelling the executor tasks interrupts the running checks and prevents the queued ones from starting
+            tasks.forEach(task -> task.cancel(true));
+            return firstFailure.join();
+        }
+        return results.stream().map(CompletableFuture::join).reduce(Result.success(), Result::merge);
+    }
+
+    private CompletableFuture<Result<Void>> submit(Supplier<Result<Void>> check, CompletableFuture<Result<Void>> firstFailure, List<Future<?>> tasks) {
+        var result = new CompletableFuture<Result<Void>>();
+        tasks.add(executor.submit(() -> {
+            try {
+                result.complete(check.get());
+            } catch (Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+        }));
+        return track(result, firstFailure);
+    }
+
+    private CompletableFuture<Result<Void>> track(CompletableFuture<Result<Void>> check, CompletableFuture<Result<Void>> firstFailure) {
+        return check
+                .exceptionally(throwable -> failure("Error validating the presentation: %s".formatted(throwable.getMessage())))
+                .whenComplete((result, throwable) -> {
+                    if (result != null && result.failed()) {
+                        firstFailure.complete(result);
+                    }
+                });
+    }
+
     @NotNull
     private Result<Void> validateVerifiableCredentials(List<VerifiableCredential> credentials, String presentationHolder, Collection<? extends CredentialValidationRule> additionalRules) {
-
         // in addition, verify that all VCs are valid
-        var filters = new ArrayList<>(List.of(
+        var rule = credentialRule(presentationHolder, additionalRules);
+        var results = credentials
+                .stream()
+                .map(rule::apply)
+                .reduce(Result::merge);
+        return results.orElseGet(() -> failure(NO_CREDENTIALS_ERROR));
+    }
+
+    private CredentialValidationRule credentialRule(String presentationHolder, Collection<? extends CredentialValidationRule> additionalRules) {
+        var filters = new ArrayList<CredentialValidationRule>(List.of(
                 new IsInValidityPeriod(clock),
                 new HasValidSubjectIds(presentationHolder),
                 new IsNotRevoked(revocationServiceRegistry),
                 new HasValidIssuer(trustedIssuerRegistry)));
 
         filters.addAll(additionalRules);
-        var results = credentials
-                .stream()
-                .map(c -> filters.stream().reduce(t -> Result.success(), CredentialValidationRule::and).apply(c))
-                .reduce(Result::merge);
-        return results.orElseGet(() -> failure("Could not determine the status of the VC validation"));
+        return filters.stream().reduce(t -> Result.success(), CredentialValidationRule::and);
     }
 
 }
@@ -19,15 +19,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.iam.verifiablecredentials.spi.RevocationListService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.BitString;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.util.collection.Cache;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.net.URI;
-import java.time.Instant;
+import java.time.Clock;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import static org.eclipse.edc.spi.result.Result.success;
@@ -38,21 +45,42 @@ import static org.eclipse.edc.spi.result.Result.success;
  * <p>
  * To achieve that, the {@link VerifiableCredential#getCredentialStatus()} object is inspected and checked against the status list credential referenced therein.
  * <p>
- * To limit traffic on the actual StatusList credential, it is cached in a thread-safe {@link Map}, and only re-downloaded if the cache is expired.
+ * To limit traffic on the actual StatusList credential, it is cached together with its decoded {@link BitString}, so that a status check is a
+ * single bit lookup. A cached status list is only re-downloaded synchronously when it is expired: once it reaches {@link #REFRESH_AHEAD_FACTOR}
+ * of its validity, it is refreshed in the background, while requests keep being served from the cached entry. Concurrent
+ * requests for a status list that is being downloaded wait for that download instead of starting their own. The
+ * refresh listener is notified whenever a cached status list is replaced by a newer download, so that data derived
+ * from the previous one can be dropped.
  * <p>
  * Currently, StatusList2021 and BitStringStatusList are supported.
  */
 public abstract class BaseRevocationListService<C extends VerifiableCredential, S> implements RevocationListService {
-    private final Cache<String, C> statusListCredentialCache;
+    public static final double REFRESH_AHEAD_FACTOR = 0.8;
+    private final Map<String, StatusList<C>> statusLists = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<StatusList<C>>> inFlight = new ConcurrentHashMap<>();
     private final Class<C> credentialClass;
     private final ObjectMapper objectMapper;
+    private final long cacheValidity;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final Runnable refreshListener;
 
     protected BaseRevocationListService(ObjectMapper mapper, long cacheValidity, Class<C> credentialClass) {
+        this(mapper, cacheValidity, credentialClass, Runnable::run, Clock.systemUTC(), new Monitor() { }, () -> { });
+    }
+
+    protected BaseRevocationListService(ObjectMapper mapper, long cacheValidity, Class<C> credentialClass, Executor refreshExecutor, Clock clock, Monitor monitor,
+                                        Runnable refreshListener) {
         this.objectMapper = mapper.copy()
                 .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY) // technically, credential subjects and credential status can be objects AND Arrays
                 .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // let's make sure this is disabled, because the "@context" would cause problems
-        statusListCredentialCache = new Cache<>(this::downloadStatusListCredential, cacheValidity);
+        this.cacheValidity = cacheValidity;
         this.credentialClass = credentialClass;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.monitor = monitor;
+        this.refreshListener = refreshListener;
     }
 
     @Override
@@ -101,21 +129,36 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
     }
 
     /**
-     * Gets a statuslist credential from the cache, of if it's not there yet, downloads it.
+     * Gets a statuslist credential from the cache, or if it's not there yet, downloads it.
      *
      * @param credentialUrl the URL from where to download the cred
      * @return the VerifiableCredential
      * @throws EdcException if it could not be downloaded
      */
     protected C getCredential(String credentialUrl) {
-        var credential = statusListCredentialCache.get(credentialUrl);
-        // credential is cached, but expired -> download again
-        if (credential != null && credential.getExpirationDate() != null && credential.getExpirationDate().isBefore(Instant.now())) {
-            statusListCredentialCache.evict(credentialUrl);
-        }
-        return statusListCredentialCache.get(credentialUrl);
+        return getStatusList(credentialUrl).credential();
+    }
+
+    /**
+     * Gets the decoded bitstring of a statuslist credential from the cache, or if it's not there yet, downloads the credential
+     * and decodes it.
+     *
+     * @param credentialUrl the URL from where to download the cred
+     * @return the decoded {@link BitString}, or a failure if the encoded list could not be decoded
+     * @throws EdcException if it could not be downloaded
+     */
+    protected Result<BitString> getBitString(String credentialUrl) {
+        return getStatusList(credentialUrl).bitString();
     }
 
+    /**
+     * Decodes the encoded list of a statuslist credential. This is only called once per downloaded credential.
+     *
+     * @param credential the statuslist credential
+     * @return the decoded {@link BitString}
+     */
+    protected abstract Result<BitString> decodeBitString(C credential);
+
     /**
      * Obtains the status purpose for a particular credentialStatus entry if it is set, otherwise returns a successful result with a {@code null} content.
      * So, a successful result with a non-null content indicates, that the respective credentialStatus is set.
@@ -149,6 +192,91 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
      */
     protected abstract S getCredentialStatus(CredentialStatus credentialStatus);
 
+    private StatusList<C> getStatusList(String credentialUrl) {
+        var now = clock.millis();
+        var statusList = statusLists.get(credentialUrl);
+        if (statusList == null || statusList.expiresAt() <= now) {
+            var future = new CompletableFuture<StatusList<C>>();
+            var existing = inFlight.putIfAbsent(credentialUrl, future);
+            if (existing != null) {
+                return await(existing);
+            }
+            return fetch(credentialUrl, statusList, future);
+        }
+
+        if (statusList.refreshAt() <= now) {
+            var future = new CompletableFuture<StatusList<C>>();
+            if (inFlight.putIfAbsent(credentialUrl, future) == null) {
+                try {
+                    refreshExecutor.execute(() -> {
+                        try {
+                            fetch(credentialUrl, statusList, future);
+                        } catch (EdcException e) {
+                            // the cached status list stays in use until it expires, then the download is retried synchronously
+                            monitor.warning("Failed to refresh status list credential '%s' in the background".formatted(credentialUrl), e);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    inFlight.remove(credentialUrl, future);
+                    future.completeExceptionally(e);
+                }
+            }
+        }
+        return statusList;
+    }
+
+    /**
+     * Downloads the status list and caches it in place of the previous one. The download is done outside any map
+     * operation, so that a slow download doesn't block the other status lists, and its outcome is passed to the
+     * requests that are waiting on the future.
+     */
+    private StatusList<C> fetch(String credentialUrl, @Nullable StatusList<C> previous, CompletableFuture<StatusList<C>> future) {
+        try {
+            var downloaded = download(credentialUrl);
+            if (previous == null) {
+                var existing = statusLists.putIfAbsent(credentialUrl, downloaded);
+                downloaded = existing != null ? existing : downloaded;
+            } else {
+                replace(credentialUrl, previous, downloaded);
+            }
+            future.complete(downloaded);
+            return downloaded;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(credentialUrl, future);
+        }
+    }
+
+    private StatusList<C> await(CompletableFuture<StatusList<C>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new EdcException(e.getCause());
+        }
+    }
+
+    private void replace(String credentialUrl, StatusList<C> previous, StatusList<C> downloaded) {
+        if (statusLists.replace(credentialUrl, previous, downloaded)) {
+            refreshListener.run();
+        }
+    }
+
+    private StatusList<C> download(String credentialUrl) {
+        var credential = downloadStatusListCredential(credentialUrl);
+        var now = clock.millis();
+        var expiresAt = now + cacheValidity;
+        if (credential.getExpirationDate() != null) {
+            expiresAt = Math.min(expiresAt, credential.getExpirationDate().toEpochMilli());
+        }
+        var refreshAt = now + (long) (cacheValidity * REFRESH_AHEAD_FACTOR);
+        return new StatusList<>(credential, decodeBitString(credential), Math.min(refreshAt, expiresAt), expiresAt);
+    }
+
     private C downloadStatusListCredential(String credentialUrl) {
         try {
             return objectMapper.readValue(URI.create(credentialUrl).toURL(), credentialClass);
@@ -156,4 +284,7 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
             throw new EdcException(e);
         }
     }
+
+    private record StatusList<C>(C credential, Result<BitString> bitString, long refreshAt, long expiresAt) {
+    }
 }
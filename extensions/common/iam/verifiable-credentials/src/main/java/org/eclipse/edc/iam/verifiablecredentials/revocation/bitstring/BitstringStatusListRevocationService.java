@@ -21,9 +21,12 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.BitString;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.BitstringStatusListCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.BitstringStatusListStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.StatusMessage;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 
+import java.time.Clock;
 import java.util.Base64;
+import java.util.concurrent.Executor;
 
 import static org.eclipse.edc.spi.result.Result.success;
 
@@ -37,6 +40,11 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
         super(mapper, cacheValidity, BitstringStatusListCredential.class);
     }
 
+    public BitstringStatusListRevocationService(ObjectMapper mapper, long cacheValidity, Executor refreshExecutor, Clock clock, Monitor monitor,
+                                                Runnable refreshListener) {
+        super(mapper, cacheValidity, BitstringStatusListCredential.class, refreshExecutor, clock, monitor, refreshListener);
+    }
+
     @Override
     protected Result<Void> preliminaryChecks(BitstringStatusListStatus credentialStatus) {
         var statusSize = credentialStatus.getStatusSize();
@@ -48,22 +56,11 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
 
     @Override
     protected Result<String> getStatusEntryValue(BitstringStatusListStatus credentialStatus) {
-        var bitStringCredential = getCredential(credentialStatus.getStatusListCredential());
-
-        var bitString = bitStringCredential.encodedList();
-        var decoder = Base64.getDecoder();
-        if (bitString.charAt(0) == 'u') { // base64 url
-            decoder = Base64.getUrlDecoder();
-            bitString = bitString.substring(1); //chop off header
-        } else if (bitString.charAt(0) == 'z') { //base58btc
-            return Result.failure("The encoded list is using the Base58-BTC alphabet ('z' multibase header), which is not supported.");
-        }
-
-        var compressedBitstring = BitString.Parser.newInstance().decoder(decoder).parse(bitString);
-        if (compressedBitstring.failed()) {
-            return compressedBitstring.mapEmpty();
+        var bitstringResult = getBitString(credentialStatus.getStatusListCredential());
+        if (bitstringResult.failed()) {
+            return bitstringResult.mapEmpty();
         }
-        var bitstring = compressedBitstring.getContent();
+        var bitstring = bitstringResult.getContent();
 
         // todo: check that encodedList / statusSize == minimumLength (defaults to 131_072 = encodedList minimum length in bits),
         // otherwise raise error
@@ -86,6 +83,20 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
         return success(null);
     }
 
+    @Override
+    protected Result<BitString> decodeBitString(BitstringStatusListCredential credential) {
+        var bitString = credential.encodedList();
+        var decoder = Base64.getDecoder();
+        if (bitString.charAt(0) == 'u') { // base64 url
+            decoder = Base64.getUrlDecoder();
+            bitString = bitString.substring(1); //chop off header
+        } else if (bitString.charAt(0) == 'z') { //base58btc
+            return Result.failure("The encoded list is using the Base58-BTC alphabet ('z' multibase header), which is not supported.");
+        }
+
+        return BitString.Parser.newInstance().decoder(decoder).parse(bitString);
+    }
+
     @Override
     protected Result<Void> validateStatusPurpose(BitstringStatusListStatus credentialStatus) {
         var statusPurpose = credentialStatus.getStatusListPurpose();
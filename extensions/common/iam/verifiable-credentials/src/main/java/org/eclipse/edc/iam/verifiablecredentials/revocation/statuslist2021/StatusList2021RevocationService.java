@@ -20,8 +20,12 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.BitString;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.statuslist2021.StatusList2021Credential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.statuslist2021.StatusList2021Status;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 
+import java.time.Clock;
+import java.util.concurrent.Executor;
+
 import static org.eclipse.edc.spi.result.Result.success;
 
 
@@ -35,6 +39,11 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
         super(objectMapper, cacheValidity, StatusList2021Credential.class);
     }
 
+    public StatusList2021RevocationService(ObjectMapper objectMapper, long cacheValidity, Executor refreshExecutor, Clock clock, Monitor monitor,
+                                           Runnable refreshListener) {
+        super(objectMapper, cacheValidity, StatusList2021Credential.class, refreshExecutor, clock, monitor, refreshListener);
+    }
+
     @Override
     protected StatusList2021Status getCredentialStatus(CredentialStatus credentialStatus) {
         return StatusList2021Status.from(credentialStatus);
@@ -44,10 +53,8 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
     protected Result<String> getStatusEntryValue(StatusList2021Status credentialStatus) {
         var index = credentialStatus.getStatusListIndex();
         var slCredUrl = credentialStatus.getStatusListCredential();
-        var credential = getCredential(slCredUrl);
-
 
-        var bitStringResult = BitString.Parser.newInstance().parse(credential.encodedList());
+        var bitStringResult = getBitString(slCredUrl);
 
         if (bitStringResult.failed()) {
             return bitStringResult.mapEmpty();
@@ -61,6 +68,11 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
         return success(null);
     }
 
+    @Override
+    protected Result<BitString> decodeBitString(StatusList2021Credential credential) {
+        return BitString.Parser.newInstance().parse(credential.encodedList());
+    }
+
     @Override
     protected Result<Void> validateStatusPurpose(StatusList2021Status credentialStatus) {
         var slCred = getCredential(credentialStatus.getStatusListCredential());
@@ -19,11 +19,14 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.Issuer;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.RevocationServiceRegistry;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiablePresentationContainer;
 import org.eclipse.edc.iam.verifiablecredentials.spi.validation.PresentationVerifier;
 import org.eclipse.edc.iam.verifiablecredentials.spi.validation.TrustedIssuerRegistry;
 import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
@@ -32,6 +35,10 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.eclipse.edc.iam.verifiablecredentials.spi.TestFunctions.TRUSTED_ISSUER;
 import static org.eclipse.edc.iam.verifiablecredentials.spi.TestFunctions.createCredentialBuilder;
@@ -41,6 +48,8 @@ import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.result.Result.success;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SuppressWarnings("unchecked")
@@ -227,4 +236,145 @@ class VerifiableCredentialValidationServiceImplTest {
                 .detail().isEqualTo("invalid");
     }
 
-}
\ No newline at end of file
+    @Nested
+    class Concurrent {
+
+        private final ExecutorService executor = Executors.newFixedThreadPool(4);
+        private final VerifiableCredentialValidationServiceImpl concurrentService = new VerifiableCredentialValidationServiceImpl(verifierMock,
+                trustedIssuerRegistryMock, revocationServiceRegistry, Clock.systemUTC(), executor);
+
+        @AfterEach
+        void tearDown() {
+            executor.shutdownNow();
+        }
+
+        @Test
+        void verify_multipleCredentials() {
+            var vpContainer = new VerifiablePresentationContainer("test-vp", CredentialFormat.JSON_LD, createPresentationBuilder()
+                    .holder(CONSUMER_DID)
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(createCredential(), createCredential(), createCredential()))
+                    .build());
+            when(verifierMock.verifyPresentation(any())).thenReturn(success());
+
+            var result = concurrentService.validate(List.of(vpContainer, vpContainer));
+
+            assertThat(result).isSucceeded();
+        }
+
+        @Test
+        void cryptographicError() {
+            when(verifierMock.verifyPresentation(any())).thenReturn(Result.failure("Cryptographic error"));
+
+            var result = concurrentService.validate(List.of(createPresentationContainer()));
+
+            assertThat(result).isFailed().detail().isEqualTo("Cryptographic error");
+        }
+
+        @Test
+        void shouldNotValidateCredentials_whenPresentationVerificationFails() {
+            var vpContainer = new VerifiablePresentationContainer("test-vp", CredentialFormat.JSON_LD, createPresentationBuilder()
+                    .holder(CONSUMER_DID)
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(createCredentialBuilder()
+                            .credentialSubjects(List.of(CredentialSubject.Builder.newInstance().id(CONSUMER_DID).build()))
+                            .credentialStatus(new CredentialStatus("test-cred-status", "StatusList2021", Map.of()))
+                            .build()))
+                    .build());
+            when(verifierMock.verifyPresentation(any())).thenReturn(Result.failure("Cryptographic error"));
+
+            var result = concurrentService.validate(List.of(vpContainer));
+
+            assertThat(result).isFailed().detail().isEqualTo("Cryptographic error");
+            verify(revocationServiceRegistry, never()).checkValidity(any());
+        }
+
+        @Test
+        void shouldReturnFirstFailure_withoutWaitingForOtherPresentations() throws InterruptedException {
+            var failing = createPresentationContainer();
+            var blocking = new VerifiablePresentationContainer("blocking-vp", CredentialFormat.JSON_LD, createPresentationBuilder()
+                    .holder(CONSUMER_DID)
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(createCredential()))
+                    .build());
+            var blocker = new CountDownLatch(1);
+            var interrupted = new CountDownLatch(1);
+            when(verifierMock.verifyPresentation(any())).thenAnswer(i -> {
+                if (i.getArgument(0) != blocking) {
+                    return Result.failure("Cryptographic error");
+                }
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return success();
+            });
+
+            var result = concurrentService.validate(List.of(blocking, failing));
+
+            assertThat(result).isFailed().detail().isEqualTo("Cryptographic error");
+            assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+            verify(revocationServiceRegistry, never()).checkValidity(any());
+            blocker.countDown();
+        }
+
+        @Test
+        void shouldReturnFirstFailure_withoutWaitingForOtherCredentials() throws InterruptedException {
+            var vpContainer = new VerifiablePresentationContainer("test-vp", CredentialFormat.JSON_LD, createPresentationBuilder()
+                    .holder(CONSUMER_DID)
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(createCredential(), createCredentialBuilder()
+                            .credentialSubjects(List.of(CredentialSubject.Builder.newInstance().id(CONSUMER_DID).build()))
+                            .credentialStatus(new CredentialStatus("test-cred-status", "StatusList2021", Map.of()))
+                            .build()))
+                    .build());
+            var blocker = new CountDownLatch(1);
+            var interrupted = new CountDownLatch(1);
+            when(verifierMock.verifyPresentation(any())).thenReturn(success());
+            when(revocationServiceRegistry.checkValidity(any())).thenAnswer(i -> {
+                var credential = i.getArgument(0, VerifiableCredential.class);
+                if (!credential.getCredentialStatus().isEmpty()) {
+                    return Result.failure("revoked");
+                }
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return success();
+            });
+
+            var result = concurrentService.validate(List.of(vpContainer));
+
+            assertThat(result).isFailed().detail().isEqualTo("revoked");
+            assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+            blocker.countDown();
+        }
+
+        @Test
+        void shouldFail_whenPresentationHasNoCredentials() {
+            var vpContainer = new VerifiablePresentationContainer("test-vp", CredentialFormat.JSON_LD, createPresentationBuilder()
+                    .holder(CONSUMER_DID)
+                    .type("VerifiablePresentation")
+                    .credentials(List.of())
+                    .build());
+            when(verifierMock.verifyPresentation(any())).thenReturn(success());
+
+            var result = concurrentService.validate(List.of(vpContainer));
+
+            assertThat(result).isFailed();
+        }
+
+        private VerifiableCredential createCredential() {
+            return createCredentialBuilder()
+                    .credentialSubjects(List.of(CredentialSubject.Builder.newInstance()
+                            .id(CONSUMER_DID)
+                            .claim("some-claim", "some-val")
+                            .build()))
+                    .build();
+        }
+    }
+}
@@ -16,12 +16,15 @@ package org.eclipse.edc.iam.verifiablecredentials.revocation.bitstring;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.assertj.core.api.Assertions;
 import org.eclipse.edc.iam.verifiablecredentials.TestData;
+import org.eclipse.edc.iam.verifiablecredentials.revocation.BaseRevocationListService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.TestFunctions;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.BitString;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.BitstringStatusListStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.StatusMessage;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -30,9 +33,15 @@ import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.verify.VerificationTimes;
 
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.eclipse.edc.iam.verifiablecredentials.TestData.BitstringStatusList.BITSTRING_STATUS_LIST_CREDENTIAL_ARRAY_SUBJECT_TEMPLATE;
 import static org.eclipse.edc.iam.verifiablecredentials.TestData.BitstringStatusList.BITSTRING_STATUS_LIST_CREDENTIAL_PURPOSE_TEMPLATE;
@@ -44,6 +53,12 @@ import static org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bit
 import static org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.BitstringStatusListStatus.STATUS_LIST_SIZE;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.util.io.Ports.getFreePort;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.mockserver.model.HttpRequest.request;
 
 class BitstringStatusListRevocationServiceTest {
@@ -179,6 +194,100 @@ class BitstringStatusListRevocationServiceTest {
             assertThat(revocationService.checkValidity(credential)).isFailed()
                     .detail().isEqualTo("Credential status is 'revocation', status at index 10 is '1'");
         }
+
+        @Test
+        void checkValidity_shouldRefreshInBackground_beforeExpiry() {
+            var validity = 1000L;
+            var now = new AtomicLong(0);
+            Clock clock = mock();
+            when(clock.millis()).thenAnswer(i -> now.get());
+            var refreshes = new ArrayList<Runnable>();
+            var refreshListener = mock(Runnable.class);
+            var service = new BitstringStatusListRevocationService(new ObjectMapper().registerModule(new JavaTimeModule()), validity, refreshes::add, clock, mock(),
+                    refreshListener);
+            var credential = new CredentialStatus("test-id", BITSTRING_STATUSLIST_CREDENTIAL,
+                    Map.of(STATUS_LIST_PURPOSE, "revocation",
+                            STATUS_LIST_INDEX, REVOKED_INDEX,
+                            STATUS_LIST_SIZE, 1,
+                            STATUS_LIST_CREDENTIAL, "http://localhost:%d/credentials/status/3".formatted(clientAndServer.getPort())));
+
+            assertThat(service.checkValidity(credential)).isSucceeded();
+
+            var revokedCredential = TestData.BitstringStatusList.BITSTRING_STATUS_LIST_CREDENTIAL_SINGLE_SUBJECT_TEMPLATE.formatted(generateBitstring(REVOKED_INDEX, 1));
+            clientAndServer.reset()
+                    .when(request().withMethod("GET").withPath("/credentials/status/3"))
+                    .respond(HttpResponse.response().withStatusCode(200).withBody(revokedCredential));
+            now.set((long) (validity * BaseRevocationListService.REFRESH_AHEAD_FACTOR));
+
+            assertThat(service.checkValidity(credential)).isSucceeded();
+            Assertions.assertThat(refreshes).hasSize(1);
+            clientAndServer.verify(request(), VerificationTimes.exactly(0));
+            verify(refreshListener, never()).run();
+
+            refreshes.get(0).run();
+
+            verify(refreshListener).run();
+            assertThat(service.checkValidity(credential)).isFailed()
+                    .detail().isEqualTo("Credential status is 'revocation', status at index 10 is '1'");
+            clientAndServer.verify(request(), VerificationTimes.exactly(1));
+        }
+
+        @Test
+        void checkValidity_shouldDownloadOnce_whenConcurrentRequestsMissTheCache() throws Exception {
+            var bitstringCredential = TestData.BitstringStatusList.BITSTRING_STATUS_LIST_CREDENTIAL_SINGLE_SUBJECT_TEMPLATE.formatted(generateBitstring());
+            clientAndServer.reset()
+                    .when(request().withMethod("GET").withPath("/credentials/status/3"))
+                    .respond(HttpResponse.response().withStatusCode(200).withBody(bitstringCredential).withDelay(TimeUnit.MILLISECONDS, 500));
+            var credential = new CredentialStatus("test-id", BITSTRING_STATUSLIST_CREDENTIAL,
+                    Map.of(STATUS_LIST_PURPOSE, "revocation",
+                            STATUS_LIST_INDEX, NOT_REVOKED_INDEX,
+                            STATUS_LIST_SIZE, 1,
+                            STATUS_LIST_CREDENTIAL, "http://localhost:%d/credentials/status/3".formatted(clientAndServer.getPort())));
+            var executor = Executors.newFixedThreadPool(5);
+
+            try {
+                var results = executor.invokeAll(Collections.nCopies(5, () -> revocationService.checkValidity(credential)));
+
+                for (var result : results) {
+                    assertThat(result.get()).isSucceeded();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            clientAndServer.verify(request(), VerificationTimes.exactly(1));
+        }
+
+        @Test
+        void checkValidity_shouldKeepCachedStatusList_andLog_whenBackgroundRefreshFails() {
+            var validity = 1000L;
+            var now = new AtomicLong(0);
+            Clock clock = mock();
+            when(clock.millis()).thenAnswer(i -> now.get());
+            var refreshes = new ArrayList<Runnable>();
+            var monitor = mock(Monitor.class);
+            var refreshListener = mock(Runnable.class);
+            var service = new BitstringStatusListRevocationService(new ObjectMapper().registerModule(new JavaTimeModule()), validity, refreshes::add, clock, monitor,
+                    refreshListener);
+            var credential = new CredentialStatus("test-id", BITSTRING_STATUSLIST_CREDENTIAL,
+                    Map.of(STATUS_LIST_PURPOSE, "revocation",
+                            STATUS_LIST_INDEX, REVOKED_INDEX,
+                            STATUS_LIST_SIZE, 1,
+                            STATUS_LIST_CREDENTIAL, "http://localhost:%d/credentials/status/3".formatted(clientAndServer.getPort())));
+
+            assertThat(service.checkValidity(credential)).isSucceeded();
+
+            clientAndServer.reset()
+                    .when(request().withMethod("GET").withPath("/credentials/status/3"))
+                    .respond(HttpResponse.response().withStatusCode(500));
+            now.set((long) (validity * BaseRevocationListService.REFRESH_AHEAD_FACTOR));
+
+            assertThat(service.checkValidity(credential)).isSucceeded();
+            refreshes.get(0).run();
+
+            verify(monitor).warning(contains("/credentials/status/3"), any(Throwable.class));
+            verify(refreshListener, never()).run();
+            assertThat(service.checkValidity(credential)).isSucceeded();
+        }
     }
 
     @Nested
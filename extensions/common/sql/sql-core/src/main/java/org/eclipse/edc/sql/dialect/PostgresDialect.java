@@ -14,7 +14,13 @@
 
 package org.eclipse.edc.sql.dialect;
 
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
+
+import java.util.List;
+
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
 
 /**
  * Global, domain-agnostic Postgres statements, operators, functions, clauses, etc.
@@ -40,4 +46,29 @@ public class PostgresDialect {
         return "::json";
     }
 
+    /**
+     * Creates an INSERT statement that, if a row with the same value in the conflict column already exists, updates
+     * that row with the inserted values instead, provided that it satisfies the update condition. The statement takes
+     * the same parameters as {@link SqlExecuteStatement#insertInto(String)}.
+     *
+     * @param statement the statement with the inserted columns.
+     * @param tableName the table name.
+     * @param conflictColumn the unique column that identifies the row.
+     * @param updateCondition the condition that an existing row must satisfy to be updated.
+     * @param insertOnlyColumns the columns that are not updated when the row already exists.
+     */
+    public static String getUpsertTemplate(SqlExecuteStatement statement, String tableName, String conflictColumn,
+                                           Criterion updateCondition, String... insertOnlyColumns) {
+        var insert = statement.insertInto(tableName);
+        var insertOnly = List.of(insertOnlyColumns);
+
+        var update = statement.getColumnNames().stream()
+                .filter(columnName -> !columnName.equals(conflictColumn) && !insertOnly.contains(columnName))
+                .map(columnName -> format("%s = EXCLUDED.%s", columnName, columnName))
+                .collect(joining(", "));
+
+        return format("%s ON CONFLICT (%s) DO UPDATE SET %s WHERE %s;", insert.substring(0, insert.length() - 1),
+                conflictColumn, update, updateCondition);
+    }
+
 }
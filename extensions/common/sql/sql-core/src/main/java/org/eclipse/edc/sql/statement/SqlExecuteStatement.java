@@ -89,6 +89,15 @@ public class SqlExecuteStatement {
         return this;
     }
 
+    /**
+     * Gives the names of the registered columns, in registration order.
+     *
+     * @return the column names.
+     */
+    public List<String> getColumnNames() {
+        return columnEntries.stream().map(ColumnEntry::columnName).toList();
+    }
+
     /**
      * Gives a SQL insert statement.
      *
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 
@@ -28,6 +29,12 @@ import static java.util.stream.Collectors.joining;
  * Maps a {@link QuerySpec} to a single SQL {@code SELECT ... FROM ... WHERE ...} statement. The {@code SELECT ...} part
  * is passed in through the constructor, and the rest of the query is assembled dynamically, based on the
  * {@link QuerySpec} and the {@link TranslationMapping}.
+ * <p>
+ * When the {@link QuerySpec} carries a {@link QueryCursor} the query is keyset-paginated: rows are ordered by the sort
+ * field and by id, and only the ones after the cursor are selected, so the database can seek through the index instead
+ * of reading and discarding the {@code OFFSET} rows. Rows with a null sort value are a separate segment, selected only
+ * by a cursor that points into it (see {@link QueryCursor#nullSortValues()}), so that both segments can be read from a
+ * (sort field, id) index.
  */
 public class SqlQueryStatement {
 
@@ -35,6 +42,7 @@ public class SqlQueryStatement {
     private static final String OFFSET = "OFFSET ?";
 
     private static final String ORDER_BY_TOKEN = "ORDER BY %s %s";
+    private static final String ID_FIELD = "id";
 
     private final String selectStatement;
     private final List<String> whereClauses = new ArrayList<>();
@@ -68,7 +76,7 @@ public class SqlQueryStatement {
      * @param criterionToWhereClauseConverter Converts criterion to where condition clauses
      */
     public SqlQueryStatement(String selectStatement, QuerySpec query, TranslationMapping rootModel, CriterionToWhereClauseConverter criterionToWhereClauseConverter) {
-        this(selectStatement, query.getLimit(), query.getOffset());
+        this(selectStatement, query.getLimit(), query.getCursor() == null ? query.getOffset() : 0);
         this.criterionToWhereConditionConverter = criterionToWhereClauseConverter;
         this.sortFieldConverter = new SortFieldConverterImpl(rootModel);
         initialize(query);
@@ -136,7 +144,53 @@ public class SqlQueryStatement {
                     parameters.addAll(whereClause.parameters());
                 });
 
-        orderByClause = parseSortField(query);
+        if (query.getCursor() == null) {
+            orderByClause = parseSortField(query);
+        } else {
+            applyCursor(query, query.getCursor());
+        }
+    }
+
+    private void applyCursor(QuerySpec query, QueryCursor cursor) {
+        var idColumn = sortFieldConverter.convert(ID_FIELD);
+        if (idColumn == null) {
+            throw new IllegalArgumentException("Cannot paginate with a cursor because the id field does not exist");
+        }
+
+        if (query.getSortField() == null || query.getSortField().equals(ID_FIELD)) {
+            var ascending = query.getSortField() == null || query.getSortOrder() == SortOrder.ASC;
+            if (cursor.id() != null) {
+                addWhereClause(format("%s %s ?", idColumn, ascending ? ">" : "<"), cursor.id());
+            }
+            orderByClause = format(ORDER_BY_TOKEN + " ", idColumn, ascending ? "ASC" : "DESC");
+            return;
+        }
+
+        var sortColumn = sortFieldConverter.convert(query.getSortField());
+        if (sortColumn == null) {
+            throw new IllegalArgumentException(format("Cannot sort by %s because the field does not exist", query.getSortField()));
+        }
+        var ascending = query.getSortOrder() == SortOrder.ASC;
+        var comparison = ascending ? ">" : "<";
+        var order = ascending ? "ASC" : "DESC";
+        if (cursor.nullSortValues()) {
+            addWhereClause(format("%s IS NULL", sortColumn));
+            if (cursor.id() != null) {
+                addWhereClause(format("%s %s ?", idColumn, comparison), cursor.id());
+            }
+            orderByClause = format(ORDER_BY_TOKEN + " ", idColumn, order);
+            return;
+        }
+
+        if (cursor.id() == null) {
+            addWhereClause(format("%s IS NOT NULL", sortColumn));
+        } else if (cursor.sortValue() == null) {
+            throw new IllegalArgumentException(format("Cannot paginate by %s with a cursor that has no sort value", query.getSortField()));
+        } else {
+            // the row value comparison is never true for a null sort value, so it also excludes the null segment
+            addWhereClause(format("(%s, %s) %s (?, ?)", sortColumn, idColumn, comparison), cursor.sortValue(), cursor.id());
+        }
+        orderByClause = format("ORDER BY %1$s %2$s, %3$s %2$s ", sortColumn, order, idColumn);
     }
 
     private String parseSortField(QuerySpec query) {
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.dialect;
+
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.sql.statement.SqlExecuteStatement.isNull;
+
+class PostgresDialectTest {
+
+    @Nested
+    class Upsert {
+
+        @Test
+        void shouldThrowException_whenNoColumnSpecified() {
+            var statement = SqlExecuteStatement.newInstance("::json");
+
+            assertThatThrownBy(() -> PostgresDialect.getUpsertTemplate(statement, "table_name", "id", isNull("lease_id")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldReturnStatement_updatingAllButInsertOnlyColumns() {
+            var statement = SqlExecuteStatement.newInstance("::json")
+                    .column("id")
+                    .column("column_name")
+                    .jsonColumn("json_column")
+                    .column("created_at");
+
+            var upsert = PostgresDialect.getUpsertTemplate(statement, "table_name", "id", isNull("table_name.lease_id"), "created_at");
+
+            assertThat(upsert).isEqualToIgnoringCase("insert into table_name (id, column_name, json_column, created_at) " +
+                    "values (?, ?, ?::json, ?) on conflict (id) do update set column_name = excluded.column_name, " +
+                    "json_column = excluded.json_column where table_name.lease_id is null;");
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql.translation;
 
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.junit.jupiter.api.Test;
@@ -114,6 +115,92 @@ class SqlQueryStatementTest {
         assertThat(t.getParameters()).containsExactly("testid1", customParameter, 50, 0);
     }
 
+    @Test
+    void cursor_shouldSeekAfterSortValueAndId() {
+        var querySpec = QuerySpec.Builder.newInstance().offset(100).sortField("description")
+                .cursor(new QueryCursor("last-description", "last-id")).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, querySpec, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_description, edc_id) > (?, ?)" +
+                " ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("last-description", "last-id", 50, 0);
+    }
+
+    @Test
+    void cursor_shouldSeekBackwards_whenOrderIsDesc() {
+        var querySpec = QuerySpec.Builder.newInstance().sortField("description").sortOrder(SortOrder.DESC)
+                .cursor(new QueryCursor("last-description", "last-id")).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, querySpec, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_description, edc_id) < (?, ?)" +
+                " ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void cursor_shouldSeekWithinNullSortValues_whenCursorIsInNullSegment() {
+        var querySpec = QuerySpec.Builder.newInstance().sortField("description").cursor(new QueryCursor(null, "last-id", true)).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, querySpec, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE edc_description IS NULL AND edc_id > ? ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("last-id", 50, 0);
+    }
+
+    @Test
+    void cursor_shouldSelectNullSortValues_whenCursorIsAtStartOfNullSegment() {
+        var querySpec = QuerySpec.Builder.newInstance().sortField("description").cursor(QueryCursor.NULL_SORT_VALUES).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, querySpec, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE edc_description IS NULL ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly(50, 0);
+    }
+
+    @Test
+    void cursor_shouldFail_whenSortedAndCursorHasNoSortValue() {
+        var querySpec = QuerySpec.Builder.newInstance().sortField("description").cursor(new QueryCursor(null, "last-id")).build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, querySpec, new TestMapping(), criterionToWhereClauseConverter))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cursor_shouldSeekById_whenNotSorted() {
+        var criterion = new Criterion("field1", "=", "testid1");
+        when(criterionToWhereClauseConverter.convert(any())).thenReturn(new WhereClause("edc_field_1 = ?", "testid1"));
+        var querySpec = queryBuilder(criterion).cursor(new QueryCursor(null, "last-id")).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, querySpec, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? AND edc_id > ? ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("testid1", "last-id", 50, 0);
+    }
+
+    @Test
+    void cursor_shouldSelectNonNullSortValues_whenStart() {
+        var querySpec = QuerySpec.Builder.newInstance().sortField("description").cursor(QueryCursor.START).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, querySpec, new TestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE edc_description IS NOT NULL ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly(50, 0);
+    }
+
+    @Test
+    void cursor_shouldFail_whenIdIsNotMapped() {
+        var querySpec = QuerySpec.Builder.newInstance().cursor(QueryCursor.START).build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, querySpec, new TestMapping.ComplexMapping(), criterionToWhereClauseConverter))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private QuerySpec.Builder queryBuilder(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion));
     }
@@ -15,6 +15,9 @@
 package org.eclipse.edc.sql.lease;
 
 import org.eclipse.edc.sql.statement.SqlStatements;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
 
 import static java.lang.String.format;
 
@@ -36,6 +39,90 @@ public interface LeaseStatements extends SqlStatements {
                 getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn());
     }
 
+    /**
+     * Name of the table that contains the leased entities. Needed to acquire leases in bulk, if {@code null} leases can
+     * only be acquired one entity at a time.
+     */
+    default @Nullable String getLeasedEntityTableName() {
+        return null;
+    }
+
+    /**
+     * Name of the id column of the table that contains the leased entities.
+     */
+    default String getLeasedEntityIdColumn() {
+        return "id";
+    }
+
+    /**
+     * Deletes the expired leases of a batch of entities. Parameters are the {@code count} entity ids, followed by the
+     * current time in milliseconds.
+     */
+    default String getDeleteExpiredLeasesTemplate(int count) {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s IN (%s)) AND (? > (%s + %s))",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getLeasedEntityTableName(),
+                getLeasedEntityIdColumn(), placeholders(count), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    /**
+     * Selects the ids of the entities of a batch that are not leased. Parameters are the {@code count} entity ids.
+     */
+    default String getFindNotLeasedEntitiesTemplate(int count) {
+        return format("SELECT %s FROM %s WHERE %s IN (%s) AND %s IS NULL",
+                getLeasedEntityIdColumn(), getLeasedEntityTableName(), getLeasedEntityIdColumn(), placeholders(count), getLeaseIdColumn());
+    }
+
+    /**
+     * Inserts {@code count} leases in a single statement. Parameters are, for every lease, its id, holder, timestamp
+     * and duration.
+     */
+    default String getInsertLeasesTemplate(int count) {
+        var values = String.join(", ", Collections.nCopies(count, "(?, ?, ?, ?)"));
+        return format("INSERT INTO %s (%s, %s, %s, %s) VALUES %s",
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn(), values);
+    }
+
+    /**
+     * Assigns leases to a batch of entities that are not leased. Parameters are, for every entity, its id and the lease
+     * id, followed by the {@code count} entity ids.
+     */
+    default String getUpdateLeasesTemplate(int count) {
+        var cases = String.join(" ", Collections.nCopies(count, "WHEN ? THEN ?"));
+        return format("UPDATE %s SET %s = CASE %s %s END WHERE %s IN (%s) AND %s IS NULL",
+                getLeasedEntityTableName(), getLeaseIdColumn(), getLeasedEntityIdColumn(), cases,
+                getLeasedEntityIdColumn(), placeholders(count), getLeaseIdColumn());
+    }
+
+    /**
+     * Selects the ids of the entities that hold one of the given leases, together with the lease id. Parameters are the
+     * {@code count} lease ids.
+     */
+    default String getFindEntitiesByLeaseTemplate(int count) {
+        return format("SELECT %s, %s FROM %s WHERE %s IN (%s)",
+                getLeasedEntityIdColumn(), getLeaseIdColumn(), getLeasedEntityTableName(), getLeaseIdColumn(), placeholders(count));
+    }
+
+    /**
+     * Deletes {@code count} leases in a single statement. Parameters are the lease ids.
+     */
+    default String getDeleteLeasesTemplate(int count) {
+        return format("DELETE FROM %s WHERE %s IN (%s)", getLeaseTableName(), getLeaseIdColumn(), placeholders(count));
+    }
+
+    /**
+     * Deletes the lease of an entity, if it is held by the given lease holder. Parameters are the entity id and the
+     * lease holder.
+     */
+    default String getDeleteOwnLeaseTemplate() {
+        return format("DELETE FROM %s WHERE %s = (SELECT %s FROM %s WHERE %s = ?) AND %s = ?",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getLeasedEntityTableName(),
+                getLeasedEntityIdColumn(), getLeasedByColumn());
+    }
+
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
     default String getLeaseTableName() {
         return "edc_lease";
     }
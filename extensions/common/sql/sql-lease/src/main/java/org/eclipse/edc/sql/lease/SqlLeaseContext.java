@@ -26,9 +26,15 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
+import static java.util.stream.Collectors.toMap;
+
 /**
  * SQL-based implementation of the LeaseContext.
  * Acquiring a lease is implemented by adding an entry into the "lease" table in the database
@@ -101,6 +107,96 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Acquires the leases of a batch of entities using a constant number of statements, regardless of the batch size.
+     * Entities that are currently leased, or that get leased concurrently by someone else, are skipped. Falls back to acquiring leases one by one if the
+     * {@link LeaseStatements} do not provide the leased entity table.
+     *
+     * @param entityIds the ids of the entities to lease.
+     * @return the ids of the entities that have been leased.
+     */
+    public List<String> acquireLeases(List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return List.of();
+        }
+
+        if (statements.getLeasedEntityTableName() == null) {
+            entityIds.forEach(this::acquireLease);
+            return entityIds;
+        }
+
+        return trxContext.execute(() -> {
+            var now = clock.millis();
+            var ids = entityIds.toArray();
+
+            var deleteParams = new ArrayList<Object>(entityIds);
+            deleteParams.add(now);
+            queryExecutor.execute(connection, statements.getDeleteExpiredLeasesTemplate(ids.length), deleteParams.toArray());
+
+            List<String> leasable;
+            try (var stream = queryExecutor.query(connection, false, rs -> rs.getString(statements.getLeasedEntityIdColumn()),
+                    statements.getFindNotLeasedEntitiesTemplate(ids.length), ids)) {
+                leasable = stream.toList();
+            }
+
+            if (leasable.isEmpty()) {
+                return leasable;
+            }
+
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+            var leaseIds = new ArrayList<String>(leasable.size());
+            var insertParams = new ArrayList<>(leasable.size() * 4);
+            var updateParams = new ArrayList<>(leasable.size() * 3);
+            for (var entityId : leasable) {
+                var leaseId = UUID.randomUUID().toString();
+                leaseIds.add(leaseId);
+                insertParams.addAll(List.of(leaseId, leaseHolder, now, duration));
+                updateParams.addAll(List.of(entityId, leaseId));
+            }
+            updateParams.addAll(leasable);
+
+            queryExecutor.execute(connection, statements.getInsertLeasesTemplate(leasable.size()), insertParams.toArray());
+            var updated = queryExecutor.execute(connection, statements.getUpdateLeasesTemplate(leasable.size()), updateParams.toArray());
+            if (updated == leasable.size()) {
+                return leasable;
+            }
+
+            // some entities have been leased concurrently in the meantime: only the ones that got our leases are leased
+            Map<String, String> leased;
+            try (var stream = queryExecutor.query(connection, false,
+                    rs -> Map.entry(rs.getString(statements.getLeaseIdColumn()), rs.getString(statements.getLeasedEntityIdColumn())),
+                    statements.getFindEntitiesByLeaseTemplate(leaseIds.size()), leaseIds.toArray())) {
+                leased = stream.collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+            }
+
+            var unassigned = leaseIds.stream().filter(leaseId -> !leased.containsKey(leaseId)).toArray();
+            if (unassigned.length > 0) {
+                queryExecutor.execute(connection, statements.getDeleteLeasesTemplate(unassigned.length), unassigned);
+            }
+            var leasedEntities = Set.copyOf(leased.values());
+            return leasable.stream().filter(leasedEntities::contains).toList();
+        });
+    }
+
+    /**
+     * Releases the lease of an entity in a single statement, if it is held by this lease holder. Unlike
+     * {@link #breakLease(String)} this does not fail when another holder owns the lease: the entity stays leased, and
+     * callers that need to detect that have to do it with the statements that follow. Falls back to
+     * {@link #breakLease(String)} if the {@link LeaseStatements} do not provide the leased entity table.
+     *
+     * @param entityId the id of the leased entity.
+     */
+    public void releaseLease(String entityId) {
+        if (statements.getLeasedEntityTableName() == null) {
+            breakLease(entityId);
+            return;
+        }
+
+        trxContext.execute(() -> {
+            queryExecutor.execute(connection, statements.getDeleteOwnLeaseTemplate(), entityId, leaseHolder);
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
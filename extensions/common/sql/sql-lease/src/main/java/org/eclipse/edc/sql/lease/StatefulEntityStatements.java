@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.sql.lease;
 
+import static java.lang.String.format;
+
 public interface StatefulEntityStatements {
 
     String getIdColumn();
@@ -45,4 +47,16 @@ public interface StatefulEntityStatements {
     default String getUpdatedAtColumn() {
         return "updated_at";
     }
+
+    default String getNextAttemptTimestampColumn() {
+        return "next_attempt_time_stamp";
+    }
+
+    /**
+     * Filters out the entities whose next attempt timestamp is in the future. The parameter is the current time in
+     * milliseconds.
+     */
+    default String getDueFilter() {
+        return format("%s <= ?", getNextAttemptTimestampColumn());
+    }
 }
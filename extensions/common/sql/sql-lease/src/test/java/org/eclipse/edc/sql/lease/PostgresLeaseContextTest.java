@@ -36,6 +36,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -101,6 +102,26 @@ class PostgresLeaseContextTest {
         assertThatThrownBy(() -> leaseContext.breakLease(id)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void releaseLease(Connection connection) {
+        insertTestEntity("id1", connection);
+        leaseContext.acquireLease("id1");
+
+        leaseContext.releaseLease("id1");
+
+        assertThat(leaseContext.getLease("id1")).isNull();
+    }
+
+    @Test
+    void releaseLease_whenLeaseByOther_shouldKeepLease(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        leaseContext.releaseLease("id1");
+
+        assertThat(leaseContext.getLease("id1")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+    }
+
     @Test
     void acquireLease(Connection connection) {
         var id = "test-id";
@@ -175,6 +196,72 @@ class PostgresLeaseContextTest {
         assertThat(newLease.getLeaseId()).isNotEqualTo(leaseId);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        var ids = List.of("id1", "id2", "id3");
+        ids.forEach(id -> insertTestEntity(id, connection));
+
+        var leased = leaseContext.acquireLeases(ids);
+
+        assertThat(leased).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(ids).allSatisfy(id -> {
+            assertThat(isLeased(id, connection)).isTrue();
+            assertThat(leaseContext.getLease(id)).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+        });
+        assertThat(ids.stream().map(id -> leaseContext.getLease(id).getLeaseId()).distinct()).hasSize(3);
+    }
+
+    @Test
+    void acquireLeases_shouldSkipEntitiesLeasedByOthers(Connection connection) {
+        var ids = List.of("id1", "id2");
+        ids.forEach(id -> insertTestEntity(id, connection));
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        var leased = leaseContext.acquireLeases(ids);
+
+        assertThat(leased).containsExactly("id2");
+        assertThat(leaseContext.getLease("id1")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+    }
+
+    @Test
+    void acquireLeases_shouldReplaceExpiredLeases(Connection connection) {
+        var ids = List.of("id1", "id2");
+        ids.forEach(id -> insertTestEntity(id, connection));
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor)
+                .withConnection(connection);
+        var leased = twoMinutesAheadContext.acquireLeases(ids);
+
+        assertThat(leased).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(twoMinutesAheadContext.getLease("id1")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLeases_shouldReturnOnlyLeasedEntities_whenEntityIsLeasedConcurrently(Connection connection) {
+        var ids = List.of("id1", "id2");
+        ids.forEach(id -> insertTestEntity(id, connection));
+        var racingExecutor = new SqlQueryExecutor() {
+            @Override
+            public int execute(Connection c, String sql, Object... arguments) {
+                if (sql.equals(dialect.getUpdateLeasesTemplate(ids.size()))) {
+                    builder.by("someone-else").withConnection(connection).acquireLease("id1");
+                }
+                return super.execute(c, sql, arguments);
+            }
+        };
+        var racingContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, Clock.fixed(now, UTC), racingExecutor)
+                .withConnection(connection);
+
+        var leased = racingContext.acquireLeases(ids);
+
+        assertThat(leased).containsExactly("id2");
+        assertThat(racingContext.getLease("id1")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+        assertThat(racingContext.getLease("id2")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+        assertThat(countLeases(connection)).isEqualTo(2);
+    }
+
     protected boolean isLeased(String entityId, Connection connection) {
         return transactionContext.execute(() -> {
             var entity = getTestEntity(entityId, connection);
@@ -182,6 +269,11 @@ class PostgresLeaseContextTest {
         });
     }
 
+    protected long countLeases(Connection connection) {
+        return transactionContext.execute(() -> queryExecutor.single(connection, false, rs -> rs.getLong(1),
+                "SELECT COUNT(*) FROM " + dialect.getLeaseTableName()));
+    }
+
     protected void insertTestEntity(String id, Connection connection) {
         transactionContext.execute(() -> {
             var stmt = "INSERT INTO " + dialect.getEntityTableName() + " (id) VALUES (?);";
@@ -232,6 +324,11 @@ class PostgresLeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
+        public String getLeasedEntityTableName() {
+            return getEntityTableName();
+        }
+
         public String getEntityTableName() {
             return "edc_test_entity";
         }
@@ -46,13 +46,21 @@ public class SqlJtiValidationStore extends AbstractSqlStore implements JtiValida
     @Override
     public StoreResult<Void> storeEntry(JtiValidationEntry entry) {
         return transactionContext.execute(() -> {
-            var stmt = statements.getInsertTemplate();
+            var insertIfAbsent = statements.getInsertIfAbsentTemplate();
             try (var connection = getConnection()) {
+                if (insertIfAbsent == null) {
+                    if (findByIdInternal(connection, entry.tokenId()) != null) {
+                        return StoreResult.alreadyExists("JTI Validation Entry with ID '%s' already exists".formatted(entry.tokenId()));
+                    }
+                    queryExecutor.execute(connection, statements.getInsertTemplate(), entry.tokenId(), entry.expirationTimestamp());
+                    return StoreResult.success();
+                }
 
-                if (findByIdInternal(connection, entry.tokenId()) != null) {
+                // the primary key decides whether the entry exists already, so there's no need for a lookup before
+                var inserted = queryExecutor.execute(connection, insertIfAbsent, entry.tokenId(), entry.expirationTimestamp());
+                if (inserted == 0) {
                     return StoreResult.alreadyExists("JTI Validation Entry with ID '%s' already exists".formatted(entry.tokenId()));
                 }
-                queryExecutor.execute(connection, stmt, entry.tokenId(), entry.expirationTimestamp());
                 return StoreResult.success();
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -64,11 +72,20 @@ public class SqlJtiValidationStore extends AbstractSqlStore implements JtiValida
     public JtiValidationEntry findById(String id, boolean autoRemove) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
+                if (!autoRemove) {
+                    return findByIdInternal(connection, id);
+                }
+
+                var deleteReturning = statements.getDeleteByIdReturningTemplate();
+                if (deleteReturning != null) {
+                    // lookup and removal in a single statement, so that an entry can be consumed only once
+                    return queryExecutor.single(connection, false, this::mapResultSet, deleteReturning, id);
+                }
 
+                // the entry is consumed only by the caller whose delete removed it
                 var entry = findByIdInternal(connection, id);
-                if (entry != null && autoRemove) {
-                    // a failing delete should not impact the lookup
-                    deleteById(id).onFailure(f -> monitor.warning("Error deleting entry after lookup: '%s'".formatted(id)));
+                if (entry == null || queryExecutor.execute(connection, statements.getDeleteByIdTemplate(), id) == 0) {
+                    return null;
                 }
                 return entry;
             } catch (SQLException e) {
@@ -81,11 +98,10 @@ public class SqlJtiValidationStore extends AbstractSqlStore implements JtiValida
     public StoreResult<Void> deleteById(String id) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                if (findByIdInternal(connection, id) == null) {
+                var stmt = statements.getDeleteByIdTemplate();
+                if (queryExecutor.execute(connection, stmt, id) == 0) {
                     return StoreResult.notFound("JTI Validation Entry with ID '%s' not found".formatted(id));
                 }
-                var stmt = statements.getDeleteByIdTemplate();
-                queryExecutor.execute(connection, stmt, id);
                 return StoreResult.success();
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
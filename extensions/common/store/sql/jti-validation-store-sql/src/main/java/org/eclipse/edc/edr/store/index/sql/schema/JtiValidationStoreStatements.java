@@ -15,6 +15,7 @@
 package org.eclipse.edc.edr.store.index.sql.schema;
 
 import org.eclipse.edc.sql.statement.SqlStatements;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Defines all statements that are needed for the {@link org.eclipse.edc.jwt.validation.jti.JtiValidationEntry} store
@@ -38,5 +39,23 @@ public interface JtiValidationStoreStatements extends SqlStatements {
 
     String getInsertTemplate();
 
+    /**
+     * Insert statement that does not insert anything, instead of failing, when an entry with the same id exists.
+     *
+     * @return the statement, null if the dialect does not support it.
+     */
+    default @Nullable String getInsertIfAbsentTemplate() {
+        return null;
+    }
+
+    /**
+     * Delete statement that returns the deleted entry.
+     *
+     * @return the statement, null if the dialect does not support it.
+     */
+    default @Nullable String getDeleteByIdReturningTemplate() {
+        return null;
+    }
+
     String deleteWhereExpiredTemplate();
 }
@@ -18,6 +18,8 @@ import org.eclipse.edc.edr.store.index.sql.schema.BaseSqlDialectStatements;
 import org.eclipse.edc.sql.dialect.PostgresDialect;
 import org.eclipse.edc.sql.translation.PostgresqlOperatorTranslator;
 
+import static java.lang.String.format;
+
 /**
  * Contains Postgres-specific SQL statements
  */
@@ -32,4 +34,15 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         return PostgresDialect.getJsonCastOperator();
     }
 
+    @Override
+    public String getInsertIfAbsentTemplate() {
+        return format("INSERT INTO %s (%s, %s) VALUES (?, ?) ON CONFLICT (%s) DO NOTHING", getJtiValidationTable(),
+                getTokenIdColumn(), getExpirationTimeColumn(), getTokenIdColumn());
+    }
+
+    @Override
+    public String getDeleteByIdReturningTemplate() {
+        return format("DELETE FROM %s WHERE %s = ? RETURNING *", getJtiValidationTable(), getTokenIdColumn());
+    }
+
 }
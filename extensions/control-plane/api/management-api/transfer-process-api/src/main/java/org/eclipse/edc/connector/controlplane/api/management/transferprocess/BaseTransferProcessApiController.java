@@ -16,7 +16,9 @@ package org.eclipse.edc.connector.controlplane.api.management.transferprocess;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.query.ContinuationToken;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.SuspendTransfer;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TerminateTransfer;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TransferState;
@@ -36,6 +38,7 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.util.List;
 import java.util.Optional;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
@@ -64,17 +67,36 @@ public abstract class BaseTransferProcessApiController {
     }
 
     public JsonArray queryTransferProcesses(JsonObject querySpecJson) {
-        QuerySpec querySpec;
-        if (querySpecJson == null) {
-            querySpec = QuerySpec.none();
-        } else {
-            validatorRegistry.validate(EDC_QUERY_SPEC_TYPE, querySpecJson).orElseThrow(ValidationFailureException::new);
+        var querySpec = toQuerySpec(querySpecJson);
+        return toJson(service.search(querySpec).orElseThrow(exceptionMapper(TransferProcess.class)));
+    }
 
-            querySpec = transformerRegistry.transform(querySpecJson, QuerySpec.class)
-                    .orElseThrow(InvalidRequestException::new);
+    /**
+     * Query transfer processes, adding the {@link ContinuationToken#HEADER} to the response when the query is
+     * keyset-paginated and there could be a next page.
+     */
+    public Response queryTransferProcessesPage(JsonObject querySpecJson) {
+        var querySpec = toQuerySpec(querySpecJson);
+        var transferProcesses = service.search(querySpec).orElseThrow(exceptionMapper(TransferProcess.class));
+
+        var response = Response.ok(toJson(transferProcesses));
+        ContinuationToken.next(querySpec, transferProcesses).ifPresent(token -> response.header(ContinuationToken.HEADER, token));
+        return response.build();
+    }
+
+    private QuerySpec toQuerySpec(JsonObject querySpecJson) {
+        if (querySpecJson == null) {
+            return QuerySpec.none();
         }
 
-        return service.search(querySpec).orElseThrow(exceptionMapper(TransferProcess.class)).stream()
+        validatorRegistry.validate(EDC_QUERY_SPEC_TYPE, querySpecJson).orElseThrow(ValidationFailureException::new);
+
+        return transformerRegistry.transform(querySpecJson, QuerySpec.class)
+                .orElseThrow(InvalidRequestException::new);
+    }
+
+    private JsonArray toJson(List<TransferProcess> transferProcesses) {
+        return transferProcesses.stream()
                 .map(transferProcess -> transformerRegistry.transform(transferProcess, JsonObject.class)
                         .onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
@@ -82,7 +104,6 @@ public abstract class BaseTransferProcessApiController {
                 .collect(toJsonArray());
     }
 
-
     public JsonObject getTransferProcess(String id) {
         var definition = service.findById(id);
         if (definition == null) {
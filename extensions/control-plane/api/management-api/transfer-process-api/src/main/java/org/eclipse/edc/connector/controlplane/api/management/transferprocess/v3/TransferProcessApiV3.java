@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.api.management.transferprocess.v3
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.links.Link;
 import io.swagger.v3.oas.annotations.links.LinkParameter;
@@ -25,10 +26,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.management.schema.ManagementApiSchema;
 import org.eclipse.edc.api.model.ApiCoreSchema;
+import org.eclipse.edc.api.query.ContinuationToken;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.SuspendTransfer;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TerminateTransfer;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TransferState;
@@ -55,11 +57,13 @@ public interface TransferProcessApiV3 {
             requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = ApiCoreSchema.QuerySpecSchema.class))),
             responses = {
                     @ApiResponse(responseCode = "200", description = "The transfer processes matching the query",
-                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = TransferProcessSchema.class)))),
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = TransferProcessSchema.class))),
+                            headers = @Header(name = ContinuationToken.HEADER, description = "When the query has a cursor and there may be more results, " +
+                                    "the cursor to pass in the next query to get the following page")),
                     @ApiResponse(responseCode = "400", description = "Request was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class)))) }
     )
-    JsonArray queryTransferProcessesV3(JsonObject querySpecJson);
+    Response queryTransferProcessesV3(JsonObject querySpecJson);
 
     @Operation(description = "Gets an transfer process with the given ID",
             responses = {
@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.transferprocess.v3;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -22,6 +21,7 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.BaseTransferProcessApiController;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -42,8 +42,8 @@ public class TransferProcessApiV3Controller extends BaseTransferProcessApiContro
     @POST
     @Path("request")
     @Override
-    public JsonArray queryTransferProcessesV3(JsonObject querySpecJson) {
-        return queryTransferProcesses(querySpecJson);
+    public Response queryTransferProcessesV3(JsonObject querySpecJson) {
+        return queryTransferProcessesPage(querySpecJson);
     }
 
     @GET
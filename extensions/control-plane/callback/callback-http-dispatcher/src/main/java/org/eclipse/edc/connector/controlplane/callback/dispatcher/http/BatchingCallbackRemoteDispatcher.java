@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher.http;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcher;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+
+/**
+ * {@link RemoteMessageDispatcher} that accumulates the non-transactional callback events per callback endpoint and
+ * delivers them as a single JSON array, either when a batch is full or when {@link #flush()} is called.
+ * <p>
+ * The dispatch returns right away, so a slow callback endpoint does not hold the event processing. Every endpoint
+ * has a limited number of requests in flight, and the events of a failed request are queued again until the retry
+ * limit is reached. After a failure the endpoint is not called again until an exponentially growing delay has passed,
+ * and endpoints without pending events or requests in flight are released on {@link #flush()}. Transactional callbacks need to be delivered before the transaction commits, so they, as well as
+ * any other message, are passed to the delegate dispatcher.
+ */
+public class BatchingCallbackRemoteDispatcher implements RemoteMessageDispatcher {
+
+    private static final int MAX_PENDING_BATCHES = 100;
+
+    private final RemoteMessageDispatcher delegate;
+    private final CallbackEventRemoteMessageDispatcher requestFactory;
+    private final EdcHttpClient httpClient;
+    private final Monitor monitor;
+    private final int batchSize;
+    private final int maxConcurrency;
+    private final int retryLimit;
+    private final long retryDelayMillis;
+    private final Clock clock;
+    private final Map<EndpointKey, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public BatchingCallbackRemoteDispatcher(RemoteMessageDispatcher delegate, CallbackEventRemoteMessageDispatcher requestFactory,
+                                            EdcHttpClient httpClient, Monitor monitor, int batchSize, int maxConcurrency, int retryLimit,
+                                            long retryDelayMillis, Clock clock) {
+        this.delegate = delegate;
+        this.requestFactory = requestFactory;
+        this.httpClient = httpClient;
+        this.monitor = monitor;
+        this.batchSize = batchSize;
+        this.maxConcurrency = maxConcurrency;
+        this.retryLimit = retryLimit;
+        this.retryDelayMillis = retryDelayMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public <T, M extends RemoteMessage> CompletableFuture<StatusResult<T>> dispatch(Class<T> responseType, M message) {
+        if (message instanceof CallbackEventRemoteMessage<?> callbackMessage && !callbackMessage.getCallbackAddress().isTransactional()) {
+            // added within the compute, so that the endpoint cannot be evicted in between
+            var endpoint = endpoints.compute(EndpointKey.of(callbackMessage), (key, existing) -> {
+                var target = existing == null ? new Endpoint() : existing;
+                target.add(new Pending(callbackMessage, 0));
+                return target;
+            });
+            send(endpoint, true);
+            return CompletableFuture.completedFuture(StatusResult.success(null));
+        }
+        return delegate.dispatch(responseType, message);
+    }
+
+    /**
+     * Sends all the pending events, as far as the endpoints concurrency limit and retry delay allow, and releases the
+     * idle endpoints.
+     */
+    public void flush() {
+        endpoints.values().forEach(endpoint -> send(endpoint, false));
+        endpoints.keySet().forEach(key -> endpoints.computeIfPresent(key, (k, endpoint) -> endpoint.isIdle() ? null : endpoint));
+    }
+
+    private void send(Endpoint endpoint, boolean fullBatchesOnly) {
+        while (endpoint.permits.tryAcquire()) {
+            var batch = endpoint.take(fullBatchesOnly ? batchSize : 1, clock.millis());
+            if (batch.isEmpty()) {
+                endpoint.permits.release();
+                return;
+            }
+            send(endpoint, batch);
+        }
+    }
+
+    private void send(Endpoint endpoint, List<Pending> batch) {
+        var messages = batch.stream().<CallbackEventRemoteMessage<?>>map(Pending::message).toList();
+        var uri = messages.get(0).getCounterPartyAddress();
+        try {
+            var request = requestFactory.buildBatchRequest(messages);
+            httpClient.executeAsync(request, emptyList())
+                    .thenApply(response -> {
+                        try (response) {
+                            return requestFactory.parseResponse().apply(response);
+                        }
+                    })
+                    .whenComplete((result, throwable) -> {
+                        // requeue before releasing the permit, so that the endpoint is not considered idle meanwhile
+                        if (throwable != null) {
+                            retry(endpoint, batch, uri, throwable);
+                        }
+                        endpoint.permits.release();
+                    });
+        } catch (Exception e) {
+            // the request cannot be built, e.g. because the auth code is missing, so there's no point in retrying
+            endpoint.permits.release();
+            monitor.severe(format("Failed to invoke callback at URI: %s, %d events have been dropped", uri, batch.size()), e);
+        }
+    }
+
+    private void retry(Endpoint endpoint, List<Pending> batch, String uri, Throwable throwable) {
+        var retries = batch.stream()
+                .filter(pending -> pending.attempt() < retryLimit)
+                .map(pending -> new Pending(pending.message(), pending.attempt() + 1))
+                .toList();
+        var dropped = batch.size() - retries.size();
+        if (dropped > 0) {
+            monitor.severe(format("Failed to invoke callback at URI: %s, %d events have been dropped after %d retries", uri, dropped, retryLimit), throwable);
+        } else {
+            monitor.warning(format("Failed to invoke callback at URI: %s, %d events will be retried", uri, retries.size()), throwable);
+        }
+        var attempt = retries.stream().mapToInt(Pending::attempt).max().orElse(1);
+        endpoint.requeue(retries, clock.millis() + (retryDelayMillis << Math.min(attempt - 1, 16)));
+    }
+
+    private record Pending(CallbackEventRemoteMessage<?> message, int attempt) {
+    }
+
+    private record EndpointKey(String uri, String authKey, String authCodeId) {
+
+        static EndpointKey of(CallbackEventRemoteMessage<?> message) {
+            return new EndpointKey(message.getCounterPartyAddress(), message.getAuthKey(), message.getAuthCodeId());
+        }
+    }
+
+    private class Endpoint {
+
+        private final Deque<Pending> pending = new ArrayDeque<>();
+        private final Semaphore permits = new Semaphore(maxConcurrency);
+        private long notBefore;
+
+        synchronized void add(Pending event) {
+            if (pending.size() >= batchSize * MAX_PENDING_BATCHES) {
+                var dropped = pending.removeFirst();
+                monitor.warning(format("Too many pending callbacks for URI: %s, event %s has been dropped",
+                        dropped.message().getCounterPartyAddress(), dropped.message().getEventEnvelope().getId()));
+            }
+            pending.addLast(event);
+        }
+
+        /**
+         * Takes the next batch, if there are at least the given number of pending events and the endpoint is not
+         * waiting for a retry.
+         */
+        synchronized List<Pending> take(int minimum, long now) {
+            if (pending.size() < minimum || now < notBefore) {
+                return emptyList();
+            }
+            var batch = new ArrayList<Pending>(Math.min(pending.size(), batchSize));
+            while (!pending.isEmpty() && batch.size() < batchSize) {
+                batch.add(pending.removeFirst());
+            }
+            return batch;
+        }
+
+        synchronized void requeue(List<Pending> events, long retryAt) {
+            for (var i = events.size() - 1; i >= 0; i--) {
+                pending.addFirst(events.get(i));
+            }
+            notBefore = Math.max(notBefore, retryAt);
+        }
+
+        synchronized boolean isIdle() {
+            return pending.isEmpty() && permits.availablePermits() == maxConcurrency;
+        }
+    }
+}
@@ -18,18 +18,44 @@ import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProt
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.time.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import static org.eclipse.edc.connector.controlplane.callback.dispatcher.http.GenericHttpRemoteDispatcherImpl.CALLBACK_EVENT_HTTP;
 
 @Extension(value = CallbackEventDispatcherHttpExtension.NAME)
 public class CallbackEventDispatcherHttpExtension implements ServiceExtension {
 
     public static final String NAME = "Callback dispatcher http extension";
+
+    @Setting(value = "If true, the non-transactional callback events are delivered in batches, as a JSON array of events per request", type = "boolean", defaultValue = "false")
+    public static final String CALLBACK_BATCH_ENABLED = "edc.callback.batch.enabled";
+    private static final long DEFAULT_CALLBACK_BATCH_WINDOW = 500;
+    @Setting(value = "Max time in milliseconds a callback event waits to be delivered in a batch", type = "long", defaultValue = DEFAULT_CALLBACK_BATCH_WINDOW + "")
+    public static final String CALLBACK_BATCH_WINDOW = "edc.callback.batch.window-millis";
+    private static final int DEFAULT_CALLBACK_BATCH_SIZE = 100;
+    @Setting(value = "Max number of callback events delivered in a single request", type = "int", defaultValue = DEFAULT_CALLBACK_BATCH_SIZE + "")
+    public static final String CALLBACK_BATCH_SIZE = "edc.callback.batch.size";
+    private static final int DEFAULT_CALLBACK_BATCH_CONCURRENCY = 2;
+    @Setting(value = "Max number of batch requests in flight for every callback endpoint", type = "int", defaultValue = DEFAULT_CALLBACK_BATCH_CONCURRENCY + "")
+    public static final String CALLBACK_BATCH_CONCURRENCY = "edc.callback.batch.endpoint.concurrency";
+    private static final int DEFAULT_CALLBACK_BATCH_RETRY_LIMIT = 3;
+    @Setting(value = "How many times the delivery of a batch of callback events is retried before its events are dropped", type = "int", defaultValue = DEFAULT_CALLBACK_BATCH_RETRY_LIMIT + "")
+    public static final String CALLBACK_BATCH_RETRY_LIMIT = "edc.callback.batch.retry-limit";
+    private static final long DEFAULT_CALLBACK_BATCH_RETRY_DELAY = 1000;
+    @Setting(value = "Delay in milliseconds before the first retry of a failed batch, doubled on every further retry", type = "long", defaultValue = DEFAULT_CALLBACK_BATCH_RETRY_DELAY + "")
+    public static final String CALLBACK_BATCH_RETRY_DELAY = "edc.callback.batch.retry-delay-millis";
+
     @Inject
     private RemoteMessageDispatcherRegistry registry;
     @Inject
@@ -43,6 +69,16 @@ public class CallbackEventDispatcherHttpExtension implements ServiceExtension {
     @Inject
     private Vault vault;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    private BatchingCallbackRemoteDispatcher batchingDispatcher;
+    private long batchWindow;
+    private ScheduledExecutorService flushExecutor;
+
 
     @Override
     public String name() {
@@ -55,9 +91,38 @@ public class CallbackEventDispatcherHttpExtension implements ServiceExtension {
         resolverRegistry.registerResolver(this::resolveScheme);
 
         var baseDispatcher = new GenericHttpRemoteDispatcherImpl(client);
-        baseDispatcher.registerDelegate(new CallbackEventRemoteMessageDispatcher(typeManager.getMapper(), vault));
+        var callbackDispatcher = new CallbackEventRemoteMessageDispatcher(typeManager.getMapper(), vault);
+        baseDispatcher.registerDelegate(callbackDispatcher);
+
+        if (context.getSetting(CALLBACK_BATCH_ENABLED, false)) {
+            batchWindow = context.getSetting(CALLBACK_BATCH_WINDOW, DEFAULT_CALLBACK_BATCH_WINDOW);
+            batchingDispatcher = new BatchingCallbackRemoteDispatcher(baseDispatcher, callbackDispatcher, client, context.getMonitor(),
+                    context.getSetting(CALLBACK_BATCH_SIZE, DEFAULT_CALLBACK_BATCH_SIZE),
+                    context.getSetting(CALLBACK_BATCH_CONCURRENCY, DEFAULT_CALLBACK_BATCH_CONCURRENCY),
+                    context.getSetting(CALLBACK_BATCH_RETRY_LIMIT, DEFAULT_CALLBACK_BATCH_RETRY_LIMIT),
+                    context.getSetting(CALLBACK_BATCH_RETRY_DELAY, DEFAULT_CALLBACK_BATCH_RETRY_DELAY), clock);
+            registry.register(CALLBACK_EVENT_HTTP, batchingDispatcher);
+        } else {
+            registry.register(CALLBACK_EVENT_HTTP, baseDispatcher);
+        }
+    }
 
-        registry.register(CALLBACK_EVENT_HTTP, baseDispatcher);
+    @Override
+    public void start() {
+        if (batchingDispatcher != null) {
+            flushExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "Callback Batch Flush");
+            flushExecutor.scheduleWithFixedDelay(batchingDispatcher::flush, batchWindow, batchWindow, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdownNow();
+        }
+        if (batchingDispatcher != null) {
+            batchingDispatcher.flush();
+        }
     }
 
 
@@ -24,6 +24,7 @@ import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEven
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.security.Vault;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -51,9 +52,37 @@ public class CallbackEventRemoteMessageDispatcher implements GenericHttpDispatch
 
     @Override
     public Request buildRequest(CallbackEventRemoteMessage message) {
+        var eventName = message.getEventEnvelope().getPayload().name();
+        return buildRequest(message, eventName, ((CallbackEventRemoteMessage<?>) message).getEventEnvelope());
+    }
+
+    /**
+     * Builds a single request that delivers the events of all the messages as a JSON array. The messages must share
+     * the same callback URI and authentication.
+     *
+     * @param messages the messages
+     * @return the request
+     */
+    public Request buildBatchRequest(List<CallbackEventRemoteMessage<?>> messages) {
+        var first = messages.get(0);
+        var envelopes = messages.stream().map(CallbackEventRemoteMessage::getEventEnvelope).toList();
+        return buildRequest(first, first.getEventEnvelope().getPayload().name(), envelopes);
+    }
+
+    @Override
+    public Function<Response, Void> parseResponse() {
+        return response -> {
+            if (response.isSuccessful()) {
+                return null;
+            } else {
+                throw new EdcException(format("Received error code %s when calling the callback endpoint at uri: %s", response.code(), response.request().url().url().toString()));
+            }
+        };
+    }
+
+    private Request buildRequest(CallbackEventRemoteMessage<?> message, String eventName, Object payload) {
         try {
-            var eventName = message.getEventEnvelope().getPayload().name();
-            var body = mapper.writeValueAsString(((CallbackEventRemoteMessage<?>) message).getEventEnvelope());
+            var body = mapper.writeValueAsString(payload);
 
             var builder = new Request.Builder()
                     .url(message.getCounterPartyAddress())
@@ -69,17 +98,6 @@ public class CallbackEventRemoteMessageDispatcher implements GenericHttpDispatch
         }
     }
 
-    @Override
-    public Function<Response, Void> parseResponse() {
-        return response -> {
-            if (response.isSuccessful()) {
-                return null;
-            } else {
-                throw new EdcException(format("Received error code %s when calling the callback endpoint at uri: %s", response.code(), response.request().url().url().toString()));
-            }
-        };
-    }
-
     private String extractAuthCode(String eventName, String authCodeId) {
         if (authCodeId == null) {
             throw new EdcException(format("Error dispatching event %s: Auth Code Id cannot be null when the Auth Key was provided", eventName));
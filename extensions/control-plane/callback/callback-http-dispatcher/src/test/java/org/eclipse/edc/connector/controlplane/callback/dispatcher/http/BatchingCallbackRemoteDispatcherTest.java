@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher.http;
+
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcher;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.callback.dispatcher.http.GenericHttpRemoteDispatcherImpl.CALLBACK_EVENT_HTTP;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class BatchingCallbackRemoteDispatcherTest {
+
+    private static final String CALLBACK_URL = "http://localhost:8080/hooks";
+
+    private final EdcHttpClient httpClient = mock();
+    private final RemoteMessageDispatcher delegate = mock();
+    private final CallbackEventRemoteMessageDispatcher requestFactory = new CallbackEventRemoteMessageDispatcher(new JacksonTypeManager().getMapper(), mock());
+    private final Clock clock = mock();
+    private final BatchingCallbackRemoteDispatcher dispatcher = new BatchingCallbackRemoteDispatcher(delegate, requestFactory, httpClient, mock(), 3, 1, 1, 1000, clock);
+
+    @Test
+    void dispatch_shouldSendFullBatchAsSingleRequest() throws IOException {
+        when(httpClient.executeAsync(any(), any())).thenAnswer(i -> CompletableFuture.completedFuture(response(i.getArgument(0), 200)));
+
+        IntStream.range(0, 3).forEach(i -> assertThat(dispatcher.dispatch(Object.class, message("event-" + i, false))).isCompleted());
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient).executeAsync(captor.capture(), any());
+        var body = bodyOf(captor.getValue());
+        assertThat(body).startsWith("[").contains("event-0", "event-1", "event-2");
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void flush_shouldSendPartialBatch() {
+        when(httpClient.executeAsync(any(), any())).thenAnswer(i -> CompletableFuture.completedFuture(response(i.getArgument(0), 200)));
+
+        dispatcher.dispatch(Object.class, message("event-0", false));
+        verify(httpClient, never()).executeAsync(any(), any());
+
+        dispatcher.flush();
+
+        verify(httpClient).executeAsync(any(), any());
+    }
+
+    @Test
+    void flush_shouldNotExceedEndpointConcurrency() {
+        var pending = new CompletableFuture<Response>();
+        when(httpClient.executeAsync(any(), any())).thenReturn(pending);
+        IntStream.range(0, 6).forEach(i -> dispatcher.dispatch(Object.class, message("event-" + i, false)));
+
+        dispatcher.flush();
+
+        verify(httpClient).executeAsync(any(), any());
+    }
+
+    @Test
+    void flush_shouldRetryFailedBatchUntilLimit() {
+        when(httpClient.executeAsync(any(), any())).thenAnswer(i -> CompletableFuture.completedFuture(response(i.getArgument(0), 500)));
+        dispatcher.dispatch(Object.class, message("event-0", false));
+
+        dispatcher.flush();
+        when(clock.millis()).thenReturn(1000L);
+        dispatcher.flush();
+        when(clock.millis()).thenReturn(10_000L);
+        dispatcher.flush();
+
+        verify(httpClient, times(2)).executeAsync(any(), any());
+    }
+
+    @Test
+    void flush_shouldNotRetryBeforeDelay() {
+        when(httpClient.executeAsync(any(), any())).thenAnswer(i -> CompletableFuture.completedFuture(response(i.getArgument(0), 500)));
+        dispatcher.dispatch(Object.class, message("event-0", false));
+
+        dispatcher.flush();
+        when(clock.millis()).thenReturn(999L);
+        dispatcher.flush();
+
+        verify(httpClient).executeAsync(any(), any());
+    }
+
+    @Test
+    void flush_shouldKeepDeliveringAfterIdleEndpointIsReleased() {
+        when(httpClient.executeAsync(any(), any())).thenAnswer(i -> CompletableFuture.completedFuture(response(i.getArgument(0), 200)));
+        dispatcher.dispatch(Object.class, message("event-0", false));
+        dispatcher.flush();
+        dispatcher.flush();
+
+        dispatcher.dispatch(Object.class, message("event-1", false));
+        dispatcher.flush();
+
+        verify(httpClient, times(2)).executeAsync(any(), any());
+    }
+
+    @Test
+    void dispatch_shouldDelegateTransactionalCallbacks() {
+        var message = message("event-0", true);
+        when(delegate.dispatch(Object.class, message)).thenReturn(CompletableFuture.completedFuture(null));
+
+        dispatcher.dispatch(Object.class, message);
+
+        verify(delegate).dispatch(same(Object.class), same(message));
+        verifyNoInteractions(httpClient);
+    }
+
+    private CallbackEventRemoteMessage<TransferProcessCompleted> message(String eventId, boolean transactional) {
+        var callback = CallbackAddress.Builder.newInstance()
+                .events(Set.of("transfer"))
+                .uri(CALLBACK_URL)
+                .transactional(transactional)
+                .build();
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("tp").callbackAddresses(List.of(callback)).build();
+        var envelope = EventEnvelope.Builder.newInstance().id(eventId).at(10).payload(event).build();
+        return new CallbackEventRemoteMessage<>(callback, envelope, CALLBACK_EVENT_HTTP);
+    }
+
+    private Response response(Request request, int code) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("message")
+                .body(ResponseBody.create("{}", null))
+                .build();
+    }
+
+    private String bodyOf(Request request) throws IOException {
+        var buffer = new Buffer();
+        request.body().writeTo(buffer);
+        return buffer.readUtf8();
+    }
+}
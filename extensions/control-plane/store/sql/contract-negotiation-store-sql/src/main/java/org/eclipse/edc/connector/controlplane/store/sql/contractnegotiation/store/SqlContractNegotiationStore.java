@@ -42,6 +42,7 @@ import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -84,14 +85,17 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
             var filter = Arrays.stream(criteria).toList();
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
             var statement = statements.createNegotiationsQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis())
+                    .addWhereClause(statements.getDueFilter(), clock.millis());
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
+                var ids = negotiations.stream().map(ContractNegotiation::getId).toList();
+                var leased = Set.copyOf(leaseContext.withConnection(connection).acquireLeases(ids));
+                negotiations.removeIf(it -> !leased.contains(it.getId()));
                 return negotiations;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -123,9 +127,14 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         var id = negotiation.getId();
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var existing = findInternal(connection, id);
-                if (existing == null) {
-                    insert(connection, negotiation);
+                var upsertStatement = statements.getUpsertNegotiationTemplate();
+                if (upsertStatement != null) {
+                    leaseContext.withConnection(connection).releaseLease(id);
+                    if (insert(connection, upsertStatement, negotiation) == 0) {
+                        throw new IllegalStateException("Current runtime does not hold the lease for ContractNegotiation (id [" + id + "]), cannot save it!");
+                    }
+                } else if (findInternal(connection, id) == null) {
+                    insert(connection, statements.getInsertNegotiationTemplate(), negotiation);
                 } else {
                     leaseContext.withConnection(connection).breakLease(id);
                     update(connection, id, negotiation);
@@ -250,10 +259,11 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 updatedValues.isPending(),
                 updatedValues.getCorrelationId(),
                 toJson(updatedValues.getProtocolMessages()),
+                updatedValues.getNextAttemptTimestamp(),
                 negotiationId);
     }
 
-    private void insert(Connection connection, ContractNegotiation negotiation) {
+    private int insert(Connection connection, String stmt, ContractNegotiation negotiation) {
         String agrId = null;
         var agreement = negotiation.getContractAgreement();
         if (agreement != null) {
@@ -261,8 +271,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
             upsertAgreement(agreement);
         }
 
-        var stmt = statements.getInsertNegotiationTemplate();
-        queryExecutor.execute(connection, stmt,
+        return queryExecutor.execute(connection, stmt,
                 negotiation.getId(),
                 negotiation.getCorrelationId(),
                 negotiation.getCounterPartyId(),
@@ -280,7 +289,8 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 negotiation.getCreatedAt(),
                 negotiation.getUpdatedAt(),
                 negotiation.isPending(),
-                toJson(negotiation.getProtocolMessages()));
+                toJson(negotiation.getProtocolMessages()),
+                negotiation.getNextAttemptTimestamp());
     }
 
     private void upsertAgreement(ContractAgreement contractAgreement) {
@@ -379,6 +389,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 .updatedAt(resultSet.getLong(statements.getUpdatedAtColumn()))
                 .pending(resultSet.getBoolean(statements.getPendingColumn()))
                 .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
+                .nextAttemptTimestamp(resultSet.getLong(statements.getNextAttemptTimestampColumn()))
                 .build();
     }
 
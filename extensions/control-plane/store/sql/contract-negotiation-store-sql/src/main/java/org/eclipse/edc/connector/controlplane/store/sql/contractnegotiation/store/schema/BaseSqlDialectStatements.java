@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema;
 
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
@@ -60,31 +61,13 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 .column(getPendingColumn())
                 .column(getCorrelationIdColumn())
                 .jsonColumn(getProtocolMessagesColumn())
+                .column(getNextAttemptTimestampColumn())
                 .update(getContractNegotiationTable(), getIdColumn());
     }
 
     @Override
     public String getInsertNegotiationTemplate() {
-        return executeStatement()
-                .column(getIdColumn())
-                .column(getCorrelationIdColumn())
-                .column(getCounterPartyIdColumn())
-                .column(getCounterPartyAddressColumn())
-                .column(getTypeColumn())
-                .column(getProtocolColumn())
-                .column(getStateColumn())
-                .column(getStateCountColumn())
-                .column(getStateTimestampColumn())
-                .column(getErrorDetailColumn())
-                .column(getContractAgreementIdFkColumn())
-                .jsonColumn(getContractOffersColumn())
-                .jsonColumn(getCallbackAddressesColumn())
-                .jsonColumn(getTraceContextColumn())
-                .column(getCreatedAtColumn())
-                .column(getUpdatedAtColumn())
-                .column(getPendingColumn())
-                .jsonColumn(getProtocolMessagesColumn())
-                .insertInto(getContractNegotiationTable());
+        return negotiationColumns().insertInto(getContractNegotiationTable());
     }
 
     @Override
@@ -171,4 +154,36 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 getLeaseTableName(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn());
     }
 
+    @Override
+    public String getLeasedEntityTableName() {
+        return getContractNegotiationTable();
+    }
+
+    @Override
+    public String getLeasedEntityIdColumn() {
+        return getIdColumn();
+    }
+
+    protected SqlExecuteStatement negotiationColumns() {
+        return executeStatement()
+                .column(getIdColumn())
+                .column(getCorrelationIdColumn())
+                .column(getCounterPartyIdColumn())
+                .column(getCounterPartyAddressColumn())
+                .column(getTypeColumn())
+                .column(getProtocolColumn())
+                .column(getStateColumn())
+                .column(getStateCountColumn())
+                .column(getStateTimestampColumn())
+                .column(getErrorDetailColumn())
+                .column(getContractAgreementIdFkColumn())
+                .jsonColumn(getContractOffersColumn())
+                .jsonColumn(getCallbackAddressesColumn())
+                .jsonColumn(getTraceContextColumn())
+                .column(getCreatedAtColumn())
+                .column(getUpdatedAtColumn())
+                .column(getPendingColumn())
+                .jsonColumn(getProtocolMessagesColumn())
+                .column(getNextAttemptTimestampColumn());
+    }
 }
@@ -18,6 +18,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.lease.LeaseStatements;
 import org.eclipse.edc.sql.lease.StatefulEntityStatements;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Provides database-related constants, such as column names, table names and statement templates. Methods to compose
@@ -32,6 +33,16 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
 
     String getInsertNegotiationTemplate();
 
+    /**
+     * Inserts the contract negotiation, or updates it if it exists and is not leased. Takes the same parameters as
+     * {@link #getInsertNegotiationTemplate()}.
+     *
+     * @return the statement, null if the dialect does not support it.
+     */
+    default @Nullable String getUpsertNegotiationTemplate() {
+        return null;
+    }
+
     String getDeleteTemplate();
 
     String getSelectFromAgreementsTemplate();
@@ -102,6 +113,10 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
         return "state_timestamp";
     }
 
+    default String getNextAttemptTimestampColumn() {
+        return "next_attempt_timestamp";
+    }
+
     default String getContractOffersColumn() {
         return "contract_offers";
     }
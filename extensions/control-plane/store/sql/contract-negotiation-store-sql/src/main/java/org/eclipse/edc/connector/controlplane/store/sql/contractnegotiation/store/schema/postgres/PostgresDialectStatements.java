@@ -22,6 +22,8 @@ import org.eclipse.edc.sql.translation.PostgresqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 import org.eclipse.edc.sql.translation.TranslationMapping;
 
+import static org.eclipse.edc.sql.statement.SqlExecuteStatement.isNull;
+
 /**
  * Concrete implementation of the {@link ContractNegotiationStatements} for Postgres. Uses a mapping tree
  * ({@link TranslationMapping} to generate queries.
@@ -35,6 +37,13 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         super(new PostgresqlOperatorTranslator());
     }
 
+    @Override
+    public String getUpsertNegotiationTemplate() {
+        return PostgresDialect.getUpsertTemplate(negotiationColumns(), getContractNegotiationTable(), getIdColumn(),
+                isNull(getContractNegotiationTable() + "." + getLeaseIdColumn()),
+                getCounterPartyIdColumn(), getCounterPartyAddressColumn(), getTypeColumn(), getProtocolColumn(), getCreatedAtColumn());
+    }
+
     @Override
     public SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec) {
         var selectStmt = getSelectNegotiationsTemplate();
@@ -59,6 +59,7 @@ CREATE TABLE IF NOT EXISTS edc_contract_negotiation
     trace_context        JSON,
     pending              BOOLEAN DEFAULT FALSE,
     protocol_messages    JSON,
+    next_attempt_timestamp BIGINT DEFAULT 0 NOT NULL,
     lease_id             VARCHAR
         CONSTRAINT contract_negotiation_lease_lease_id_fk
             REFERENCES edc_lease
@@ -83,4 +84,7 @@ CREATE UNIQUE INDEX IF NOT EXISTS contract_agreement_id_uindex
 
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
-CREATE INDEX IF NOT EXISTS contract_negotiation_state ON edc_contract_negotiation (state,state_timestamp);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS contract_negotiation_state ON edc_contract_negotiation (state,state_timestamp);
+
+-- Lets the state machine skip the entities that are waiting for a retry without a table scan
+CREATE INDEX IF NOT EXISTS contract_negotiation_next_attempt ON edc_contract_negotiation (state,next_attempt_timestamp);
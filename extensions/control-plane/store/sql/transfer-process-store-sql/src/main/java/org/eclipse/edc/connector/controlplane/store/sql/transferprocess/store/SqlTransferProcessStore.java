@@ -43,6 +43,7 @@ import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -87,14 +88,17 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis())
+                    .addWhereClause(statements.getDueFilter(), clock.millis());
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
+                var ids = transferProcesses.stream().map(TransferProcess::getId).toList();
+                var leased = Set.copyOf(leaseContext.withConnection(connection).acquireLeases(ids));
+                transferProcesses.removeIf(it -> !leased.contains(it.getId()));
                 return transferProcesses;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -126,12 +130,17 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         Objects.requireNonNull(entity.getId(), "TransferProcesses must have an ID!");
         transactionContext.execute(() -> {
             try (var conn = getConnection()) {
-                var existing = findByIdInternal(conn, entity.getId());
-                if (existing != null) {
+                var upsertStatement = statements.getUpsertStatement();
+                if (upsertStatement != null) {
+                    leaseContext.by(leaseHolderName).withConnection(conn).releaseLease(entity.getId());
+                    if (insert(conn, upsertStatement, entity) == 0) {
+                        throw new IllegalStateException("Current runtime does not hold the lease for TransferProcess (id [" + entity.getId() + "]), cannot save it!");
+                    }
+                } else if (findByIdInternal(conn, entity.getId()) != null) {
                     leaseContext.by(leaseHolderName).withConnection(conn).breakLease(entity.getId());
                     update(conn, entity);
                 } else {
-                    insert(conn, entity);
+                    insert(conn, statements.getInsertStatement(), entity);
                 }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -200,6 +209,22 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         return queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters());
     }
 
+    /**
+     * Returns either a single element from the list, or null if empty. Throws an IllegalStateException if the list has
+     * more than 1 element
+     */
+    @Nullable
+    private <T> T single(List<T> list) {
+        if (list.size() > 1) {
+            throw new IllegalStateException(getMultiplicityError(1, list.size()));
+        }
+        return list.isEmpty() ? null : list.get(0);
+    }
+
+    private String getMultiplicityError(int expectedSize, int actualSize) {
+        return format("Expected to find %d items, but found %d", expectedSize, actualSize);
+    }
+
     private void update(Connection conn, TransferProcess process) {
         var updateStmt = statements.getUpdateTransferProcessTemplate();
         queryExecutor.execute(conn, updateStmt,
@@ -224,28 +249,12 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 process.getAssetId(),
                 process.getContractId(),
                 toJson(process.getDataDestination()),
+                process.getNextAttemptTimestamp(),
                 process.getId());
     }
 
-    /**
-     * Returns either a single element from the list, or null if empty. Throws an IllegalStateException if the list has
-     * more than 1 element
-     */
-    @Nullable
-    private <T> T single(List<T> list) {
-        if (list.size() > 1) {
-            throw new IllegalStateException(getMultiplicityError(1, list.size()));
-        }
-        return list.isEmpty() ? null : list.get(0);
-    }
-
-    private String getMultiplicityError(int expectedSize, int actualSize) {
-        return format("Expected to find %d items, but found %d", expectedSize, actualSize);
-    }
-
-    private void insert(Connection conn, TransferProcess process) {
-        var insertTpStatement = statements.getInsertStatement();
-        queryExecutor.execute(conn, insertTpStatement, process.getId(),
+    private int insert(Connection conn, String statement, TransferProcess process) {
+        return queryExecutor.execute(conn, statement, process.getId(),
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
@@ -269,7 +278,8 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 process.getProtocol(),
                 process.getAssetId(),
                 process.getContractId(),
-                toJson(process.getDataDestination()));
+                toJson(process.getDataDestination()),
+                process.getNextAttemptTimestamp());
     }
 
     private TransferProcess mapTransferProcess(ResultSet resultSet) throws SQLException {
@@ -301,6 +311,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 .transferType(resultSet.getString(statements.getTransferTypeColumn()))
                 .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
                 .dataPlaneId(resultSet.getString(statements.getDataPlaneIdColumn()))
+                .nextAttemptTimestamp(resultSet.getLong(statements.getNextAttemptTimestampColumn()))
                 .build();
     }
 
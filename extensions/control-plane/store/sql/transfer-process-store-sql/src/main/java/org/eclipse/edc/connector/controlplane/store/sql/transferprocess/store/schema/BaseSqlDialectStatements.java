@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.s
 
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.TransferProcessMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
@@ -61,23 +62,39 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 getLeaseTableName(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn());
     }
 
+    @Override
+    public String getLeasedEntityTableName() {
+        return getTransferProcessTableName();
+    }
+
+    @Override
+    public String getLeasedEntityIdColumn() {
+        return getIdColumn();
+    }
+
     @Override
     public String getInsertStatement() {
+        return insertColumns().insertInto(getTransferProcessTableName());
+    }
+
+    @Override
+    public String getDeleteTransferProcessTemplate() {
+        return executeStatement().delete(getTransferProcessTableName(), getIdColumn());
+    }
+
+    @Override
+    public String getUpdateTransferProcessTemplate() {
         return executeStatement()
-                .column(getIdColumn())
                 .column(getStateColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
-                .column(getCreatedAtColumn())
                 .column(getUpdatedAtColumn())
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .jsonColumn(getResourceManifestColumn())
                 .jsonColumn(getProvisionedResourceSetColumn())
                 .jsonColumn(getContentDataAddressColumn())
-                .column(getTypeColumn())
                 .jsonColumn(getDeprovisionedResourcesColumn())
-                .jsonColumn(getPrivatePropertiesColumn())
                 .jsonColumn(getCallbackAddressesColumn())
                 .column(getPendingColumn())
                 .column(getTransferTypeColumn())
@@ -89,27 +106,36 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .column(getAssetIdColumn())
                 .column(getContractIdColumn())
                 .jsonColumn(getDataDestinationColumn())
-                .insertInto(getTransferProcessTableName());
+                .column(getNextAttemptTimestampColumn())
+                .update(getTransferProcessTableName(), getIdColumn());
     }
 
     @Override
-    public String getDeleteTransferProcessTemplate() {
-        return executeStatement().delete(getTransferProcessTableName(), getIdColumn());
+    public String getSelectTemplate() {
+        return "SELECT * FROM %s".formatted(getTransferProcessTableName());
     }
 
     @Override
-    public String getUpdateTransferProcessTemplate() {
+    public SqlQueryStatement createQuery(QuerySpec querySpec) {
+        return new SqlQueryStatement(getSelectTemplate(), querySpec, new TransferProcessMapping(this), operatorTranslator);
+    }
+
+    protected SqlExecuteStatement insertColumns() {
         return executeStatement()
+                .column(getIdColumn())
                 .column(getStateColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
+                .column(getCreatedAtColumn())
                 .column(getUpdatedAtColumn())
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .jsonColumn(getResourceManifestColumn())
                 .jsonColumn(getProvisionedResourceSetColumn())
                 .jsonColumn(getContentDataAddressColumn())
+                .column(getTypeColumn())
                 .jsonColumn(getDeprovisionedResourcesColumn())
+                .jsonColumn(getPrivatePropertiesColumn())
                 .jsonColumn(getCallbackAddressesColumn())
                 .column(getPendingColumn())
                 .column(getTransferTypeColumn())
@@ -121,17 +147,6 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .column(getAssetIdColumn())
                 .column(getContractIdColumn())
                 .jsonColumn(getDataDestinationColumn())
-                .update(getTransferProcessTableName(), getIdColumn());
+                .column(getNextAttemptTimestampColumn());
     }
-
-    @Override
-    public String getSelectTemplate() {
-        return "SELECT * FROM %s".formatted(getTransferProcessTableName());
-    }
-
-    @Override
-    public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        return new SqlQueryStatement(getSelectTemplate(), querySpec, new TransferProcessMapping(this), operatorTranslator);
-    }
-
 }
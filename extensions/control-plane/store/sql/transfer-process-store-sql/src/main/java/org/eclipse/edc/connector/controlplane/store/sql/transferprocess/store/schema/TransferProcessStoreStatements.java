@@ -20,6 +20,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.lease.LeaseStatements;
 import org.eclipse.edc.sql.lease.StatefulEntityStatements;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Statement templates and SQL table+column names required for the TransferProcessStore
@@ -29,6 +30,16 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
 
     String getInsertStatement();
 
+    /**
+     * Inserts the transfer process, or updates it if it exists and is not leased. Takes the same parameters as
+     * {@link #getInsertStatement()}.
+     *
+     * @return the statement, null if the dialect does not support it.
+     */
+    default @Nullable String getUpsertStatement() {
+        return null;
+    }
+
     String getDeleteTransferProcessTemplate();
 
     String getUpdateTransferProcessTemplate();
@@ -22,6 +22,7 @@ import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.sql.dialect.PostgresDialect.getSelectFromJsonArrayTemplate;
+import static org.eclipse.edc.sql.statement.SqlExecuteStatement.isNull;
 
 /**
  * Postgres-specific variations of the SQL statements based on Postgres's ability to use JSON operators and -functions.
@@ -41,6 +42,13 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         return PostgresDialect.getJsonCastOperator();
     }
 
+    @Override
+    public String getUpsertStatement() {
+        return PostgresDialect.getUpsertTemplate(insertColumns(), getTransferProcessTableName(), getIdColumn(),
+                isNull(getTransferProcessTableName() + "." + getLeaseIdColumn()),
+                getCreatedAtColumn(), getTypeColumn(), getPrivatePropertiesColumn());
+    }
+
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
         // if any criterion targets a JSON array field, we need to slightly adapt the FROM clause
@@ -43,6 +43,7 @@ CREATE TABLE IF NOT EXISTS edc_transfer_process
     asset_id                   VARCHAR,
     contract_id                VARCHAR,
     data_destination           JSON,
+    next_attempt_time_stamp    BIGINT   DEFAULT 0 NOT NULL,
     lease_id                   VARCHAR
             CONSTRAINT transfer_process_lease_lease_id_fk
                 REFERENCES edc_lease
@@ -67,4 +68,7 @@ CREATE UNIQUE INDEX IF NOT EXISTS lease_lease_id_uindex
     ON edc_lease (lease_id);
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
-CREATE INDEX IF NOT EXISTS transfer_process_state ON edc_transfer_process (state,state_time_stamp);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS transfer_process_state ON edc_transfer_process (state,state_time_stamp);
+
+-- Lets the state machine skip the entities that are waiting for a retry without a table scan
+CREATE INDEX IF NOT EXISTS transfer_process_next_attempt ON edc_transfer_process (state,next_attempt_time_stamp);
@@ -36,6 +36,7 @@ import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -144,7 +145,9 @@ public class SqlDataPlaneInstanceStore extends AbstractSqlStore implements DataP
                     var stream = queryExecutor.query(connection, true, this::mapResultSet, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
+                var ids = entries.stream().map(DataPlaneInstance::getId).toList();
+                var leased = Set.copyOf(leaseContext.withConnection(connection).acquireLeases(ids));
+                entries.removeIf(it -> !leased.contains(it.getId()));
                 return entries;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -92,6 +92,16 @@ public class BaseSqlDataPlaneInstanceStatements implements DataPlaneInstanceStat
                 getLeaseTableName(), getLeaseIdColumn(), getDataPlaneInstanceTable(), getIdColumn());
     }
 
+    @Override
+    public String getLeasedEntityTableName() {
+        return getDataPlaneInstanceTable();
+    }
+
+    @Override
+    public String getLeasedEntityIdColumn() {
+        return getIdColumn();
+    }
+
     @Override
     public String getDeleteLeaseTemplate() {
         return executeStatement().delete(getLeaseTableName(), getLeaseIdColumn());
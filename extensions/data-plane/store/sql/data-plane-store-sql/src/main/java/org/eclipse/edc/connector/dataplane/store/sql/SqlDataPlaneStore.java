@@ -41,6 +41,7 @@ import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -84,14 +85,17 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis())
+                    .addWhereClause(statements.getDueFilter(), clock.millis());
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapDataFlow, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
+                var ids = entries.stream().map(DataFlow::getId).toList();
+                var leased = Set.copyOf(leaseContext.withConnection(connection).acquireLeases(ids));
+                entries.removeIf(it -> !leased.contains(it.getId()));
                 return entries;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -122,12 +126,17 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
     public void save(DataFlow entity) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var existing = findByIdInternal(connection, entity.getId());
-                if (existing != null) {
+                var upsertStatement = statements.getUpsertTemplate();
+                if (upsertStatement != null) {
+                    leaseContext.by(leaseHolderName).withConnection(connection).releaseLease(entity.getId());
+                    if (insert(connection, upsertStatement, entity) == 0) {
+                        throw new IllegalStateException("Current runtime does not hold the lease for DataFlow (id [" + entity.getId() + "]), cannot save it!");
+                    }
+                } else if (findByIdInternal(connection, entity.getId()) != null) {
                     leaseContext.by(leaseHolderName).withConnection(connection).breakLease(entity.getId());
                     update(connection, entity);
                 } else {
-                    insert(connection, entity);
+                    insert(connection, statements.getInsertTemplate(), entity);
                 }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -135,9 +144,8 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
         });
     }
 
-    private void insert(Connection connection, DataFlow dataFlow) {
-        var sql = statements.getInsertTemplate();
-        queryExecutor.execute(connection, sql,
+    private int insert(Connection connection, String sql, DataFlow dataFlow) {
+        return queryExecutor.execute(connection, sql,
                 dataFlow.getId(),
                 dataFlow.getState(),
                 dataFlow.getCreatedAt(),
@@ -151,7 +159,8 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 toJson(dataFlow.getDestination()),
                 toJson(dataFlow.getProperties()),
                 dataFlow.getTransferType().flowType().toString(),
-                dataFlow.getTransferType().destinationType()
+                dataFlow.getTransferType().destinationType(),
+                dataFlow.getNextAttemptTimestamp()
         );
     }
 
@@ -170,6 +179,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 toJson(dataFlow.getProperties()),
                 dataFlow.getTransferType().flowType().toString(),
                 dataFlow.getTransferType().destinationType(),
+                dataFlow.getNextAttemptTimestamp(),
                 dataFlow.getId());
     }
 
@@ -191,6 +201,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                         resultSet.getString(statements.getTransferTypeDestinationColumn()),
                         FlowType.valueOf(resultSet.getString(statements.getFlowTypeColumn()))
                 ))
+                .nextAttemptTimestamp(resultSet.getLong(statements.getNextAttemptTimestampColumn()))
                 .build();
     }
 
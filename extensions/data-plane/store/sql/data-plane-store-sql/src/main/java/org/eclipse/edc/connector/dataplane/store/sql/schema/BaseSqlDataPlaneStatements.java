@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.store.sql.schema;
 
 import org.eclipse.edc.connector.dataplane.store.sql.schema.postgres.DataPlaneMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
@@ -31,22 +32,7 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
 
     @Override
     public String getInsertTemplate() {
-        return executeStatement()
-                .column(getIdColumn())
-                .column(getStateColumn())
-                .column(getCreatedAtColumn())
-                .column(getUpdatedAtColumn())
-                .column(getStateCountColumn())
-                .column(getStateTimestampColumn())
-                .jsonColumn(getTraceContextColumn())
-                .column(getErrorDetailColumn())
-                .column(getCallbackAddressColumn())
-                .jsonColumn(getSourceColumn())
-                .jsonColumn(getDestinationColumn())
-                .jsonColumn(getPropertiesColumn())
-                .column(getFlowTypeColumn())
-                .column(getTransferTypeDestinationColumn())
-                .insertInto(getDataPlaneTable());
+        return insertColumns().insertInto(getDataPlaneTable());
     }
 
     @Override
@@ -64,6 +50,7 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
                 .jsonColumn(getPropertiesColumn())
                 .column(getFlowTypeColumn())
                 .column(getTransferTypeDestinationColumn())
+                .column(getNextAttemptTimestampColumn())
                 .update(getDataPlaneTable(), getIdColumn());
     }
 
@@ -104,4 +91,33 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
         return format("SELECT * FROM %s  WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
                 getLeaseTableName(), getLeaseIdColumn(), getDataPlaneTable(), getIdColumn());
     }
+
+    @Override
+    public String getLeasedEntityTableName() {
+        return getDataPlaneTable();
+    }
+
+    @Override
+    public String getLeasedEntityIdColumn() {
+        return getIdColumn();
+    }
+
+    protected SqlExecuteStatement insertColumns() {
+        return executeStatement()
+                .column(getIdColumn())
+                .column(getStateColumn())
+                .column(getCreatedAtColumn())
+                .column(getUpdatedAtColumn())
+                .column(getStateCountColumn())
+                .column(getStateTimestampColumn())
+                .jsonColumn(getTraceContextColumn())
+                .column(getErrorDetailColumn())
+                .column(getCallbackAddressColumn())
+                .jsonColumn(getSourceColumn())
+                .jsonColumn(getDestinationColumn())
+                .jsonColumn(getPropertiesColumn())
+                .column(getFlowTypeColumn())
+                .column(getTransferTypeDestinationColumn())
+                .column(getNextAttemptTimestampColumn());
+    }
 }
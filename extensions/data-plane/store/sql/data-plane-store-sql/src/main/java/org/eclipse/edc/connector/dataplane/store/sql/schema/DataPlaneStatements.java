@@ -18,6 +18,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.lease.LeaseStatements;
 import org.eclipse.edc.sql.lease.StatefulEntityStatements;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Sql Statements for DataPlane Store
@@ -58,6 +59,16 @@ public interface DataPlaneStatements extends StatefulEntityStatements, LeaseStat
 
     String getInsertTemplate();
 
+    /**
+     * Inserts the data flow, or updates it if it exists and is not leased. Takes the same parameters as
+     * {@link #getInsertTemplate()}.
+     *
+     * @return the statement, null if the dialect does not support it.
+     */
+    default @Nullable String getUpsertTemplate() {
+        return null;
+    }
+
     String getUpdateTemplate();
 
     String getSelectTemplate();
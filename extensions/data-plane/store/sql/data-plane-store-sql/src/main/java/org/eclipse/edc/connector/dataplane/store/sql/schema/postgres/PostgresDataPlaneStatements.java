@@ -18,6 +18,8 @@ import org.eclipse.edc.connector.dataplane.store.sql.schema.BaseSqlDataPlaneStat
 import org.eclipse.edc.sql.dialect.PostgresDialect;
 import org.eclipse.edc.sql.translation.PostgresqlOperatorTranslator;
 
+import static org.eclipse.edc.sql.statement.SqlExecuteStatement.isNull;
+
 public class PostgresDataPlaneStatements extends BaseSqlDataPlaneStatements {
 
     public PostgresDataPlaneStatements() {
@@ -28,4 +30,10 @@ public class PostgresDataPlaneStatements extends BaseSqlDataPlaneStatements {
     public String getFormatAsJsonOperator() {
         return PostgresDialect.getJsonCastOperator();
     }
+
+    @Override
+    public String getUpsertTemplate() {
+        return PostgresDialect.getUpsertTemplate(insertColumns(), getDataPlaneTable(), getIdColumn(),
+                isNull(getDataPlaneTable() + "." + getLeaseIdColumn()), getCreatedAtColumn());
+    }
 }
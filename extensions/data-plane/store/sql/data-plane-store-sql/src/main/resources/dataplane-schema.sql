@@ -32,7 +32,8 @@ CREATE TABLE IF NOT EXISTS edc_data_plane
     destination          JSON,
     properties           JSON,
     flow_type            VARCHAR,
-    transfer_type_destination VARCHAR
+    transfer_type_destination VARCHAR,
+    next_attempt_time_stamp BIGINT DEFAULT 0 NOT NULL
 );
 
 COMMENT ON COLUMN edc_data_plane.trace_context IS 'Java Map serialized as JSON';
@@ -42,3 +43,6 @@ COMMENT ON COLUMN edc_data_plane.properties IS 'Java Map serialized as JSON';
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
 CREATE INDEX IF NOT EXISTS data_plane_state ON edc_data_plane (state,state_time_stamp);
+
+-- Lets the state machine skip the entities that are waiting for a retry without a table scan
+CREATE INDEX IF NOT EXISTS data_plane_next_attempt ON edc_data_plane (state,next_attempt_time_stamp);
@@ -36,6 +36,7 @@ import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -76,14 +77,17 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis())
+                    .addWhereClause(statements.getDueFilter(), clock.millis());
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
+                var ids = entries.stream().map(PolicyMonitorEntry::getId).toList();
+                var leased = Set.copyOf(leaseContext.withConnection(connection).acquireLeases(ids));
+                entries.removeIf(it -> !leased.contains(it.getId()));
                 return entries;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -147,7 +151,8 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 entry.getStateTimestamp(),
                 toJson(entry.getTraceContext()),
                 entry.getErrorDetail(),
-                entry.getContractId()
+                entry.getContractId(),
+                entry.getNextAttemptTimestamp()
         );
     }
 
@@ -161,6 +166,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 toJson(entry.getTraceContext()),
                 entry.getErrorDetail(),
                 entry.getContractId(),
+                entry.getNextAttemptTimestamp(),
                 entry.getId());
     }
 
@@ -175,6 +181,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
                 .contractId(resultSet.getString(statements.getContractIdColumn()))
+                .nextAttemptTimestamp(resultSet.getLong(statements.getNextAttemptTimestampColumn()))
                 .build();
     }
 }
@@ -40,6 +40,7 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .column(getContractIdColumn())
+                .column(getNextAttemptTimestampColumn())
                 .insertInto(getPolicyMonitorTable());
     }
 
@@ -53,6 +54,7 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .column(getContractIdColumn())
+                .column(getNextAttemptTimestampColumn())
                 .update(getPolicyMonitorTable(), getIdColumn());
     }
 
@@ -93,4 +95,14 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
         return format("SELECT * FROM %s WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
                 getLeaseTableName(), getLeaseIdColumn(), getPolicyMonitorTable(), getIdColumn());
     }
+
+    @Override
+    public String getLeasedEntityTableName() {
+        return getPolicyMonitorTable();
+    }
+
+    @Override
+    public String getLeasedEntityIdColumn() {
+        return getIdColumn();
+    }
 }
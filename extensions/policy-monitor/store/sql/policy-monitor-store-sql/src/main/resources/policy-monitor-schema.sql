@@ -28,9 +28,13 @@ CREATE TABLE IF NOT EXISTS edc_policy_monitor
                     REFERENCES edc_lease
                     ON DELETE SET NULL,
     properties           JSON,
-    contract_id          VARCHAR
+    contract_id          VARCHAR,
+    next_attempt_time_stamp BIGINT DEFAULT 0 NOT NULL
 );
 
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
-CREATE INDEX IF NOT EXISTS policy_monitor_state ON edc_policy_monitor (state,state_time_stamp);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS policy_monitor_state ON edc_policy_monitor (state,state_time_stamp);
+
+-- Lets the state machine skip the entries that are not due for evaluation without a table scan
+CREATE INDEX IF NOT EXISTS policy_monitor_next_attempt ON edc_policy_monitor (state,next_attempt_time_stamp);
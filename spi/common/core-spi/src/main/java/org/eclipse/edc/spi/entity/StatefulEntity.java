@@ -36,6 +36,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
     protected Map<String, String> traceContext = new HashMap<>();
     protected String errorDetail;
     protected boolean pending = false;
+    protected long nextAttemptTimestamp;
 
     protected StatefulEntity() {
     }
@@ -65,6 +66,14 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
         return pending;
     }
 
+    /**
+     * Timestamp (epoch millis) before which the entity should not be picked up by the state machine, e.g. because it's
+     * waiting for a retry. 0 means that the entity can be processed right away.
+     */
+    public long getNextAttemptTimestamp() {
+        return nextAttemptTimestamp;
+    }
+
     public void setErrorDetail(String errorDetail) {
         this.errorDetail = errorDetail;
     }
@@ -73,6 +82,10 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
         this.pending = pending;
     }
 
+    public void setNextAttemptTimestamp(long nextAttemptTimestamp) {
+        this.nextAttemptTimestamp = nextAttemptTimestamp;
+    }
+
     /**
      * Sets the state timestamp to the clock time.
      *
@@ -94,6 +107,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
     protected void transitionTo(int targetState) {
         stateCount = state == targetState ? stateCount + 1 : 1;
         state = targetState;
+        nextAttemptTimestamp = 0;
         updateStateTimestamp();
         setModified();
     }
@@ -110,6 +124,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
                 .errorDetail(errorDetail)
                 .clock(clock)
                 .pending(pending)
+                .nextAttemptTimestamp(nextAttemptTimestamp)
                 .build();
     }
 
@@ -156,6 +171,11 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
             return self();
         }
 
+        public B nextAttemptTimestamp(long nextAttemptTimestamp) {
+            entity.nextAttemptTimestamp = nextAttemptTimestamp;
+            return self();
+        }
+
         protected T build() {
             super.build();
             if (entity.id == null) {
@@ -63,6 +63,11 @@ public interface StateEntityStore<T> {
      *         This will avoid consecutive fetches in the state machine loop
      *         <p><p>
      *     </li>
+     *     <li>
+     *         * entities whose next attempt timestamp is in the future should not be fetched, so that entities waiting
+     *         for a retry don't take the place of entities that can be processed
+     *         <p><p>
+     *     </li>
      * </ul>
      *
      * @param max      The maximum amount of result items.
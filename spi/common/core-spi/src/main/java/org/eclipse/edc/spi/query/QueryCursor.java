@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Position of the last element of a page in a keyset-paginated query: the value of the sort field (if any) and the id
+ * of the element, which acts as tiebreaker. The next page contains the elements that come strictly after this
+ * position in the requested order, so it can be fetched without skipping over the previous ones.
+ * <p>
+ * Elements whose sort value is null are paginated as a separate segment that follows all the others and is ordered
+ * by id only, so that stores can seek through a (sort field, id) index in both segments. The
+ * {@link #NULL_SORT_VALUES} cursor points to the start of that segment.
+ * <p>
+ * The cursor is handed out to clients as an opaque token, see {@link #encode()} and {@link #decode(String)}. The
+ * {@link #START} cursor, represented by an empty token, requests the first page of a keyset-paginated query.
+ *
+ * @param sortValue      the value of the sort field of the last element, null if the query was not sorted or if the
+ *                       element is in the null sort values segment.
+ * @param id             the id of the last element, null for the {@link #START} and {@link #NULL_SORT_VALUES} cursors.
+ * @param nullSortValues whether the cursor points into the segment of the elements whose sort value is null.
+ */
+public record QueryCursor(@Nullable Object sortValue, @Nullable String id, boolean nullSortValues) {
+
+    public static final QueryCursor START = new QueryCursor(null, null);
+    public static final QueryCursor NULL_SORT_VALUES = new QueryCursor(null, null, true);
+
+    private static final char SEPARATOR = ':';
+    private static final char NULL_SORT_VALUES_TAG = 'Z';
+
+    public QueryCursor {
+        if (id == null && sortValue != null) {
+            throw new IllegalArgumentException("A cursor with a sort value must have an id");
+        }
+        if (nullSortValues && sortValue != null) {
+            throw new IllegalArgumentException("A cursor in the null sort values segment cannot have a sort value");
+        }
+        if (sortValue != null && tagOf(sortValue) == 0) {
+            throw new IllegalArgumentException("Sort value of type %s cannot be used in a cursor".formatted(sortValue.getClass().getName()));
+        }
+    }
+
+    public QueryCursor(@Nullable Object sortValue, @Nullable String id) {
+        this(sortValue, id, false);
+    }
+
+    /**
+     * Whether the sort value of the cursor can be compared with the values of a field of the passed type. A cursor
+     * without sort value matches any type.
+     *
+     * @param type the type of the sort field.
+     * @return true if the sort value is an instance of the type, or of its wrapper for primitive types.
+     */
+    public boolean isSortValueOf(Class<?> type) {
+        if (sortValue == null) {
+            return true;
+        }
+        if (type == long.class) {
+            return sortValue instanceof Long;
+        } else if (type == int.class) {
+            return sortValue instanceof Integer;
+        } else if (type == boolean.class) {
+            return sortValue instanceof Boolean;
+        }
+        return type.isInstance(sortValue);
+    }
+
+    /**
+     * Decode a cursor from its token representation.
+     *
+     * @param token the token.
+     * @return the cursor.
+     * @throws IllegalArgumentException if the token is not valid.
+     */
+    public static QueryCursor decode(String token) {
+        if (token.isBlank()) {
+            return START;
+        }
+
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token), UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+
+        try {
+            // layout: <type tag><sort value length>:<sort value><id>
+            var separator = decoded.indexOf(SEPARATOR);
+            var length = Integer.parseInt(decoded.substring(1, separator));
+            var value = decoded.substring(separator + 1, separator + 1 + length);
+            var id = decoded.substring(separator + 1 + length);
+            if (decoded.charAt(0) == NULL_SORT_VALUES_TAG && value.isEmpty()) {
+                return new QueryCursor(null, id.isEmpty() ? null : id, true);
+            }
+            if (id.isEmpty()) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            var sortValue = switch (decoded.charAt(0)) {
+                case 'N' -> null;
+                case 'S' -> value;
+                case 'L' -> Long.parseLong(value);
+                case 'I' -> Integer.parseInt(value);
+                case 'B' -> Boolean.parseBoolean(value);
+                default -> throw new IllegalArgumentException("Invalid cursor: " + token);
+            };
+            return new QueryCursor(sortValue, id);
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    /**
+     * Encode the cursor as an url-safe token.
+     *
+     * @return the token.
+     */
+    public String encode() {
+        if (id == null && !nullSortValues) {
+            return "";
+        }
+        var tag = nullSortValues ? NULL_SORT_VALUES_TAG : sortValue == null ? 'N' : tagOf(sortValue);
+        var value = sortValue == null ? "" : sortValue.toString();
+        var raw = tag + String.valueOf(value.length()) + SEPARATOR + value + (id == null ? "" : id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+    }
+
+    private static char tagOf(Object value) {
+        if (value instanceof String) {
+            return 'S';
+        } else if (value instanceof Long) {
+            return 'L';
+        } else if (value instanceof Integer) {
+            return 'I';
+        } else if (value instanceof Boolean) {
+            return 'B';
+        }
+        return 0;
+    }
+}
@@ -35,12 +35,14 @@ public class QuerySpec {
     public static final String EDC_QUERY_SPEC_FILTER_EXPRESSION = EDC_NAMESPACE + "filterExpression";
     public static final String EDC_QUERY_SPEC_SORT_ORDER = EDC_NAMESPACE + "sortOrder";
     public static final String EDC_QUERY_SPEC_SORT_FIELD = EDC_NAMESPACE + "sortField";
+    public static final String EDC_QUERY_SPEC_CURSOR = EDC_NAMESPACE + "cursor";
 
     private int offset = 0;
     private int limit = 50;
     private final List<Criterion> filterExpression = new ArrayList<>();
     private SortOrder sortOrder = SortOrder.ASC;
     private String sortField;
+    private QueryCursor cursor;
 
     public static QuerySpec none() {
         return new QuerySpec();
@@ -57,6 +59,17 @@ public class QuerySpec {
         return sortField;
     }
 
+    /**
+     * The position after which the results should start. When set, the query is keyset-paginated: the results are
+     * ordered by the sort field and by id, and the offset is ignored.
+     *
+     * @return the cursor, null if the query is offset-paginated.
+     */
+    @JsonIgnore
+    public QueryCursor getCursor() {
+        return cursor;
+    }
+
     public int getOffset() {
         return offset;
     }
@@ -91,12 +104,13 @@ public class QuerySpec {
                 .limit(limit)
                 .filter(filterExpression)
                 .sortOrder(sortOrder)
-                .sortField(sortField);
+                .sortField(sortField)
+                .cursor(cursor);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField);
+        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField, cursor);
     }
 
     @Override
@@ -108,7 +122,7 @@ public class QuerySpec {
             return false;
         }
         QuerySpec querySpec = (QuerySpec) o;
-        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField);
+        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField) && Objects.equals(cursor, querySpec.cursor);
     }
 
     @Override
@@ -119,6 +133,7 @@ public class QuerySpec {
                 ", filterExpression=" + filterExpression +
                 ", sortOrder=" + sortOrder +
                 ", sortField=" + sortField +
+                ", cursor=" + cursor +
                 '}';
     }
 
@@ -164,6 +179,11 @@ public class QuerySpec {
             return this;
         }
 
+        public Builder cursor(QueryCursor cursor) {
+            querySpec.cursor = cursor;
+            return this;
+        }
+
         public Builder filter(Criterion criterion) {
             querySpec.filterExpression.add(criterion);
             return this;
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCursorTest {
+
+    @Test
+    void shouldRoundTrip() {
+        Stream.of(new QueryCursor(null, "id"), new QueryCursor("value:with\nseparators", "id:1"),
+                        new QueryCursor(1234567890123L, "id"), new QueryCursor(42, "id"), new QueryCursor(true, "id"),
+                        new QueryCursor(null, "id", true), QueryCursor.NULL_SORT_VALUES)
+                .forEach(cursor -> assertThat(QueryCursor.decode(cursor.encode())).isEqualTo(cursor));
+    }
+
+    @Test
+    void shouldRepresentStartAsEmptyToken() {
+        assertThat(QueryCursor.START.encode()).isEmpty();
+        assertThat(QueryCursor.decode("")).isEqualTo(QueryCursor.START);
+    }
+
+    @Test
+    void shouldNotAcceptSortValue_whenInNullSortValuesSegment() {
+        assertThatThrownBy(() -> new QueryCursor("value", "id", true)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldNotAcceptUnsupportedSortValue() {
+        assertThatThrownBy(() -> new QueryCursor(Instant.now(), "id")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "not base64 !", "eA", "TDE6eGlk" })
+    void decode_shouldFail_whenTokenIsInvalid(String token) {
+        assertThatThrownBy(() -> QueryCursor.decode(token)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
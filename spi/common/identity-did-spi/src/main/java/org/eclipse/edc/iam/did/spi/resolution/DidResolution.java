@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2024 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.did.spi.resolution;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * A resolved {@link DidDocument}, together with the maximum time it may be cached, as stated by the source of the
+ * document.
+ *
+ * @param didDocument the resolved document
+ * @param maxAge      how long the document may be cached, {@code null} if the source doesn't state it
+ */
+public record DidResolution(DidDocument didDocument, @Nullable Duration maxAge) {
+}
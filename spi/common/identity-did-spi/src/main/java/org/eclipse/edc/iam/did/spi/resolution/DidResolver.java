@@ -35,4 +35,13 @@ public interface DidResolver {
     @NotNull
     Result<DidDocument> resolve(String didKey);
 
+    /**
+     * Resolves the DID document, together with how long it may be cached, if the source of the document states it.
+     * The default implementation doesn't state any maximum age.
+     */
+    @NotNull
+    default Result<DidResolution> resolveWithMaxAge(String didKey) {
+        return resolve(didKey).map(didDocument -> new DidResolution(didDocument, null));
+    }
+
 }
@@ -38,4 +38,15 @@ public interface AgreementPolicyContext extends PolicyContext {
      */
     Instant now();
 
+    /**
+     * Reports an instant at which the outcome of the evaluation could change, e.g. because a time-based constraint
+     * starts or stops being satisfied. Contexts that re-evaluate policies over time can use it to schedule the next
+     * evaluation, the others can ignore it.
+     *
+     * @param instant the instant at which the outcome could change.
+     */
+    default void reportOutcomeChangeAt(Instant instant) {
+
+    }
+
 }
@@ -38,6 +38,8 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -724,6 +726,20 @@ public abstract class ContractNegotiationStoreTestBase {
             assertThat(batch).hasSize(5).isSubsetOf(negotiations);
         }
 
+        @Test
+        void shouldNotReturnItems_whenNextAttemptIsInTheFuture() {
+            var delayed = createNegotiationBuilder("delayed").state(REQUESTED.code())
+                    .nextAttemptTimestamp(Instant.now().plus(1, ChronoUnit.HOURS).toEpochMilli()).build();
+            var due = createNegotiationBuilder("due").state(REQUESTED.code())
+                    .nextAttemptTimestamp(Instant.now().minus(1, ChronoUnit.MINUTES).toEpochMilli()).build();
+            getContractNegotiationStore().save(delayed);
+            getContractNegotiationStore().save(due);
+
+            var batch = getContractNegotiationStore().nextNotLeased(10, hasState(REQUESTED.code()));
+
+            assertThat(batch).extracting(ContractNegotiation::getId).containsExactly("due");
+        }
+
         @Test
         void typeFilter() {
             range(0, 5).mapToObj(it -> createNegotiationBuilder("1" + it)
@@ -53,6 +53,10 @@ public class CallbackEventRemoteMessage<T extends Event> implements RemoteMessag
         return callbackAddress.getAuthCodeId();
     }
 
+    public CallbackAddress getCallbackAddress() {
+        return callbackAddress;
+    }
+
     public EventEnvelope<T> getEventEnvelope() {
         return envelope;
     }
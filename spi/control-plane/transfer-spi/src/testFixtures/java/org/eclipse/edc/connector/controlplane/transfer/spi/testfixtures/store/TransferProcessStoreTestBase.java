@@ -32,6 +32,8 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +44,7 @@ import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions.createTransferProcess;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions.createTransferProcessBuilder;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.COMPLETED;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.INITIAL;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.PROVISIONING;
@@ -188,6 +191,21 @@ public abstract class TransferProcessStoreTestBase {
             assertThat(getTransferProcessStore().nextNotLeased(10, hasState(state.code()))).isEmpty();
         }
 
+        @Test
+        void shouldNotReturnItems_whenNextAttemptIsInTheFuture() {
+            var state = STARTED;
+            var delayed = createTransferProcessBuilder("delayed").state(state.code())
+                    .nextAttemptTimestamp(Instant.now().plus(1, ChronoUnit.HOURS).toEpochMilli()).build();
+            var due = createTransferProcessBuilder("due").state(state.code())
+                    .nextAttemptTimestamp(Instant.now().minus(1, ChronoUnit.MINUTES).toEpochMilli()).build();
+            getTransferProcessStore().save(delayed);
+            getTransferProcessStore().save(due);
+
+            assertThat(getTransferProcessStore().nextNotLeased(10, hasState(state.code())))
+                    .extracting(TransferProcess::getId)
+                    .containsExactly("due");
+        }
+
         @Test
         void noneInDesiredState() {
             range(0, 3)
@@ -29,6 +29,8 @@ import org.junit.jupiter.api.Test;
 
 import java.net.URI;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.UUID;
 
@@ -125,6 +127,20 @@ public abstract class DataPlaneStoreTestBase {
             assertThat(leased).extracting(MutableEntity::getUpdatedAt).isSorted();
         }
 
+        @Test
+        void shouldNotReturnEntities_whenNextAttemptIsInTheFuture() {
+            var delayed = createDataFlow("delayed", RECEIVED);
+            delayed.setNextAttemptTimestamp(Instant.now().plus(1, ChronoUnit.HOURS).toEpochMilli());
+            var due = createDataFlow("due", RECEIVED);
+            due.setNextAttemptTimestamp(Instant.now().minus(1, ChronoUnit.MINUTES).toEpochMilli());
+            getStore().save(delayed);
+            getStore().save(due);
+
+            var leased = getStore().nextNotLeased(10, hasState(RECEIVED.code()));
+
+            assertThat(leased).extracting(DataFlow::getId).containsExactly("due");
+        }
+
         @Test
         void shouldReturnFreeEntities() {
             var state = RECEIVED;
@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.controlplane.contract.spi.policy.AgreementPolic
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Instant;
 
@@ -31,6 +32,7 @@ public class PolicyMonitorContext extends PolicyContextImpl implements Agreement
 
     private final Instant now;
     private final ContractAgreement contractAgreement;
+    private Instant nextOutcomeChange;
 
     public PolicyMonitorContext(Instant now, ContractAgreement contractAgreement) {
         this.now = now;
@@ -47,6 +49,23 @@ public class PolicyMonitorContext extends PolicyContextImpl implements Agreement
         return contractAgreement;
     }
 
+    @Override
+    public void reportOutcomeChangeAt(Instant instant) {
+        if (instant.isAfter(now) && (nextOutcomeChange == null || instant.isBefore(nextOutcomeChange))) {
+            nextOutcomeChange = instant;
+        }
+    }
+
+    /**
+     * The earliest instant reported by the evaluation at which its outcome could change.
+     *
+     * @return the instant, null if none was reported.
+     */
+    @Nullable
+    public Instant nextOutcomeChange() {
+        return nextOutcomeChange;
+    }
+
     @Override
     public String scope() {
         return POLICY_MONITOR_SCOPE;
@@ -28,4 +28,13 @@ public interface PolicyMonitorManager extends StateEntityManager {
      * @param contractId the contract id
      */
     void startMonitoring(String transferProcessId, String contractId);
+
+    /**
+     * Makes the monitoring entry of a transfer process due for evaluation, e.g. because the transfer process changed.
+     *
+     * @param transferProcessId the transfer process id
+     */
+    default void triggerEvaluation(String transferProcessId) {
+
+    }
 }
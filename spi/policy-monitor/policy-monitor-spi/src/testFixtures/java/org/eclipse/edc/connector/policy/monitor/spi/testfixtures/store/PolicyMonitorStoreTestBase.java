@@ -25,6 +25,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.UUID;
 
@@ -145,6 +147,20 @@ public abstract class PolicyMonitorStoreTestBase {
             assertThat(leased).isEmpty();
         }
 
+        @Test
+        void shouldNotReturnItems_whenNextAttemptIsInTheFuture() {
+            var delayed = PolicyMonitorEntry.Builder.newInstance().id("delayed").contractId("contractId").state(STARTED.code())
+                    .nextAttemptTimestamp(Instant.now().plus(1, ChronoUnit.HOURS).toEpochMilli()).build();
+            var due = PolicyMonitorEntry.Builder.newInstance().id("due").contractId("contractId").state(STARTED.code())
+                    .nextAttemptTimestamp(Instant.now().minus(1, ChronoUnit.MINUTES).toEpochMilli()).build();
+            getStore().save(delayed);
+            getStore().save(due);
+
+            var leased = getStore().nextNotLeased(10, hasState(STARTED.code()));
+
+            assertThat(leased).extracting(PolicyMonitorEntry::getId).containsExactly("due");
+        }
+
         @Test
         void shouldLeaseAgainAfterTimePassed() {
             var entry = createPolicyMonitorEntry(UUID.randomUUID().toString(), STARTED);